@@ -0,0 +1,145 @@
+package ReForm.backend.chat;
+
+import ReForm.backend.chat.dto.ChatMessageDto;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 채팅 메시지 바이너리 코덱 (ChatMessageDto와 같은 의미, JSON 대비 필드명/따옴표가 없는 compact 형식)
+ *
+ * 프레임 구조
+ * - [0] 버전 (1)
+ * - [1] 메시지 타입 (0=JOIN, 1=TALK, 2=LEAVE, 3=TYPING, 4=PRESENCE)
+ * - [2] 필드 존재 비트 (0x01=chatRoomId, 0x02=message, 0x04=senderUserId)
+ * - chatRoomId: unsigned varint (LEB128)
+ * - message, senderUserId: varint 바이트 길이 + UTF-8 바이트
+ *
+ * 잘못된 프레임은 IllegalArgumentException
+ */
+public final class ChatBinaryCodec {
+
+	private static final byte VERSION = 1;
+	private static final int HAS_ROOM_ID = 0x01;
+	private static final int HAS_MESSAGE = 0x02;
+	private static final int HAS_SENDER = 0x04;
+
+	// 메시지 본문(최대 2000자) UTF-8 상한보다 넉넉하게
+	private static final int MAX_STRING_BYTES = 16 * 1024;
+
+	private static final ChatMessageDto.MessageType[] TYPES = {
+			ChatMessageDto.MessageType.JOIN, ChatMessageDto.MessageType.TALK, ChatMessageDto.MessageType.LEAVE,
+			ChatMessageDto.MessageType.TYPING, ChatMessageDto.MessageType.PRESENCE
+	};
+
+	private ChatBinaryCodec() {
+	}
+
+	public static byte[] encode(ChatMessageDto dto) {
+		byte[] message = dto.getMessage() == null ? null : dto.getMessage().getBytes(StandardCharsets.UTF_8);
+		byte[] sender = dto.getSenderUserId() == null ? null : dto.getSenderUserId().getBytes(StandardCharsets.UTF_8);
+
+		int flags = (dto.getChatRoomId() != null ? HAS_ROOM_ID : 0)
+				| (message != null ? HAS_MESSAGE : 0)
+				| (sender != null ? HAS_SENDER : 0);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream(
+				16 + (message != null ? message.length : 0) + (sender != null ? sender.length : 0));
+		out.write(VERSION);
+		out.write(typeCode(dto.getMessageType()));
+		out.write(flags);
+		if (dto.getChatRoomId() != null) {
+			writeVarLong(out, dto.getChatRoomId());
+		}
+		if (message != null) {
+			writeBytes(out, message);
+		}
+		if (sender != null) {
+			writeBytes(out, sender);
+		}
+		return out.toByteArray();
+	}
+
+	public static ChatMessageDto decode(ByteBuffer buffer) {
+		try {
+			ByteBuffer in = buffer.slice();
+			byte version = in.get();
+			if (version != VERSION) {
+				throw new IllegalArgumentException("지원하지 않는 프레임 버전입니다: " + version);
+			}
+			int type = in.get() & 0xFF;
+			if (type >= TYPES.length) {
+				throw new IllegalArgumentException("알 수 없는 메시지 타입입니다: " + type);
+			}
+			int flags = in.get() & 0xFF;
+
+			ChatMessageDto dto = new ChatMessageDto();
+			dto.setMessageType(TYPES[type]);
+			if ((flags & HAS_ROOM_ID) != 0) {
+				dto.setChatRoomId(readVarLong(in));
+			}
+			if ((flags & HAS_MESSAGE) != 0) {
+				dto.setMessage(readString(in));
+			}
+			if ((flags & HAS_SENDER) != 0) {
+				dto.setSenderUserId(readString(in));
+			}
+			if (in.hasRemaining()) {
+				throw new IllegalArgumentException("프레임 끝에 남은 바이트가 있습니다.");
+			}
+			return dto;
+		} catch (java.nio.BufferUnderflowException e) {
+			throw new IllegalArgumentException("프레임이 잘렸습니다.", e);
+		}
+	}
+
+	private static int typeCode(ChatMessageDto.MessageType type) {
+		if (type == null) {
+			throw new IllegalArgumentException("messageType이 없습니다.");
+		}
+		for (int i = 0; i < TYPES.length; i++) {
+			if (TYPES[i] == type) return i;
+		}
+		throw new IllegalArgumentException("알 수 없는 메시지 타입입니다: " + type);
+	}
+
+	private static void writeBytes(ByteArrayOutputStream out, byte[] bytes) {
+		writeVarLong(out, bytes.length);
+		out.write(bytes, 0, bytes.length);
+	}
+
+	private static String readString(ByteBuffer in) {
+		long length = readVarLong(in);
+		if (length > MAX_STRING_BYTES || length > in.remaining()) {
+			throw new IllegalArgumentException("문자열 길이가 잘못되었습니다: " + length);
+		}
+		byte[] bytes = new byte[(int) length];
+		in.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	// unsigned LEB128 (7비트씩, 상위 비트는 다음 바이트 존재 여부)
+	private static void writeVarLong(ByteArrayOutputStream out, long value) {
+		if (value < 0) {
+			throw new IllegalArgumentException("음수는 인코딩할 수 없습니다: " + value);
+		}
+		while ((value & ~0x7FL) != 0) {
+			out.write((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.write((int) value);
+	}
+
+	private static long readVarLong(ByteBuffer in) {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = in.get();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("varint가 너무 깁니다.");
+	}
+}
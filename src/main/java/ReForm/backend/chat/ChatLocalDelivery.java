@@ -0,0 +1,70 @@
+package ReForm.backend.chat;
+
+import ReForm.backend.chat.dto.ChatMessageDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * 이 인스턴스에 연결된 방 세션으로 메시지 전달
+ * - ChatBroker 구현체가 로컬 세션으로 내려보낼 때 공통으로 사용합니다.
+ * - 인코딩은 형식(JSON/BINARY)별로 한 번만 합니다. 텍스트 프레임(불변 String)은 모든 세션의 송신 큐가 공유하고,
+ *   바이너리는 바이너리 세션이 있을 때만 JSON payload에서 한 번 변환한 byte[]를 세션마다 새 BinaryMessage로 감쌉니다.
+ *   (BinaryMessage의 ByteBuffer는 전송하면서 position이 이동하므로 세션끼리 공유하면 두 번째 세션부터 빈 프레임이 나감)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatLocalDelivery {
+
+	private final ChatRoomRegistry chatRoomRegistry;
+	private final ChatOutboundDispatcher chatOutboundDispatcher;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * @param payload ChatMessageDto JSON (브로커 간 공통 형식)
+	 * @return 송신 큐에 넣은 세션 수
+	 */
+	public int deliver(Long roomId, String payload) {
+		final TextMessage textFrame = new TextMessage(payload);
+		byte[] binary = null;
+		boolean binaryEncoded = false;
+		int delivered = 0;
+		for (WebSocketSession s : chatRoomRegistry.sessionsOf(roomId)) {
+			WebSocketMessage<?> frame = textFrame;
+			if (ChatWireFormat.of(s) == ChatWireFormat.BINARY) {
+				if (!binaryEncoded) {
+					binary = encodeBinary(payload);
+					binaryEncoded = true;
+				}
+				if (binary != null) {
+					frame = new BinaryMessage(binary);
+				}
+			}
+			if (chatOutboundDispatcher.send(s, frame)) {
+				delivered++;
+			}
+		}
+		return delivered;
+	}
+
+	public boolean hasLocalSessions(Long roomId) {
+		return !chatRoomRegistry.sessionsOf(roomId).isEmpty();
+	}
+
+	// 변환할 수 없는 payload면 null (텍스트 그대로 전달)
+	private byte[] encodeBinary(String payload) {
+		try {
+			ChatMessageDto dto = objectMapper.readValue(payload, ChatMessageDto.class);
+			return ChatBinaryCodec.encode(dto);
+		} catch (Exception e) {
+			log.warn("WS binary encode failed, falling back to text: {}", e.getMessage());
+			return null;
+		}
+	}
+}
@@ -0,0 +1,225 @@
+package ReForm.backend.chat;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 세션별 비동기 송신 큐
+ * - 브로드캐스트는 각 세션의 큐에 메시지를 넣기만 하고 바로 반환하므로, 느린 클라이언트가 방 전체나 발신 스레드를 막지 않습니다.
+ * - 큐는 공용 writer 스레드 풀이 비우며, 한 세션은 동시에 하나의 writer만 전송하므로 sendMessage 동시 호출이 없습니다.
+ * - 큐가 가득 찬 세션은 overflow-policy에 따라 처리합니다.
+ *   DROP_OLDEST: 가장 오래된 메시지를 버림 / DISCONNECT: 세션 종료(SESSION_NOT_RELIABLE)
+ * - 한 번의 전송이 send-time-limit-ms 이상 걸리고 있는 세션은 정책과 관계없이 종료합니다. (SESSION_NOT_RELIABLE)
+ *   전송이 막힌 세션을 계속 두면 writer 스레드가 묶이므로, 메시지만 버려서는 회복되지 않습니다.
+ * - 큐 길이, 버린 메시지 수, 강제 종료 수는 stats()로 확인합니다. (GET /admin/chat/outbound)
+ */
+@Component
+@Slf4j
+public class ChatOutboundDispatcher {
+
+	public enum OverflowPolicy { DROP_OLDEST, DISCONNECT }
+
+	private final int queueCapacity;
+	private final long sendTimeLimitMs;
+	private final OverflowPolicy overflowPolicy;
+	private final ExecutorService writers;
+
+	private final Map<String, Outbox> outboxes = new ConcurrentHashMap<>();
+
+	private final LongAdder enqueued = new LongAdder();
+	private final LongAdder sent = new LongAdder();
+	private final LongAdder dropped = new LongAdder();
+	private final LongAdder disconnected = new LongAdder();
+	private final AtomicLong maxQueueDepth = new AtomicLong();
+
+	public ChatOutboundDispatcher(@Value("${chat.outbound.queue-capacity:256}") int queueCapacity,
+								  @Value("${chat.outbound.send-time-limit-ms:10000}") long sendTimeLimitMs,
+								  @Value("${chat.outbound.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+								  @Value("${chat.outbound.writer-threads:0}") int writerThreads) {
+		this.queueCapacity = Math.max(1, queueCapacity);
+		this.sendTimeLimitMs = sendTimeLimitMs;
+		this.overflowPolicy = overflowPolicy;
+		int threads = writerThreads > 0 ? writerThreads : Math.max(2, Runtime.getRuntime().availableProcessors());
+		AtomicInteger seq = new AtomicInteger();
+		this.writers = Executors.newFixedThreadPool(threads, r -> {
+			Thread t = new Thread(r, "chat-writer-" + seq.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		});
+	}
+
+	/**
+	 * 연결된 세션의 송신 큐 생성
+	 */
+	public void register(WebSocketSession session) {
+		outboxes.computeIfAbsent(session.getId(), id -> new Outbox(session));
+	}
+
+	/**
+	 * 연결 종료 시 큐 폐기 (남은 메시지는 버림)
+	 */
+	public void unregister(WebSocketSession session) {
+		Outbox outbox = outboxes.remove(session.getId());
+		if (outbox != null) {
+			outbox.clear();
+		}
+	}
+
+	/**
+	 * 송신 큐에 메시지 추가 (전송은 writer 스레드에서 수행)
+	 * @return 큐에 들어갔으면 true, 등록되지 않았거나 닫힌 세션이면 false
+	 */
+	public boolean send(WebSocketSession session, WebSocketMessage<?> message) {
+		Outbox outbox = outboxes.get(session.getId());
+		if (outbox == null || !session.isOpen()) {
+			return false;
+		}
+		return outbox.offer(message);
+	}
+
+	/**
+	 * 송신 큐 지표
+	 */
+	public Map<String, Object> stats() {
+		long queued = 0;
+		for (Outbox outbox : outboxes.values()) {
+			queued += outbox.depth();
+		}
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("sessions", outboxes.size());
+		stats.put("queuedMessages", queued);
+		stats.put("maxQueueDepth", maxQueueDepth.get());
+		stats.put("queueCapacity", queueCapacity);
+		stats.put("overflowPolicy", overflowPolicy.name());
+		stats.put("enqueued", enqueued.sum());
+		stats.put("sent", sent.sum());
+		stats.put("dropped", dropped.sum());
+		stats.put("disconnected", disconnected.sum());
+		return stats;
+	}
+
+	@PreDestroy
+	void shutdown() throws InterruptedException {
+		writers.shutdown();
+		if (!writers.awaitTermination(5, TimeUnit.SECONDS)) {
+			writers.shutdownNow();
+		}
+	}
+
+	/**
+	 * 세션 하나의 송신 큐
+	 * - queue/draining은 this로 보호, 실제 전송은 잠금 밖에서 수행
+	 */
+	private final class Outbox {
+
+		private final WebSocketSession session;
+		private final ArrayDeque<WebSocketMessage<?>> queue = new ArrayDeque<>();
+		private boolean draining;
+		private volatile long sendStartedAt; // 전송 중이면 시작 시각(ms), 아니면 0
+
+		Outbox(WebSocketSession session) {
+			this.session = session;
+		}
+
+		boolean offer(WebSocketMessage<?> message) {
+			boolean schedule;
+			synchronized (this) {
+				if (isSendTimedOut()) {
+					queue.clear();
+					disconnect("send time limit exceeded");
+					return false;
+				}
+				if (queue.size() >= queueCapacity) {
+					if (overflowPolicy == OverflowPolicy.DISCONNECT) {
+						queue.clear();
+						disconnect("queue full");
+						return false;
+					}
+					if (!queue.isEmpty()) {
+						queue.pollFirst();
+						dropped.increment();
+					}
+				}
+				queue.addLast(message);
+				enqueued.increment();
+				maxQueueDepth.accumulateAndGet(queue.size(), Math::max);
+				schedule = !draining;
+				draining = true;
+			}
+			if (schedule) {
+				writers.execute(this::drain);
+			}
+			return true;
+		}
+
+		synchronized int depth() {
+			return queue.size();
+		}
+
+		synchronized void clear() {
+			queue.clear();
+		}
+
+		// 한 번에 하나의 writer만 실행되므로 세션 전송이 직렬화됨
+		private void drain() {
+			while (true) {
+				WebSocketMessage<?> next;
+				synchronized (this) {
+					next = queue.pollFirst();
+					if (next == null) {
+						draining = false;
+						return;
+					}
+				}
+				if (!session.isOpen()) {
+					continue;
+				}
+				sendStartedAt = System.currentTimeMillis();
+				try {
+					session.sendMessage(next);
+					sent.increment();
+				} catch (Exception e) {
+					log.warn("WS send failed: session={} err={}", session.getId(), e.getMessage());
+					clear();
+					disconnect("send failed");
+				} finally {
+					sendStartedAt = 0;
+				}
+			}
+		}
+
+		private boolean isSendTimedOut() {
+			long startedAt = sendStartedAt;
+			return startedAt > 0 && System.currentTimeMillis() - startedAt > sendTimeLimitMs;
+		}
+
+		private void disconnect(String reason) {
+			if (!session.isOpen()) {
+				return;
+			}
+			disconnected.increment();
+			log.warn("WS outbound {}, closing slow session: {}", reason, session.getId());
+			try {
+				session.close(CloseStatus.SESSION_NOT_RELIABLE);
+			} catch (Exception e) {
+				log.debug("WS close failed: session={} err={}", session.getId(), e.getMessage());
+			}
+		}
+	}
+}
@@ -0,0 +1,274 @@
+package ReForm.backend.chat;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 채팅 접속 상태(presence) 관리 + heartbeat 기반 유휴 세션 정리
+ * - 방별 온라인 사용자: 방 ID -> (userId -> 이 인스턴스의 세션 수). 같은 사용자가 여러 기기로 접속해도
+ *   첫 세션 입장 시에만 online, 마지막 세션 퇴장 시에만 offline으로 판단합니다. (DB 쓰기 없음)
+ * - heartbeat: 메시지/pong을 받을 때마다 마지막 수신 시각만 갱신하고,
+ *   ping-interval-ms 동안 조용한 세션에는 ping을 보내며 idle-timeout-ms 동안 응답이 없으면 세션을 닫습니다.
+ * - 만료 검사는 해시 타이머 휠(tick-ms 간격 슬롯)로 수행합니다. 활동이 있어도 휠 위치를 옮기지 않고,
+ *   슬롯 차례가 왔을 때 마지막 수신 시각으로 다시 계산해 재배치하므로 메시지마다 드는 비용은 시각 기록 한 번입니다.
+ * - 온라인 목록은 인스턴스별입니다. (다른 인스턴스의 online/offline은 PRESENCE 이벤트로만 전달됨)
+ */
+@Component
+@Slf4j
+public class ChatPresenceService {
+
+	public static final String ONLINE = "online";
+	public static final String OFFLINE = "offline";
+	public static final String TYPING_START = "start";
+	public static final String TYPING_STOP = "stop";
+
+	private static final class Tracked {
+		final WebSocketSession session;
+		final String userId;
+		final Set<Long> roomIds = ConcurrentHashMap.newKeySet(); // 이 세션이 online으로 집계된 방
+		volatile long lastSeenAt;
+
+		Tracked(WebSocketSession session, String userId, long now) {
+			this.session = session;
+			this.userId = userId;
+			this.lastSeenAt = now;
+		}
+	}
+
+	private final long pingIntervalMs;
+	private final long idleTimeoutMs;
+	private final long tickMs;
+	private final ChatOutboundDispatcher chatOutboundDispatcher;
+
+	private final Map<String, Tracked> sessions = new ConcurrentHashMap<>();
+	private final Map<Long, Map<String, Integer>> onlineByRoom = new ConcurrentHashMap<>();
+
+	private final LongAdder pings = new LongAdder();
+	private final LongAdder reaped = new LongAdder();
+
+	// 타이머 휠: 슬롯마다 만료 검사 대상 세션 ID
+	private final List<Set<String>> wheel;
+	private volatile long currentTick;
+	private ScheduledExecutorService ticker;
+
+	public ChatPresenceService(ChatOutboundDispatcher chatOutboundDispatcher,
+							   @Value("${chat.heartbeat.ping-interval-ms:25000}") long pingIntervalMs,
+							   @Value("${chat.heartbeat.idle-timeout-ms:60000}") long idleTimeoutMs,
+							   @Value("${chat.heartbeat.tick-ms:1000}") long tickMs) {
+		this.chatOutboundDispatcher = chatOutboundDispatcher;
+		this.tickMs = Math.max(10, tickMs);
+		this.pingIntervalMs = Math.max(this.tickMs, pingIntervalMs);
+		this.idleTimeoutMs = Math.max(this.pingIntervalMs + this.tickMs, idleTimeoutMs);
+		int slots = (int) Math.min(4096, this.idleTimeoutMs / this.tickMs + 1);
+		List<Set<String>> slotList = new ArrayList<>(slots);
+		for (int i = 0; i < slots; i++) {
+			slotList.add(ConcurrentHashMap.newKeySet());
+		}
+		this.wheel = slotList;
+	}
+
+	@PostConstruct
+	void start() {
+		ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread t = new Thread(r, "chat-heartbeat");
+			t.setDaemon(true);
+			return t;
+		});
+		ticker.scheduleAtFixedRate(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	void stop() {
+		ticker.shutdownNow();
+	}
+
+	/**
+	 * 연결된 세션 추적 시작
+	 */
+	public void register(WebSocketSession session, String userId) {
+		long now = System.currentTimeMillis();
+		sessions.put(session.getId(), new Tracked(session, userId, now));
+		schedule(session.getId(), now + pingIntervalMs);
+	}
+
+	/**
+	 * 세션 활동 기록 (메시지/pong 수신)
+	 */
+	public void touch(WebSocketSession session) {
+		Tracked tracked = sessions.get(session.getId());
+		if (tracked != null) {
+			tracked.lastSeenAt = System.currentTimeMillis();
+		}
+	}
+
+	/**
+	 * 세션이 방에 입장
+	 * @return 이 사용자가 방에서 새로 online이 되었으면 true
+	 */
+	public boolean joined(Long roomId, WebSocketSession session) {
+		Tracked tracked = sessions.get(session.getId());
+		if (tracked == null || tracked.userId == null || !tracked.roomIds.add(roomId)) {
+			return false; // 같은 세션의 중복 JOIN은 한 번만 집계
+		}
+		boolean[] becameOnline = {false};
+		onlineByRoom.compute(roomId, (id, users) -> {
+			Map<String, Integer> map = users != null ? users : new ConcurrentHashMap<>();
+			becameOnline[0] = map.merge(tracked.userId, 1, Integer::sum) == 1;
+			return map;
+		});
+		return becameOnline[0];
+	}
+
+	/**
+	 * 세션이 방에서 퇴장
+	 * @return 이 사용자의 마지막 세션이 빠져 offline이 되었으면 true
+	 */
+	public boolean left(Long roomId, WebSocketSession session) {
+		Tracked tracked = sessions.get(session.getId());
+		return tracked != null && tracked.roomIds.remove(roomId) && decrement(roomId, tracked.userId);
+	}
+
+	/**
+	 * 연결 종료 시 정리
+	 * @return 이 사용자가 offline이 된 방 목록
+	 */
+	public List<Long> unregister(WebSocketSession session) {
+		Tracked tracked = sessions.remove(session.getId());
+		if (tracked == null) {
+			return List.of();
+		}
+		List<Long> offline = new ArrayList<>();
+		for (Long roomId : tracked.roomIds) {
+			if (decrement(roomId, tracked.userId)) {
+				offline.add(roomId);
+			}
+		}
+		return offline;
+	}
+
+	/**
+	 * 세션이 방에 입장해 있는지 (TYPING 중계 대상 확인)
+	 */
+	public boolean isJoined(Long roomId, WebSocketSession session) {
+		Tracked tracked = sessions.get(session.getId());
+		return tracked != null && tracked.roomIds.contains(roomId);
+	}
+
+	/**
+	 * 방의 온라인 사용자 ID (이 인스턴스 기준)
+	 */
+	public Set<String> onlineUsers(Long roomId) {
+		Map<String, Integer> users = onlineByRoom.get(roomId);
+		return users == null ? Set.of() : Collections.unmodifiableSet(users.keySet());
+	}
+
+	/**
+	 * 세션의 인증된 userId (연결 종료 처리 시 사용)
+	 */
+	public String userIdOf(WebSocketSession session) {
+		Tracked tracked = sessions.get(session.getId());
+		return tracked == null ? null : tracked.userId;
+	}
+
+	/**
+	 * presence/heartbeat 지표
+	 */
+	public Map<String, Object> stats() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("sessions", sessions.size());
+		stats.put("rooms", onlineByRoom.size());
+		stats.put("pingIntervalMs", pingIntervalMs);
+		stats.put("idleTimeoutMs", idleTimeoutMs);
+		stats.put("pings", pings.sum());
+		stats.put("reaped", reaped.sum());
+		return stats;
+	}
+
+	private boolean decrement(Long roomId, String userId) {
+		boolean[] becameOffline = {false};
+		onlineByRoom.computeIfPresent(roomId, (id, users) -> {
+			Integer count = users.get(userId);
+			if (count != null) {
+				if (count > 1) {
+					users.put(userId, count - 1);
+				} else {
+					users.remove(userId);
+					becameOffline[0] = true;
+				}
+			}
+			return users.isEmpty() ? null : users;
+		});
+		return becameOffline[0];
+	}
+
+	// 슬롯 하나를 처리: 만료된 세션은 닫고, 조용한 세션에는 ping, 나머지는 다음 검사 시각으로 재배치 (테스트에서 직접 호출)
+	void tick() {
+		try {
+			long tick = currentTick + 1;
+			currentTick = tick;
+			Set<String> slot = wheel.get((int) (tick % wheel.size()));
+			if (slot.isEmpty()) {
+				return;
+			}
+			long now = System.currentTimeMillis();
+			List<String> due = new ArrayList<>(slot);
+			slot.removeAll(due);
+			for (String sessionId : due) {
+				Tracked tracked = sessions.get(sessionId);
+				if (tracked == null) {
+					continue; // 이미 종료된 세션
+				}
+				long idle = now - tracked.lastSeenAt;
+				if (idle >= idleTimeoutMs) {
+					reap(tracked);
+				} else if (idle >= pingIntervalMs) {
+					if (chatOutboundDispatcher.send(tracked.session, new PingMessage())) {
+						pings.increment();
+					}
+					schedule(sessionId, tracked.lastSeenAt + idleTimeoutMs);
+				} else {
+					schedule(sessionId, tracked.lastSeenAt + pingIntervalMs);
+				}
+			}
+		} catch (Exception e) {
+			log.warn("[ChatPresenceService] heartbeat tick 실패: {}", e.getMessage());
+		}
+	}
+
+	// 마감 시각에 해당하는 슬롯에 배치 (휠 한 바퀴보다 먼 마감은 마지막 슬롯에 두고 그때 다시 계산)
+	private void schedule(String sessionId, long deadlineAt) {
+		long delay = Math.max(0, deadlineAt - System.currentTimeMillis());
+		long ticks = Math.max(1, (delay + tickMs - 1) / tickMs);
+		ticks = Math.min(ticks, wheel.size() - 1);
+		wheel.get((int) ((currentTick + ticks) % wheel.size())).add(sessionId);
+	}
+
+	private void reap(Tracked tracked) {
+		reaped.increment();
+		log.info("WS idle timeout, closing: {} (userId={})", tracked.session.getId(), tracked.userId);
+		try {
+			// afterConnectionClosed에서 방/presence 정리
+			tracked.session.close(CloseStatus.SESSION_NOT_RELIABLE);
+		} catch (Exception e) {
+			log.debug("WS close failed: session={} err={}", tracked.session.getId(), e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package ReForm.backend.chat;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅방 세션 레지스트리 (스레드 안전)
+ * - 컨테이너 스레드들이 동시에 접속/입장/퇴장/종료를 처리하므로 모든 구조를 ConcurrentHashMap 기반으로 관리합니다.
+ * - 방 단위 갱신은 ConcurrentHashMap.compute로 해당 버킷만 잠그므로(버킷 단위 잠금) 서로 다른 방끼리는 경합하지 않습니다.
+ * - 세션 -> 참여 방 역색인을 두어 연결 종료 시 전체 방을 훑지 않고 참여한 방만 정리합니다.
+ * - 브로드캐스트는 잠금 없이 방 세션 집합을 순회합니다. (약한 일관성: 순회 중 입장/퇴장은 반영될 수도, 아닐 수도 있음)
+ */
+@Component
+public class ChatRoomRegistry {
+
+	// 전체 접속 세션: 세션 ID -> 세션
+	private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+	// 채팅방별 세션 목록: 방 ID -> 세션 집합 (빈 방은 제거)
+	private final Map<Long, Set<WebSocketSession>> roomIdToSessions = new ConcurrentHashMap<>();
+
+	// 역색인: 세션 ID -> 참여 중인 방 ID 집합
+	private final Map<String, Set<Long>> sessionIdToRoomIds = new ConcurrentHashMap<>();
+
+	/**
+	 * 연결된 세션 등록
+	 */
+	public void register(WebSocketSession session) {
+		sessions.put(session.getId(), session);
+		sessionIdToRoomIds.putIfAbsent(session.getId(), ConcurrentHashMap.newKeySet());
+	}
+
+	/**
+	 * 세션을 방에 입장시킴
+	 * @return 입장 처리 여부 (이미 종료되어 등록 해제된 세션이면 false)
+	 */
+	public boolean join(Long roomId, WebSocketSession session) {
+		String sessionId = session.getId();
+		Set<Long> roomIds = sessionIdToRoomIds.get(sessionId);
+		if (roomIds == null) {
+			return false;
+		}
+		roomIds.add(roomId);
+		roomIdToSessions.compute(roomId, (id, members) -> {
+			Set<WebSocketSession> set = members != null ? members : ConcurrentHashMap.<WebSocketSession>newKeySet();
+			set.add(session);
+			return set;
+		});
+		// 입장 처리 도중 연결이 종료(unregister)됐다면 방에 남은 세션을 되돌림
+		if (!sessionIdToRoomIds.containsKey(sessionId)) {
+			removeFromRoom(roomId, session);
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * 세션을 방에서 퇴장시킴
+	 */
+	public void leave(Long roomId, WebSocketSession session) {
+		Set<Long> roomIds = sessionIdToRoomIds.get(session.getId());
+		if (roomIds != null) {
+			roomIds.remove(roomId);
+		}
+		removeFromRoom(roomId, session);
+	}
+
+	/**
+	 * 연결 종료 시 세션 정리 (참여한 방만 순회)
+	 * @return 세션이 참여 중이던 방 ID 목록
+	 */
+	public Set<Long> unregister(WebSocketSession session) {
+		sessions.remove(session.getId());
+		Set<Long> roomIds = sessionIdToRoomIds.remove(session.getId());
+		if (roomIds == null) {
+			return Set.of();
+		}
+		for (Long roomId : roomIds) {
+			removeFromRoom(roomId, session);
+		}
+		return Collections.unmodifiableSet(roomIds);
+	}
+
+	/**
+	 * 방에 입장한 세션 목록 (읽기 전용 뷰, 순회 중 변경에 안전)
+	 */
+	public Collection<WebSocketSession> sessionsOf(Long roomId) {
+		Set<WebSocketSession> members = roomIdToSessions.get(roomId);
+		return members == null ? Set.of() : Collections.unmodifiableSet(members);
+	}
+
+	public int sessionCount() {
+		return sessions.size();
+	}
+
+	public int roomCount() {
+		return roomIdToSessions.size();
+	}
+
+	// 방 세션 집합에서 제거하고, 비면 방 자체를 제거 (compute 안에서 원자적으로 처리)
+	private void removeFromRoom(Long roomId, WebSocketSession session) {
+		roomIdToSessions.computeIfPresent(roomId, (id, members) -> {
+			members.remove(session);
+			return members.isEmpty() ? null : members;
+		});
+	}
+}
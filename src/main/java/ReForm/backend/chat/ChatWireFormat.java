@@ -0,0 +1,33 @@
+package ReForm.backend.chat;
+
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * 채팅 WebSocket 프레임 형식
+ * - JSON: 기존 텍스트 프레임 (기본값)
+ * - BINARY: ChatBinaryCodec 길이 접두 바이너리 프레임 (모바일 클라이언트 대역폭/파싱 비용 절감)
+ * - 핸드셰이크에서 Sec-WebSocket-Protocol: reform.chat.bin.v1 로 협상하거나,
+ *   서브프로토콜을 지정할 수 없는 클라이언트는 /ws/conn?format=bin 으로 선택합니다.
+ */
+public enum ChatWireFormat {
+	JSON, BINARY;
+
+	public static final String JSON_SUBPROTOCOL = "reform.chat.json.v1";
+	public static final String BINARY_SUBPROTOCOL = "reform.chat.bin.v1";
+
+	// 핸드셰이크 인터셉터가 ?format=bin 요청을 표시하는 세션 attribute 키
+	public static final String ATTRIBUTE = "chatWireFormat";
+
+	/**
+	 * 세션의 협상된 형식 (서브프로토콜 우선, 없으면 핸드셰이크 attribute)
+	 */
+	public static ChatWireFormat of(WebSocketSession session) {
+		if (BINARY_SUBPROTOCOL.equals(session.getAcceptedProtocol())) {
+			return BINARY;
+		}
+		if (JSON_SUBPROTOCOL.equals(session.getAcceptedProtocol())) {
+			return JSON;
+		}
+		return session.getAttributes().get(ATTRIBUTE) == BINARY ? BINARY : JSON;
+	}
+}
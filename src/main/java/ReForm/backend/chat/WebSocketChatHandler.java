@@ -1,145 +1,283 @@
 package ReForm.backend.chat;
 
+import ReForm.backend.chat.broker.ChatBroker;
 import ReForm.backend.chat.dto.ChatMessageDto;
+import ReForm.backend.chat.service.ChatMembershipCache;
+import ReForm.backend.chat.service.ChatMessageWriteBehind;
 import ReForm.backend.chat.service.ChatService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PongMessage;
+import org.springframework.web.socket.SubProtocolCapable;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
-import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * WebSocket 텍스트 메시지 핸들러
+ * WebSocket 채팅 메시지 핸들러 (JSON 텍스트 / 바이너리 프레임)
  *
  * 책임
  * - 세션 연결/해제 관리 (현재 접속한 클라이언트의 소켓 세션을 메모리에 보관/정리)
- * - 메시지 타입(JOIN/TALK/LEAVE)에 따른 채팅방 세션 관리 및 방 단위 브로드캐스트
- * - TALK 수신 시 영속 저장(메시지 히스토리 유지) 및 발신자 읽음 처리
+ * - 메시지 타입(JOIN/TALK/LEAVE/TYPING)에 따른 채팅방 세션 관리 및 방 단위 브로드캐스트
+ * - 접속 상태: 사용자가 방에서 online/offline이 될 때 PRESENCE 이벤트를 방송하고, TYPING은 저장 없이 중계 (ChatPresenceService)
+ * - heartbeat: 모든 수신 프레임과 pong을 활동으로 기록하고, 응답 없는 세션은 ChatPresenceService가 닫음
+ * - JOIN/TALK는 방 참여자(chat_participant, 나가지 않은 경우)만 처리 (ChatMembershipCache)
+ * - TALK 수신 시 영속 저장(메시지 히스토리 유지) 및 발신자 읽음 처리 (ChatMessageWriteBehind로 비동기 배치 저장)
+ * - 프레임 형식은 핸드셰이크에서 협상 (ChatWireFormat): 기본 JSON, reform.chat.bin.v1 서브프로토콜 또는 ?format=bin이면 바이너리
+ *   두 형식 모두 같은 ChatMessageDto로 해석하여 이후 처리는 동일
  *
  * 메모리 구조
- * - allSessions: 현재 서버 인스턴스에 연결된 모든 WebSocket 세션(모니터링 용)
- * - roomIdToSessions: 방 ID별로 세션 Set을 보관하여, 같은 방 사용자에게만 메시지를 전송
+ * - ChatRoomRegistry: 접속 세션과 방 ID별 세션 집합, 세션 -> 방 역색인을 스레드 안전하게 보관
+ *   (컨테이너 스레드들이 동시에 접속/입장/종료를 처리하므로 일반 HashMap/HashSet은 사용하지 않음)
+ * - ChatOutboundDispatcher: 세션별 송신 큐. 브로드캐스트는 큐에 넣기만 하고 전송은 writer 스레드가 수행
+ * - ChatBroker: 방 브로드캐스트 팬아웃. 기본은 인스턴스 내 전달, chat.broker.type=redis이면 Redis Pub/Sub으로 인스턴스 간 전달
  *
  * 주의
- * - 세션 관리(접속/브로드캐스트)는 메모리 기반. 수평 확장 시 분산 세션 동기화(예: Redis Pub/Sub) 필요
- * - 메시지 저장과 읽음 처리는 ChatService를 통해 DB에 영속화
+ * - 세션 자체는 각 인스턴스 메모리에 있으며, 다른 인스턴스의 세션에는 ChatBroker를 통해서만 전달됨
+ * - 메시지 저장은 ChatMessageWriteBehind, 읽음 처리는 ChatService를 통해 DB에 영속화
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class WebSocketChatHandler extends TextWebSocketHandler {
+public class WebSocketChatHandler extends AbstractWebSocketHandler implements SubProtocolCapable {
 
 	private final ObjectMapper objectMapper;
 	private final ChatService chatService;
+	private final ChatMessageWriteBehind chatMessageWriteBehind;
+	private final ChatRoomRegistry chatRoomRegistry;
+	private final ChatOutboundDispatcher chatOutboundDispatcher;
+	private final ChatBroker chatBroker;
+	private final ChatPresenceService chatPresenceService;
+	private final ChatMembershipCache chatMembershipCache;
 
-	// 전체 접속 세션 (모니터링/디버깅 용도)
-	private final Set<WebSocketSession> allSessions = new HashSet<>();
+	// 메시지 본문 로그는 DEBUG에서 N건마다 1건만 기록 (0이면 기록하지 않음, 개인정보/로그량 최소화)
+	@Value("${chat.log.payload-sample-every:0}")
+	private int payloadSampleEvery;
+	private final AtomicLong payloadLogCounter = new AtomicLong();
 
-	// 채팅방별 세션 목록: 방 ID -> 세션 집합
-	private final Map<Long, Set<WebSocketSession>> roomIdToSessions = new HashMap<>();
+	// 핸드셰이크 시 Sec-WebSocket-Protocol 협상 후보 (클라이언트가 보낸 순서 중 첫 일치 항목 선택)
+	@Override
+	public List<String> getSubProtocols() {
+		return List.of(ChatWireFormat.BINARY_SUBPROTOCOL, ChatWireFormat.JSON_SUBPROTOCOL);
+	}
 
 	// 신규 소켓 연결 시 호출: 핸드셰이크 완료 후 서버가 세션을 등록하고 연결 안내 메시지 전송
 	@Override
 	public void afterConnectionEstablished(WebSocketSession session) throws Exception {
 		log.info("WS connected: {}", session.getId());
-		allSessions.add(session);
+		chatOutboundDispatcher.register(session);
+		chatRoomRegistry.register(session);
+		final Object userIdAttr = session.getAttributes().get("userId");
+		chatPresenceService.register(session, userIdAttr == null ? null : userIdAttr.toString());
 		// 초기 안내 메시지 전송 (클라이언트가 연결 성공을 확인할 수 있게 함)
-		session.sendMessage(new TextMessage("WebSocket 연결 완료"));
+		chatOutboundDispatcher.send(session, new TextMessage("WebSocket 연결 완료"));
 	}
 
-	// 텍스트 메시지 수신 시 호출:
-	// 1) payload(JSON)를 ChatMessageDto로 역직렬화
-	// 2) chatRoomId 기준으로 해당 방의 세션 Set을 조회/생성
-	// 3) JOIN/LEAVE는 세션 Set 갱신 및 시스템 메시지 구성, TALK는 DB 저장 + 읽음 처리
-	// 4) 같은 방에 연결된 세션들에게만 브로드캐스트
+	// 텍스트 메시지 수신 시 호출: payload(JSON)를 ChatMessageDto로 역직렬화한 뒤 공통 처리
 	@Override
 	protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+		chatPresenceService.touch(session);
 		final String payload = message.getPayload();
-		log.info("WS payload from {} => {}", session.getId(), payload);
+		final boolean logPayload = samplePayloadLog();
+		if (logPayload) {
+			log.debug("WS payload from {} => {}", session.getId(), payload);
+		}
+
+		final String authenticatedUserId = requireUserId(session);
+		if (authenticatedUserId == null) {
+			return;
+		}
+		handleChatMessage(session, authenticatedUserId, objectMapper.readValue(payload, ChatMessageDto.class), logPayload);
+	}
+
+	// 바이너리 메시지 수신 시 호출: ChatBinaryCodec으로 ChatMessageDto 복원한 뒤 공통 처리
+	@Override
+	protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws Exception {
+		chatPresenceService.touch(session);
+		final boolean logPayload = samplePayloadLog();
+		if (logPayload) {
+			log.debug("WS binary payload from {} => {} bytes", session.getId(), message.getPayloadLength());
+		}
 
-		// 인증(핸드셰이크)에서 저장한 userId 확인: 없으면 정책 위반으로 연결 종료
+		final String authenticatedUserId = requireUserId(session);
+		if (authenticatedUserId == null) {
+			return;
+		}
+		final ChatMessageDto dto;
+		try {
+			dto = ChatBinaryCodec.decode(message.getPayload());
+		} catch (IllegalArgumentException e) {
+			log.warn("Malformed binary WS frame, closing: {} ({})", session.getId(), e.getMessage());
+			session.close(CloseStatus.BAD_DATA);
+			return;
+		}
+		handleChatMessage(session, authenticatedUserId, dto, logPayload);
+	}
+
+	// heartbeat 응답: 마지막 활동 시각만 갱신
+	@Override
+	protected void handlePongMessage(WebSocketSession session, PongMessage message) {
+		chatPresenceService.touch(session);
+	}
+
+	// 인증(핸드셰이크)에서 저장한 userId 확인: 없으면 정책 위반으로 연결 종료 후 null
+	private String requireUserId(WebSocketSession session) throws Exception {
 		final Object userIdAttr = session.getAttributes().get("userId");
 		if (userIdAttr == null) {
 			log.warn("Unauthenticated WS session, closing: {}", session.getId());
 			session.close();
-			return;
+			return null;
 		}
-		final String authenticatedUserId = userIdAttr.toString();
+		return userIdAttr.toString();
+	}
 
-		final ChatMessageDto dto = objectMapper.readValue(payload, ChatMessageDto.class);
-		if (dto.getChatRoomId() == null) {
-			log.warn("chatRoomId is null. Ignore message.");
+	// 메시지 공통 처리:
+	// 1) 수신 프레임(JSON/바이너리)을 ChatMessageDto로 해석한 결과를 받음
+	// 2) chatRoomId 기준으로 방 입장/퇴장을 레지스트리에 반영
+	// 3) JOIN/LEAVE는 세션 Set 갱신 및 시스템 메시지 구성, TALK는 참여자 확인 후 DB 저장 + 읽음 처리
+	// 4) 같은 방에 연결된 세션들에게만 브로드캐스트
+	private void handleChatMessage(WebSocketSession session, String authenticatedUserId,
+								   ChatMessageDto dto, boolean logPayload) throws Exception {
+		if (dto.getMessageType() == null || dto.getChatRoomId() == null) {
+			log.warn("messageType or chatRoomId is null. Ignore message.");
 			return;
 		}
 
 		// 보안: 클라이언트가 보내온 senderUserId는 신뢰하지 않고 서버가 인증된 값으로 덮어씀
 		dto.setSenderUserId(authenticatedUserId);
 
-		roomIdToSessions.computeIfAbsent(dto.getChatRoomId(), k -> new HashSet<>());
-		final Set<WebSocketSession> roomSessions = roomIdToSessions.get(dto.getChatRoomId());
-
+		boolean becameOnline = false;
+		boolean becameOffline = false;
 		switch (dto.getMessageType()) {
 			case JOIN -> {
+				// 참여자가 아닌 방에는 입장 불가
+				if (!chatMembershipCache.isActiveParticipant(dto.getChatRoomId(), authenticatedUserId)) {
+					log.warn("WS JOIN rejected (not a participant): userId={} roomId={}", authenticatedUserId, dto.getChatRoomId());
+					return;
+				}
 				// 방에 세션 추가 및 시스템 메시지 전송 (입장 알림)
-				roomSessions.add(session);
+				if (chatRoomRegistry.join(dto.getChatRoomId(), session)) {
+					chatBroker.onLocalJoin(dto.getChatRoomId());
+					becameOnline = chatPresenceService.joined(dto.getChatRoomId(), session);
+				}
 				dto.setMessage("님이 입장하셨습니다.");
 				log.info("WS JOIN: userId={} roomId={}", authenticatedUserId, dto.getChatRoomId());
 			}
 			case LEAVE -> {
 				// 방에서 세션 제거 및 시스템 메시지 전송 (퇴장 알림)
-				roomSessions.remove(session);
+				chatRoomRegistry.leave(dto.getChatRoomId(), session);
+				chatBroker.onLocalLeave(dto.getChatRoomId());
+				becameOffline = chatPresenceService.left(dto.getChatRoomId(), session);
 				dto.setMessage("님이 퇴장하셨습니다.");
 				log.info("WS LEAVE: userId={} roomId={}", authenticatedUserId, dto.getChatRoomId());
 				try {
 					chatService.leaveRoom(dto.getChatRoomId(), authenticatedUserId);
+					chatMembershipCache.invalidate(dto.getChatRoomId(), authenticatedUserId);
 				} catch (Exception e) {
 					log.warn("leaveRoom failed: userId={} roomId={} err={}", authenticatedUserId, dto.getChatRoomId(), e.getMessage());
 				}
 			}
 			case TALK -> {
-				// 일반 대화는 전달된 message 그대로 사용 (DB에는 ChatService로 영속 저장)
-				log.info("WS TALK: userId={} roomId={} message={}", authenticatedUserId, dto.getChatRoomId(), dto.getMessage());
+				// 참여자가 아니면 저장/방송하지 않음 (나간 방, 존재하지 않는 방 포함)
+				if (!chatMembershipCache.isActiveParticipant(dto.getChatRoomId(), authenticatedUserId)) {
+					log.warn("WS TALK rejected (not a participant): userId={} roomId={}", authenticatedUserId, dto.getChatRoomId());
+					return;
+				}
+				// 일반 대화는 전달된 message 그대로 사용 (DB에는 ChatMessageWriteBehind로 영속 저장)
+				log.debug("WS TALK: userId={} roomId={}", authenticatedUserId, dto.getChatRoomId());
+			}
+			case TYPING -> {
+				// 입력 중 표시는 입장한 방에만, 저장 없이 중계 (message는 start/stop만 허용)
+				if (!chatPresenceService.isJoined(dto.getChatRoomId(), session)) {
+					return;
+				}
+				dto.setMessage(ChatPresenceService.TYPING_STOP.equals(dto.getMessage())
+						? ChatPresenceService.TYPING_STOP : ChatPresenceService.TYPING_START);
+			}
+			case PRESENCE -> {
+				// 접속 상태 이벤트는 서버만 발행
+				log.debug("Client PRESENCE ignored: userId={} roomId={}", authenticatedUserId, dto.getChatRoomId());
+				return;
 			}
 		}
 
-		// TALK 메시지는 DB에 저장하여 기록 및 lastMessageAt 갱신
-		if (dto.getMessageType() == ChatMessageDto.MessageType.TALK) {
-			chatService.saveMessage(dto.getChatRoomId(), dto.getSenderUserId(), dto.getMessage());
-			// 발신자는 자신의 메시지까지 읽은 것으로 처리 (읽음 뱃지/미확인 수 계산의 기준 시각 업데이트)
-			if (dto.getSenderUserId() != null) {
-				try { chatService.markRead(dto.getChatRoomId(), dto.getSenderUserId()); } catch (Exception ignore) {}
-			}
+		// TALK 메시지는 write-behind 큐에 넣어 배치 저장 (lastMessageAt 갱신 포함)
+		// 발신자는 자신의 메시지까지 읽은 것으로 처리 (읽음 뱃지/미확인 수 계산의 기준 시각 업데이트)
+		// 저장 큐가 포화면 방송하지 않고 1013(Try Again Later)으로 종료해 클라이언트가 재연결 후 다시 보내도록 함
+		if (dto.getMessageType() == ChatMessageDto.MessageType.TALK
+				&& !chatMessageWriteBehind.append(dto.getChatRoomId(), dto.getSenderUserId(), dto.getMessage())) {
+			log.warn("WS TALK rejected (persist queue full), closing: userId={} roomId={}", authenticatedUserId, dto.getChatRoomId());
+			session.close(CloseStatus.SERVICE_OVERLOAD);
+			return;
 		}
 
 		// 동일한 방에 속한 세션에게만 브로드캐스트 (다른 방 사용자에게는 전송되지 않음)
+		// 세션별 송신 큐에 넣기만 하므로 느린 수신자가 있어도 이 스레드는 대기하지 않음
+		// 직렬화는 방송당 한 번만 하고, 불변인 TextMessage 프레임을 모든 수신 세션이 공유 (ChatLocalDelivery)
 		final String outbound = objectMapper.writeValueAsString(dto);
-		int delivered = 0;
-		for (WebSocketSession s : roomSessions) {
-			if (s.isOpen()) {
-				s.sendMessage(new TextMessage(outbound));
-				delivered++;
-			}
+		final int delivered = chatBroker.publish(dto.getChatRoomId(), outbound);
+		if (logPayload) {
+			log.debug("WS broadcast: roomId={} receivers={} payload={}", dto.getChatRoomId(), delivered, outbound);
+		} else {
+			log.debug("WS broadcast: roomId={} receivers={}", dto.getChatRoomId(), delivered);
+		}
+
+		if (becameOnline) {
+			publishPresence(dto.getChatRoomId(), authenticatedUserId, ChatPresenceService.ONLINE);
+		} else if (becameOffline) {
+			publishPresence(dto.getChatRoomId(), authenticatedUserId, ChatPresenceService.OFFLINE);
+		}
+	}
+
+	// 사용자 접속 상태 변경을 방에 방송 (첫 세션 입장 / 마지막 세션 퇴장 시에만, DB 쓰기 없음)
+	private void publishPresence(Long roomId, String userId, String status) {
+		try {
+			final ChatMessageDto presence = ChatMessageDto.builder()
+					.messageType(ChatMessageDto.MessageType.PRESENCE)
+					.chatRoomId(roomId)
+					.message(status)
+					.senderUserId(userId)
+					.build();
+			chatBroker.publish(roomId, objectMapper.writeValueAsString(presence));
+		} catch (Exception e) {
+			log.warn("presence publish failed: userId={} roomId={} err={}", userId, roomId, e.getMessage());
 		}
-		log.info("WS broadcast: roomId={} receivers={} payload={}", dto.getChatRoomId(), delivered, outbound);
 	}
 
-	// 연결 종료 시 호출: 전체 세션 및 각 방에서 해당 세션 제거 (메모리 릭 방지)
+	// 본문 로그 샘플링: DEBUG가 켜져 있고 payloadSampleEvery건마다 한 번만 true
+	private boolean samplePayloadLog() {
+		int every = payloadSampleEvery;
+		if (every <= 0 || !log.isDebugEnabled()) {
+			return false;
+		}
+		return payloadLogCounter.getAndIncrement() % every == 0;
+	}
+
+	// 연결 종료 시 호출: 전체 세션 및 참여했던 방에서 해당 세션 제거 (메모리 릭 방지)
 	@Override
 	public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
-		log.info("WS disconnected: {} ({})", session.getId(), status);
-		allSessions.remove(session);
-		// 모든 방에서 해당 세션 삭제
-		for (Set<WebSocketSession> roomSessions : roomIdToSessions.values()) {
-			roomSessions.remove(session);
+		// 역색인으로 이 세션이 참여한 방만 정리 (전체 방 순회 없음)
+		Set<Long> roomIds = chatRoomRegistry.unregister(session);
+		chatOutboundDispatcher.unregister(session);
+		final String userId = chatPresenceService.userIdOf(session);
+		final List<Long> offlineRoomIds = chatPresenceService.unregister(session);
+		for (Long roomId : roomIds) {
+			chatBroker.onLocalLeave(roomId);
+		}
+		// 이 세션이 사용자의 마지막 세션이었던 방에만 offline 알림
+		for (Long roomId : offlineRoomIds) {
+			publishPresence(roomId, userId, ChatPresenceService.OFFLINE);
 		}
+		log.info("WS disconnected: {} ({}) rooms={}", session.getId(), status, roomIds.size());
 		// 종료 알림은 클라이언트 기준으로 처리(서버는 단순 정리)
 	}
 }
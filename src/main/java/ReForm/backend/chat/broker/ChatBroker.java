@@ -0,0 +1,28 @@
+package ReForm.backend.chat.broker;
+
+/**
+ * 채팅 메시지 팬아웃 브로커
+ * - WebSocketChatHandler는 방 브로드캐스트를 브로커에 맡기고, 브로커가 로컬 세션과 다른 인스턴스로 전달합니다.
+ * - chat.broker.type=local(기본): 단일 인스턴스 내 전달 (InProcessChatBroker)
+ * - chat.broker.type=redis: Redis Pub/Sub으로 인스턴스 간 전달 (RedisChatBroker)
+ */
+public interface ChatBroker {
+
+	/**
+	 * 방의 모든 세션(모든 인스턴스)에 메시지 전달
+	 * @return 이 인스턴스에서 송신 큐에 넣은 세션 수
+	 */
+	int publish(Long roomId, String payload);
+
+	/**
+	 * 이 인스턴스의 세션이 방에 입장한 뒤 호출 (필요하면 방 구독 시작)
+	 */
+	default void onLocalJoin(Long roomId) {
+	}
+
+	/**
+	 * 이 인스턴스의 세션이 방에서 빠진 뒤 호출 (로컬 세션이 없으면 방 구독 해제)
+	 */
+	default void onLocalLeave(Long roomId) {
+	}
+}
@@ -0,0 +1,23 @@
+package ReForm.backend.chat.broker;
+
+import ReForm.backend.chat.ChatLocalDelivery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 인스턴스용 브로커 (기본값)
+ * - 같은 인스턴스에 연결된 방 세션에만 전달합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.broker.type", havingValue = "local", matchIfMissing = true)
+public class InProcessChatBroker implements ChatBroker {
+
+	private final ChatLocalDelivery chatLocalDelivery;
+
+	@Override
+	public int publish(Long roomId, String payload) {
+		return chatLocalDelivery.deliver(roomId, payload);
+	}
+}
@@ -0,0 +1,113 @@
+package ReForm.backend.chat.broker;
+
+import ReForm.backend.chat.ChatLocalDelivery;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis Pub/Sub 기반 다중 인스턴스 브로커 (chat.broker.type=redis)
+ * - 방마다 채널(chat:room:{roomId})을 두고, 발신 인스턴스는 로컬 세션에 바로 전달한 뒤 채널에 한 번 발행합니다.
+ *   다른 인스턴스는 구독으로 받아 자기 로컬 세션에만 전달하므로 메시지는 Redis를 최대 한 번만 거칩니다.
+ *   (자신이 발행한 메시지는 nodeId로 구분해 다시 전달하지 않음)
+ * - 인스턴스는 로컬 세션이 있는 방의 채널만 구독하고, 마지막 로컬 세션이 빠지면 구독을 해제합니다.
+ *   구독 추가/해제는 Redis 명령을 보내므로 ConcurrentHashMap.compute 안이 아니라 방 ID별 잠금(stripe) 안에서 수행합니다.
+ * - 리스너 컨테이너는 ChatBrokerConfig의 빈입니다.
+ * - 메시지 형식: "{nodeId}\n{payload}"
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "chat.broker.type", havingValue = "redis")
+public class RedisChatBroker implements ChatBroker, MessageListener {
+
+	private static final String CHANNEL_PREFIX = "chat:room:";
+	private static final char SEPARATOR = '\n';
+	// 구독 상태 변경 잠금 수 (같은 방의 입장/퇴장만 직렬화)
+	private static final int SUBSCRIPTION_LOCK_STRIPES = 64;
+
+	private final StringRedisTemplate redisTemplate;
+	private final ChatLocalDelivery chatLocalDelivery;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final String nodeId = UUID.randomUUID().toString();
+
+	// 현재 구독 중인 방: 방 ID -> 채널
+	private final Map<Long, ChannelTopic> subscriptions = new ConcurrentHashMap<>();
+	private final Object[] subscriptionLocks = newLocks();
+
+	@Override
+	public int publish(Long roomId, String payload) {
+		int delivered = chatLocalDelivery.deliver(roomId, payload);
+		try {
+			redisTemplate.convertAndSend(CHANNEL_PREFIX + roomId, nodeId + SEPARATOR + payload);
+		} catch (Exception e) {
+			// Redis 장애 시에도 로컬 전달은 유지 (다른 인스턴스 세션은 이번 메시지를 받지 못함)
+			log.warn("[RedisChatBroker] 발행 실패 - roomId={} err={}", roomId, e.getMessage());
+		}
+		return delivered;
+	}
+
+	@Override
+	public void onLocalJoin(Long roomId) {
+		updateSubscription(roomId);
+	}
+
+	@Override
+	public void onLocalLeave(Long roomId) {
+		updateSubscription(roomId);
+	}
+
+	// 로컬 세션 유무를 방 단위 잠금 안에서 확인하고 구독 상태를 맞춤 (입장/퇴장이 경합해도 최종 상태가 일치)
+	private void updateSubscription(Long roomId) {
+		synchronized (subscriptionLocks[Math.floorMod(roomId.hashCode(), SUBSCRIPTION_LOCK_STRIPES)]) {
+			boolean needed = chatLocalDelivery.hasLocalSessions(roomId);
+			ChannelTopic topic = subscriptions.get(roomId);
+			if (needed && topic == null) {
+				ChannelTopic channel = new ChannelTopic(CHANNEL_PREFIX + roomId);
+				listenerContainer.addMessageListener(this, channel);
+				subscriptions.put(roomId, channel);
+			} else if (!needed && topic != null) {
+				subscriptions.remove(roomId);
+				listenerContainer.removeMessageListener(this, topic);
+			}
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		int idx = body.indexOf(SEPARATOR);
+		if (idx < 0 || !channel.startsWith(CHANNEL_PREFIX)) {
+			return;
+		}
+		if (nodeId.equals(body.substring(0, idx))) {
+			return; // 발신 인스턴스는 이미 로컬 전달함
+		}
+		try {
+			Long roomId = Long.valueOf(channel.substring(CHANNEL_PREFIX.length()));
+			chatLocalDelivery.deliver(roomId, body.substring(idx + 1));
+		} catch (NumberFormatException e) {
+			log.warn("[RedisChatBroker] 잘못된 채널 - {}", channel);
+		}
+	}
+
+	private static Object[] newLocks() {
+		Object[] locks = new Object[SUBSCRIPTION_LOCK_STRIPES];
+		for (int i = 0; i < locks.length; i++) {
+			locks[i] = new Object();
+		}
+		return locks;
+	}
+}
@@ -0,0 +1,57 @@
+package ReForm.backend.chat.controller;
+
+import ReForm.backend.chat.ChatOutboundDispatcher;
+import ReForm.backend.chat.ChatPresenceService;
+import ReForm.backend.chat.ChatRoomRegistry;
+import ReForm.backend.chat.service.ChatMessageWriteBehind;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/chat")
+public class ChatAdminController {
+
+    private final ChatOutboundDispatcher chatOutboundDispatcher;
+    private final ChatRoomRegistry chatRoomRegistry;
+    private final ChatMessageWriteBehind chatMessageWriteBehind;
+    private final ChatPresenceService chatPresenceService;
+
+    /**
+     * WebSocket 송신 큐 지표 (큐 길이, 버린 메시지 수, 강제 종료 수)
+     * - 경로: GET /admin/chat/outbound
+     * - 헤더: Authorization: Bearer {access_token} (ADMIN 권한)
+     */
+    @GetMapping("/outbound")
+    public ResponseEntity<Map<String, Object>> outboundStats() {
+        Map<String, Object> body = new LinkedHashMap<>(chatOutboundDispatcher.stats());
+        body.put("rooms", chatRoomRegistry.roomCount());
+        return ResponseEntity.ok(body);
+    }
+
+    /**
+     * TALK 메시지 write-behind 저장 지표 (대기 중, 저장 완료, 큐 포화로 거부, 실패 건수)
+     * - 경로: GET /admin/chat/persistence
+     * - 헤더: Authorization: Bearer {access_token} (ADMIN 권한)
+     */
+    @GetMapping("/persistence")
+    public ResponseEntity<Map<String, Object>> persistenceStats() {
+        return ResponseEntity.ok(chatMessageWriteBehind.stats());
+    }
+
+    /**
+     * 접속 상태/heartbeat 지표 (추적 중인 세션, online 사용자가 있는 방, 보낸 ping, 유휴 종료 건수)
+     * - 경로: GET /admin/chat/presence
+     * - 헤더: Authorization: Bearer {access_token} (ADMIN 권한)
+     */
+    @GetMapping("/presence")
+    public ResponseEntity<Map<String, Object>> presenceStats() {
+        return ResponseEntity.ok(chatPresenceService.stats());
+    }
+}
@@ -1,14 +1,14 @@
 package ReForm.backend.chat.controller;
 
-import ReForm.backend.chat.entity.ChatMessage;
+import ReForm.backend.chat.ChatPresenceService;
+import ReForm.backend.chat.dto.ChatMessageView;
+import ReForm.backend.chat.dto.ChatRoomSummary;
+import ReForm.backend.common.CurrentUser;
 import ReForm.backend.chat.entity.ChatRoom;
+import ReForm.backend.chat.service.ChatMembershipCache;
 import ReForm.backend.chat.service.ChatService;
 import ReForm.backend.chat.repository.ChatParticipantRepository;
 import ReForm.backend.chat.entity.ChatParticipant;
-import ReForm.backend.user.User;
-import ReForm.backend.user.repository.UserRepository;
-import ReForm.backend.user.service.JwtService;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -19,12 +19,11 @@ import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Optional;
 
 /**
  * 채팅 REST API
  * - 채팅방 생성, 내 채팅방 조회, 채팅 내역 조회, 읽음 처리, 채팅방 나가기
- * - 인증: 요청 헤더의 AccessToken에서 userId를 추출하여 현재 사용자 식별
+ * - 인증: JWT 필터가 SecurityContext에 저장한 principal에서 userId를 받아 현재 사용자 식별 (@CurrentUser)
  */
 @RestController
 @RequestMapping("/api/chat")
@@ -32,9 +31,11 @@ import java.util.Optional;
 public class ChatController {
 
     private final ChatService chatService;
-    private final JwtService jwtService;
-    private final UserRepository userRepository;
     private final ChatParticipantRepository chatParticipantRepository;
+    private final ChatPresenceService chatPresenceService;
+    private final ChatMembershipCache chatMembershipCache;
+
+    private static final int MAX_MESSAGE_PAGE_SIZE = 100;
 
 	/**
 	 * 채팅방 생성
@@ -43,40 +44,51 @@ public class ChatController {
 	 */
 	@PostMapping("/rooms")
     public ResponseEntity<CreateRoomResponse> createRoom(@RequestBody CreateRoomRequest req,
-                                                         HttpServletRequest httpRequest) {
-        String userId = currentUserId(httpRequest)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid or missing token"));
+                                                         @CurrentUser String userId) {
+        if (userId == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid or missing token");
+        }
 		ChatRoom room = chatService.createRoom(userId, req.participantUserIds, req.title);
 		return ResponseEntity.ok(new CreateRoomResponse(room.getId()));
 	}
 
 	/**
 	 * 내 채팅방 목록 조회
+	 * - 방별 마지막 메시지 미리보기와 내 미확인 메시지 수 포함, 최근 메시지 순 정렬
 	 */
 	@GetMapping("/rooms")
-    public ResponseEntity<List<ChatRoom>> myRooms(HttpServletRequest httpRequest) {
-        String userId = currentUserId(httpRequest)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid or missing token"));
-		return ResponseEntity.ok(chatService.findRoomsOfUser(userId));
+    public ResponseEntity<List<ChatRoomSummary>> myRooms(@CurrentUser String userId) {
+        if (userId == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid or missing token");
+        }
+		return ResponseEntity.ok(chatService.findRoomSummaries(userId));
 	}
 
     /**
-     * 특정 방의 최근 메시지 조회 (개인정보 최소화 응답)
+     * 특정 방의 메시지 내역 조회 (개인정보 최소화 응답)
      * - sender는 username, nickname만 포함
-     * Query: size(기본 50)
+     * - 커서는 messageId: before(이전 내역, 위로 스크롤) 또는 after(이후 내역) 중 하나만 사용
+     * - 커서가 없으면 가장 최근 size개, 응답은 항상 시간 오름차순
+     * Query: before, after, size(기본 50, 최대 100)
      */
     @GetMapping("/rooms/{roomId}/messages")
     public ResponseEntity<List<MessageResponse>> messages(@PathVariable Long roomId,
+                                                         @RequestParam(required = false) Long before,
+                                                         @RequestParam(required = false) Long after,
                                                          @RequestParam(defaultValue = "50") int size) {
-        List<ChatMessage> messages = chatService.loadRecentMessages(roomId, size);
+        if (before != null && after != null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "before와 after는 함께 사용할 수 없습니다.");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_MESSAGE_PAGE_SIZE));
+        List<ChatMessageView> messages = chatService.loadMessages(roomId, before, after, pageSize);
         List<MessageResponse> response = messages.stream()
                 .map(m -> new MessageResponse(
-                        m.getId(),
+                        m.getMessageId(),
                         m.getContent(),
                         m.getCreatedAt(),
-                        m.getSender() == null ? null : new Sender(
-                                m.getSender().getUserName(),
-                                m.getSender().getNickname()
+                        m.getSenderUserName() == null && m.getSenderNickname() == null ? null : new Sender(
+                                m.getSenderUserName(),
+                                m.getSenderNickname()
                         )
                 ))
                 .toList();
@@ -87,35 +99,43 @@ public class ChatController {
 	 * 읽음 처리: 해당 방에서 내 lastReadAt 갱신
 	 */
 	@PostMapping("/rooms/{roomId}/read")
-    public ResponseEntity<Void> markRead(@PathVariable Long roomId, HttpServletRequest httpRequest) {
-        String userId = currentUserId(httpRequest)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid or missing token"));
+    public ResponseEntity<Void> markRead(@PathVariable Long roomId, @CurrentUser String userId) {
+        if (userId == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid or missing token");
+        }
 		chatService.markRead(roomId, userId);
 		return ResponseEntity.ok().build();
 	}
 
 	/**
 	 * 방 나가기: 내 참여 상태에 leftAt 기록
+	 * - 커밋 후 참여 여부 캐시를 비워 WebSocket TALK가 바로 거부되도록 함
 	 */
 	@PostMapping("/rooms/{roomId}/leave")
-    public ResponseEntity<Void> leave(@PathVariable Long roomId, HttpServletRequest httpRequest) {
-        String userId = currentUserId(httpRequest)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid or missing token"));
+    public ResponseEntity<Void> leave(@PathVariable Long roomId, @CurrentUser String userId) {
+        if (userId == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid or missing token");
+        }
 		chatService.leaveRoom(roomId, userId);
+		chatMembershipCache.invalidate(roomId, userId);
 		return ResponseEntity.ok().build();
 	}
 
-    // 헤더의 AT에서 우선 userId를, 없으면 email을 추출하여 userId로 변환
-	private Optional<String> currentUserId(HttpServletRequest request) {
-        Optional<String> accessToken = jwtService.extractAccessToken(request);
-        // 1) userId 클레임 우선
-        Optional<String> byUserId = accessToken.flatMap(jwtService::extractUserId);
-        if (byUserId.isPresent()) return byUserId;
-        // 2) email 클레임으로 조회 후 userId 변환
-        return accessToken
-                .flatMap(jwtService::extractEmail)
-                .flatMap(email -> userRepository.findFirstByEmailOrderByCreatedAtDesc(email).map(User::getUserId));
-	}
+    /**
+     * 방에 현재 접속 중인 사용자 ID 목록 (WebSocket으로 방에 입장한 사용자, 이 서버 인스턴스 기준)
+     * - 이후 변경은 WebSocket PRESENCE 이벤트(online/offline)로 전달
+     * - 방 참여자(나가지 않은 사용자)만 조회 가능, 아니면 403
+     */
+    @GetMapping("/rooms/{roomId}/online")
+    public ResponseEntity<List<String>> onlineUsers(@PathVariable Long roomId, @CurrentUser String userId) {
+        if (userId == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid or missing token");
+        }
+        if (!chatService.isActiveParticipant(roomId, userId)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Not a participant of this room");
+        }
+        return ResponseEntity.ok(List.copyOf(chatPresenceService.onlineUsers(roomId)));
+    }
 
 	@Getter
 	@NoArgsConstructor
@@ -138,12 +158,18 @@ public class ChatController {
      */
     @GetMapping("/search/{usernickname}")
     public ResponseEntity<List<ChatSearchResult>> searchRooms(@PathVariable("usernickname") String nickname,
-                                                              HttpServletRequest httpRequest) {
-        String myUserId = currentUserId(httpRequest)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid or missing token"));
+                                                              @CurrentUser String myUserId) {
+        if (myUserId == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid or missing token");
+        }
 
         // 내가 속한 방 목록에서, 상대 참여자 중 닉네임이 포함되는 방만 선택
         List<ChatRoom> myRooms = chatService.findRoomsOfUser(myUserId);
+        // 미확인 수는 방 목록 요약 쿼리 한 번으로 계산 (방별 unreadCount 호출 없음)
+        java.util.Map<Long, Long> unreadByRoomId = new java.util.HashMap<>();
+        for (ChatRoomSummary summary : chatService.findRoomSummaries(myUserId)) {
+            unreadByRoomId.put(summary.getId(), summary.getUnreadCount());
+        }
         String query = nickname == null ? "" : nickname.toLowerCase();
 
         List<ChatSearchResult> results = new java.util.ArrayList<>();
@@ -163,8 +189,7 @@ public class ChatController {
             }
             if (!matched) continue;
 
-            long unread = 0L;
-            try { unread = chatService.unreadCount(room.getId(), myUserId); } catch (Exception ignore) {}
+            long unread = unreadByRoomId.getOrDefault(room.getId(), 0L);
             results.add(new ChatSearchResult(
                     room.getId(), participantSummaries, room.getLastMessageAt(), unread
             ));
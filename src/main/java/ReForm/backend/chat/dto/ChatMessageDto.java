@@ -8,7 +8,7 @@ import lombok.Setter;
 
 /**
  * 클라이언트(Web, iOS 등)와 주고받을 채팅 메시지 DTO
- * - messageType: 입장/대화/퇴장 구분용
+ * - messageType: 입장/대화/퇴장 구분용 (+ TYPING: 입력 중 표시, PRESENCE: 서버가 보내는 online/offline 알림)
  * - chatRoomId: 채팅방 식별자 (같은 방에 속한 세션에게만 전송)
  * - message: 실제 전송할 내용(시스템 안내문 포함)
  */
@@ -19,7 +19,7 @@ import lombok.Setter;
 @NoArgsConstructor
 public class ChatMessageDto {
 	public enum MessageType {
-		JOIN, TALK, LEAVE
+		JOIN, TALK, LEAVE, TYPING, PRESENCE
 	}
 
 	private MessageType messageType;
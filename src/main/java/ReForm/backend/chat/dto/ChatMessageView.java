@@ -0,0 +1,25 @@
+package ReForm.backend.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 내역 조회용 읽기 모델
+ * - 메시지와 발신자 요약(username, nickname)을 한 번의 쿼리로 받아오기 위한 JPQL 생성자 프로젝션
+ * - ChatMessage/User 엔티티를 로딩하지 않으므로 메시지별 발신자 조회(N+1)가 발생하지 않음
+ * - 시스템 메시지 등 발신자가 없으면 senderUserName/senderNickname은 null
+ */
+@Getter
+@AllArgsConstructor
+public class ChatMessageView {
+
+	private Long messageId;
+	private String content;
+	private LocalDateTime createdAt;
+
+	// 발신자 요약
+	private String senderUserName;
+	private String senderNickname;
+}
@@ -0,0 +1,28 @@
+package ReForm.backend.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내 채팅방 목록 항목
+ * - 방 정보(id, title, createdAt, lastMessageAt)는 기존 ChatRoom 응답과 같은 필드명 유지
+ * - 마지막 메시지 미리보기와 내 미확인 메시지 수를 함께 내려주어 방별 추가 요청이 필요 없음
+ */
+@Getter
+@AllArgsConstructor
+public class ChatRoomSummary {
+
+	private Long id;
+	private String title;
+	private LocalDateTime createdAt;
+	private LocalDateTime lastMessageAt;
+
+	// 마지막 메시지 미리보기 (메시지가 없으면 null)
+	private Long lastMessageId;
+	private String lastMessage;
+	private String lastMessageSenderNickname;
+
+	private long unreadCount;
+}
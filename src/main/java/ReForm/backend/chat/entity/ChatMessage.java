@@ -16,7 +16,12 @@ import java.time.LocalDateTime;
 @Entity
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Builder
-@Table(name = "chat_message")
+@Table(name = "chat_message", indexes = {
+		// 방별 메시지 내역 커서 페이지네이션 (room_id, message_id)
+		@Index(name = "idx_chat_message_room_id_message_id", columnList = "room_id, message_id"),
+		// 방별 미확인 메시지 수 집계 (room_id, created_at > last_read_at)
+		@Index(name = "idx_chat_message_room_id_created_at", columnList = "room_id, created_at")
+})
 public class ChatMessage {
 
 	@Id
@@ -1,16 +1,39 @@
 package ReForm.backend.chat.repository;
 
+import ReForm.backend.chat.dto.ChatMessageView;
 import ReForm.backend.chat.entity.ChatMessage;
 import ReForm.backend.chat.entity.ChatRoom;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
-	List<ChatMessage> findByRoomOrderByCreatedAtAsc(ChatRoom room, Pageable pageable);
+
+	String MESSAGE_VIEW_SELECT = "SELECT new ReForm.backend.chat.dto.ChatMessageView(" +
+			"m.id, m.content, m.createdAt, s.userName, s.nickname) " +
+			"FROM ChatMessage m LEFT JOIN m.sender s ";
+
+	/**
+	 * 가장 최근 메시지 페이지 (message_id 내림차순, idx_chat_message_room_id_message_id 사용)
+	 */
+	@Query(MESSAGE_VIEW_SELECT + "WHERE m.room.id = :roomId ORDER BY m.id DESC")
+	List<ChatMessageView> findLatestViews(@Param("roomId") Long roomId, Pageable pageable);
+
+	/**
+	 * beforeId보다 이전 메시지 페이지 (위로 스크롤, message_id 내림차순)
+	 */
+	@Query(MESSAGE_VIEW_SELECT + "WHERE m.room.id = :roomId AND m.id < :beforeId ORDER BY m.id DESC")
+	List<ChatMessageView> findViewsBefore(@Param("roomId") Long roomId, @Param("beforeId") Long beforeId, Pageable pageable);
+
+	/**
+	 * afterId 이후 메시지 페이지 (재접속 시 놓친 메시지, message_id 오름차순)
+	 */
+	@Query(MESSAGE_VIEW_SELECT + "WHERE m.room.id = :roomId AND m.id > :afterId ORDER BY m.id ASC")
+	List<ChatMessageView> findViewsAfter(@Param("roomId") Long roomId, @Param("afterId") Long afterId, Pageable pageable);
+
 	long countByRoomAndCreatedAtAfter(ChatRoom room, java.time.LocalDateTime instant);
 	void deleteByRoom(ChatRoom room);
 }
-
-
@@ -4,6 +4,8 @@ import ReForm.backend.chat.entity.ChatParticipant;
 import ReForm.backend.chat.entity.ChatRoom;
 import ReForm.backend.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,6 +15,35 @@ public interface ChatParticipantRepository extends JpaRepository<ChatParticipant
 	List<ChatParticipant> findByRoom(ChatRoom room);
 	Optional<ChatParticipant> findByRoomAndUser(ChatRoom room, User user);
 	void deleteByRoom(ChatRoom room);
+
+	/**
+	 * 방에 참여 중(나가지 않음)인지 확인
+	 */
+	boolean existsByRoom_IdAndUser_UserIdAndLeftAtIsNull(Long roomId, String userId);
+
+	/**
+	 * 내 채팅방 목록 + 마지막 메시지 + 미확인 수를 한 번에 조회 (최근 메시지 순)
+	 * - 미확인 수: 내 last_read_at 이후 메시지를 방별로 GROUP BY 집계 (idx_chat_message_room_id_created_at 사용)
+	 * - 마지막 메시지: 방별 MAX(message_id) (idx_chat_message_room_id_message_id 사용)
+	 * - 반환: room_id, title, created_at, last_message_at, last_message_id, content, sender_nickname, unread_count
+	 */
+	@Query(value = "SELECT r.room_id, r.title, r.created_at, r.last_message_at, " +
+			"lm.message_id, lm.content, su.nickname, COALESCE(uc.unread_count, 0) " +
+			"FROM chat_participant p " +
+			"JOIN chat_room r ON r.room_id = p.room_id " +
+			"LEFT JOIN (SELECT m.room_id, COUNT(*) AS unread_count " +
+			"           FROM chat_participant mp " +
+			"           JOIN chat_message m ON m.room_id = mp.room_id " +
+			"           WHERE mp.user_id = :userId " +
+			"             AND (mp.last_read_at IS NULL OR m.created_at > mp.last_read_at) " +
+			"           GROUP BY m.room_id) uc ON uc.room_id = r.room_id " +
+			"LEFT JOIN chat_message lm ON lm.message_id = " +
+			"          (SELECT MAX(m2.message_id) FROM chat_message m2 WHERE m2.room_id = r.room_id) " +
+			"LEFT JOIN user su ON su.user_id = lm.sender_id " +
+			"WHERE p.user_id = :userId " +
+			"ORDER BY r.last_message_at IS NULL, r.last_message_at DESC, r.room_id DESC",
+			nativeQuery = true)
+	List<Object[]> findRoomSummaryRows(@Param("userId") String userId);
 }
 
 
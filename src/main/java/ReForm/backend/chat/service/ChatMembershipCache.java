@@ -0,0 +1,53 @@
+package ReForm.backend.chat.service;
+
+import ReForm.backend.chat.repository.ChatParticipantRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 채팅방 참여 여부 캐시 (WebSocket JOIN/TALK 검증용)
+ * - TALK마다 chat_participant를 조회하지 않도록 참여 중인 (방, 사용자)만 보관합니다. 참여자가 아닌 결과는 캐시하지 않습니다.
+ * - 방 나가기 시 invalidate 해야 합니다.
+ *   인스턴스별 캐시이므로 다른 인스턴스에서 나간 사용자는 TTL 이내에 반영됩니다.
+ */
+@Component
+public class ChatMembershipCache {
+
+	private record RoomMember(Long roomId, String userId) {}
+
+	private final ChatParticipantRepository chatParticipantRepository;
+	private final Cache<RoomMember, Boolean> activeMembers;
+
+	public ChatMembershipCache(ChatParticipantRepository chatParticipantRepository,
+							   @Value("${chat.membership-cache.max-size:100000}") long maxSize,
+							   @Value("${chat.membership-cache.ttl-seconds:60}") long ttlSeconds) {
+		this.chatParticipantRepository = chatParticipantRepository;
+		this.activeMembers = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+				.build();
+	}
+
+	/**
+	 * 방 참여 여부 (참여자 행이 있고 나가지 않은 경우, ChatService.isActiveParticipant와 같은 조건)
+	 */
+	public boolean isActiveParticipant(Long roomId, String userId) {
+		if (roomId == null || userId == null) {
+			return false;
+		}
+		Boolean active = activeMembers.get(new RoomMember(roomId, userId), key ->
+				chatParticipantRepository.existsByRoom_IdAndUser_UserIdAndLeftAtIsNull(key.roomId(), key.userId()) ? Boolean.TRUE : null);
+		return active != null;
+	}
+
+	/**
+	 * 방 나가기 등으로 참여 상태가 바뀌었을 때 호출
+	 */
+	public void invalidate(Long roomId, String userId) {
+		activeMembers.invalidate(new RoomMember(roomId, userId));
+	}
+}
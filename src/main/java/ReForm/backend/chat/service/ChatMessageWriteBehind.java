@@ -0,0 +1,213 @@
+package ReForm.backend.chat.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TALK 메시지 write-behind 저장
+ * - WebSocket 스레드는 메시지를 큐에 넣고 바로 브로드캐스트하며, 저장은 전용 스레드가 JDBC 배치로 수행합니다.
+ * - 한 번의 flush에서 chat_message INSERT는 배치로, chat_room.last_message_at은 방별 최신 값 하나로 합쳐서
+ *   한 번씩만 UPDATE 합니다. (두 작업은 하나의 트랜잭션)
+ * - 발신자의 읽음 시각은 ChatReadReceiptBuffer에 기록해 읽음 처리 배치와 함께 반영합니다.
+ * - 지연 상한: 큐에 들어온 메시지는 flush-interval-ms 이내(또는 batch-size가 차는 즉시) 저장됩니다.
+ * - 역압: 큐가 가득 차면 enqueue-timeout-ms 동안 기다리고, 그래도 자리가 없으면 메시지를 거부합니다. (append가 false)
+ *   큐를 우회해 호출 스레드에서 저장하면 아직 큐에 있는 메시지보다 message_id가 앞서 방 내 순서가 깨지므로 우회 저장은 하지 않습니다.
+ * - 순서: 단일 저장 스레드가 FIFO로 처리하므로 message_id와 created_at은 수신 순서를 따릅니다.
+ *   배치가 실패하면 같은 순서로 한 건씩 다시 저장하고, 저장할 수 없는 메시지(삭제된 방 등)만 버립니다.
+ * - 종료 시(@PreDestroy) 남은 큐를 모두 저장합니다. 프로세스가 비정상 종료되면 아직 flush되지 않은 메시지(최대 flush 주기분)는 유실될 수 있습니다.
+ */
+@Component
+@Slf4j
+public class ChatMessageWriteBehind {
+
+	private static final String INSERT_MESSAGE =
+			"INSERT INTO chat_message (room_id, sender_id, content, created_at) VALUES (?, ?, ?, ?)";
+	private static final String TOUCH_ROOM =
+			"UPDATE chat_room SET last_message_at = ? WHERE room_id = ? AND (last_message_at IS NULL OR last_message_at < ?)";
+
+	private record PendingMessage(Long roomId, String senderUserId, String content, LocalDateTime createdAt) {}
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final ChatReadReceiptBuffer chatReadReceiptBuffer;
+
+	private final BlockingQueue<PendingMessage> queue;
+	private final int batchSize;
+	private final long flushIntervalMs;
+	private final long enqueueTimeoutMs;
+
+	private final LongAdder persisted = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+
+	private volatile boolean running;
+	private Thread writer;
+
+	public ChatMessageWriteBehind(JdbcTemplate jdbcTemplate,
+								  TransactionTemplate transactionTemplate,
+								  ChatReadReceiptBuffer chatReadReceiptBuffer,
+								  @Value("${chat.persist.queue-capacity:10000}") int queueCapacity,
+								  @Value("${chat.persist.batch-size:200}") int batchSize,
+								  @Value("${chat.persist.flush-interval-ms:50}") long flushIntervalMs,
+								  @Value("${chat.persist.enqueue-timeout-ms:200}") long enqueueTimeoutMs) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+		this.chatReadReceiptBuffer = chatReadReceiptBuffer;
+		this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+		this.batchSize = Math.max(1, batchSize);
+		this.flushIntervalMs = Math.max(1, flushIntervalMs);
+		this.enqueueTimeoutMs = enqueueTimeoutMs;
+	}
+
+	@PostConstruct
+	void start() {
+		running = true;
+		writer = new Thread(this::runLoop, "chat-persist");
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	/**
+	 * TALK 메시지 저장 요청 (발신자는 이 메시지까지 읽은 것으로 처리)
+	 * @return 큐에 들어갔으면 true, 큐 포화(enqueue-timeout-ms 초과) 또는 종료 중이면 false (호출자는 메시지를 방송하지 않고 거부)
+	 */
+	public boolean append(Long roomId, String senderUserId, String content) {
+		PendingMessage message = new PendingMessage(roomId, senderUserId, content, LocalDateTime.now());
+		try {
+			if (running && queue.offer(message, enqueueTimeoutMs, TimeUnit.MILLISECONDS)) {
+				if (senderUserId != null) {
+					chatReadReceiptBuffer.mark(roomId, senderUserId, message.createdAt());
+				}
+				return true;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		rejected.increment();
+		return false;
+	}
+
+	/**
+	 * 저장 파이프라인 지표
+	 */
+	public Map<String, Object> stats() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("queued", queue.size());
+		stats.put("persisted", persisted.sum());
+		stats.put("rejected", rejected.sum());
+		stats.put("failed", failed.sum());
+		return stats;
+	}
+
+	@PreDestroy
+	void stop() throws InterruptedException {
+		running = false;
+		writer.interrupt();
+		writer.join(TimeUnit.SECONDS.toMillis(10));
+		// 저장 스레드가 끝난 뒤 남은 메시지 정리
+		List<PendingMessage> rest = new ArrayList<>();
+		queue.drainTo(rest);
+		if (!rest.isEmpty()) {
+			flush(rest);
+		}
+	}
+
+	private void runLoop() {
+		List<PendingMessage> batch = new ArrayList<>(batchSize);
+		while (running || !queue.isEmpty()) {
+			try {
+				PendingMessage first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				// 첫 메시지 기준으로 flush-interval-ms까지 모아서 한 번에 저장
+				long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+				while (batch.size() < batchSize) {
+					queue.drainTo(batch, batchSize - batch.size());
+					long remaining = deadline - System.nanoTime();
+					if (batch.size() >= batchSize || remaining <= 0) {
+						break;
+					}
+					PendingMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+					if (next == null) {
+						break;
+					}
+					batch.add(next);
+				}
+			} catch (InterruptedException e) {
+				if (running) {
+					continue;
+				}
+				queue.drainTo(batch);
+			}
+			if (!batch.isEmpty()) {
+				flush(batch);
+				batch.clear();
+			}
+		}
+	}
+
+	private void flush(List<PendingMessage> batch) {
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				jdbcTemplate.batchUpdate(INSERT_MESSAGE, batch, batch.size(), (ps, m) -> {
+					ps.setLong(1, m.roomId());
+					ps.setString(2, m.senderUserId());
+					ps.setString(3, m.content());
+					ps.setTimestamp(4, Timestamp.valueOf(m.createdAt()));
+				});
+				applyCoalescedUpdates(batch);
+			});
+			persisted.add(batch.size());
+		} catch (Exception e) {
+			log.warn("[ChatMessageWriteBehind] 배치 저장 실패, 건별 재시도 - size={} err={}", batch.size(), e.getMessage());
+			for (PendingMessage m : batch) {
+				flushOne(m);
+			}
+		}
+	}
+
+	// 배치 실패 시 한 건씩 저장 (같은 순서 유지)
+	private void flushOne(PendingMessage m) {
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				jdbcTemplate.update(INSERT_MESSAGE, m.roomId(), m.senderUserId(), m.content(), Timestamp.valueOf(m.createdAt()));
+				applyCoalescedUpdates(List.of(m));
+			});
+			persisted.increment();
+		} catch (Exception e) {
+			failed.increment();
+			log.error("[ChatMessageWriteBehind] 메시지 저장 실패로 버림 - roomId={} senderId={} err={}",
+					m.roomId(), m.senderUserId(), e.getMessage());
+		}
+	}
+
+	// 방별 last_message_at을 최신 값 하나로 합쳐 UPDATE
+	private void applyCoalescedUpdates(List<PendingMessage> batch) {
+		Map<Long, LocalDateTime> lastMessageAt = new HashMap<>();
+		for (PendingMessage m : batch) {
+			lastMessageAt.merge(m.roomId(), m.createdAt(), (a, b) -> a.isAfter(b) ? a : b);
+		}
+		List<Object[]> roomArgs = new ArrayList<>(lastMessageAt.size());
+		lastMessageAt.forEach((roomId, at) -> roomArgs.add(new Object[]{Timestamp.valueOf(at), roomId, Timestamp.valueOf(at)}));
+		jdbcTemplate.batchUpdate(TOUCH_ROOM, roomArgs);
+	}
+}
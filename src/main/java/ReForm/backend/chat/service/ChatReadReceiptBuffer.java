@@ -0,0 +1,105 @@
+package ReForm.backend.chat.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅 읽음 처리 버퍼
+ * - 읽음 시각은 (방, 사용자)별 최댓값(high-water mark)만 메모리에 보관하고, 주기적으로 한 번의 배치 UPDATE로 반영합니다.
+ *   연속된 메시지 100건을 읽어도 DB 쓰기는 flush당 한 번입니다.
+ * - UPDATE는 DB 값보다 새로운 경우에만 반영되므로 flush 순서가 뒤바뀌어도 읽음 시각이 뒤로 가지 않습니다.
+ * - 미확인 수 계산은 latest()로 아직 반영되지 않은 값을 함께 확인합니다.
+ * - 인스턴스 메모리에 보관하므로 비정상 종료 시 마지막 flush 이후의 읽음 시각은 유실될 수 있습니다. (다음 읽음 처리 때 다시 갱신됨)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChatReadReceiptBuffer {
+
+	private static final String MARK_READ =
+			"UPDATE chat_participant SET last_read_at = ? WHERE room_id = ? AND user_id = ? AND (last_read_at IS NULL OR last_read_at < ?)";
+
+	private record ReaderKey(Long roomId, String userId) {}
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final Map<ReaderKey, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+	/**
+	 * 읽음 시각 기록 (기존 값보다 새로운 경우에만 갱신)
+	 */
+	public void mark(Long roomId, String userId, LocalDateTime at) {
+		pending.merge(new ReaderKey(roomId, userId), at, (a, b) -> a.isAfter(b) ? a : b);
+	}
+
+	/**
+	 * 아직 DB에 반영되지 않은 읽음 시각
+	 */
+	public Optional<LocalDateTime> latest(Long roomId, String userId) {
+		return Optional.ofNullable(pending.get(new ReaderKey(roomId, userId)));
+	}
+
+	/**
+	 * 대기 중인 읽음 시각을 배치 UPDATE로 반영 (기본: 1초마다)
+	 */
+	@Scheduled(fixedDelayString = "${chat.read-receipt.flush-interval-ms:1000}")
+	public void flush() {
+		flushMatching(null);
+	}
+
+	/**
+	 * 특정 사용자의 대기 중인 읽음 시각만 즉시 반영 (DB에서 미확인 수를 계산하기 전에 사용)
+	 * - 조회 트랜잭션이 열리기 전에 호출해야 합니다. (readOnly 트랜잭션 안에서는 UPDATE가 거부될 수 있음)
+	 */
+	public void flushUser(String userId) {
+		flushMatching(userId);
+	}
+
+	@PreDestroy
+	void flushOnShutdown() {
+		flush();
+	}
+
+	private void flushMatching(String userId) {
+		if (pending.isEmpty()) {
+			return;
+		}
+		List<Map.Entry<ReaderKey, LocalDateTime>> snapshot = new ArrayList<>();
+		for (Map.Entry<ReaderKey, LocalDateTime> e : pending.entrySet()) {
+			if (userId == null || userId.equals(e.getKey().userId())) {
+				snapshot.add(Map.entry(e.getKey(), e.getValue()));
+			}
+		}
+		if (snapshot.isEmpty()) {
+			return;
+		}
+		List<Object[]> args = new ArrayList<>(snapshot.size());
+		for (Map.Entry<ReaderKey, LocalDateTime> e : snapshot) {
+			Timestamp at = Timestamp.valueOf(e.getValue());
+			args.add(new Object[]{at, e.getKey().roomId(), e.getKey().userId(), at});
+		}
+		try {
+			jdbcTemplate.batchUpdate(MARK_READ, args);
+		} catch (Exception ex) {
+			// 실패한 값은 남겨두고 다음 flush에서 재시도
+			log.warn("[ChatReadReceiptBuffer] 읽음 시각 반영 실패 - size={} err={}", snapshot.size(), ex.getMessage());
+			return;
+		}
+		// 반영한 값과 같은 경우에만 제거 (flush 도중 더 새로운 값이 들어왔으면 유지)
+		for (Map.Entry<ReaderKey, LocalDateTime> e : snapshot) {
+			pending.remove(e.getKey(), e.getValue());
+		}
+	}
+}
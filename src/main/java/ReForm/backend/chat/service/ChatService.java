@@ -1,6 +1,7 @@
 package ReForm.backend.chat.service;
 
-import ReForm.backend.chat.entity.ChatMessage;
+import ReForm.backend.chat.dto.ChatMessageView;
+import ReForm.backend.chat.dto.ChatRoomSummary;
 import ReForm.backend.chat.entity.ChatParticipant;
 import ReForm.backend.chat.entity.ChatRoom;
 import ReForm.backend.chat.repository.ChatMessageRepository;
@@ -13,8 +14,10 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,8 +25,9 @@ import java.util.Optional;
  * 채팅 도메인 서비스
  * 책임
  * - 채팅방 수명주기: 생성, 내 방 조회, 나가기
- * - 메시지 영속화: TALK 수신 시 DB 저장, 최근 내역 조회
+ * - 메시지 내역 조회 (TALK 저장은 ChatMessageWriteBehind가 배치로 수행)
  * - 읽음 처리: 사용자별 마지막 읽은 시각(lastReadAt) 업데이트 및 미확인 수 계산
+ *   (lastReadAt은 ChatReadReceiptBuffer에 모았다가 배치로 반영)
  */
 @Service
 @RequiredArgsConstructor
@@ -33,6 +37,7 @@ public class ChatService {
 	private final ChatParticipantRepository chatParticipantRepository;
 	private final ChatMessageRepository chatMessageRepository;
 	private final UserRepository userRepository;
+	private final ChatReadReceiptBuffer chatReadReceiptBuffer;
 
 	/**
 	 * 채팅방 생성 및 참가자 등록
@@ -87,45 +92,68 @@ public class ChatService {
 	}
 
 	/**
-	 * 메시지 저장: TALK 수신 시 사용. 방의 lastMessageAt 갱신 포함
+	 * 방 참여 여부 (참여자 행이 있고 나가지 않은 경우)
 	 */
-	@Transactional
-	public ChatMessage saveMessage(Long roomId, String senderUserId, String content) {
-		ChatRoom room = requireRoom(roomId);
-		User sender = senderUserId != null ? requireUser(senderUserId) : null;
-		ChatMessage msg = ChatMessage.builder()
-				.room(room)
-				.sender(sender)
-				.content(content)
-				.createdAt(LocalDateTime.now())
-				.build();
-		chatMessageRepository.save(msg);
-		room.touchLastMessageAt(msg.getCreatedAt());
-		chatRoomRepository.save(room);
-		return msg;
+	@Transactional(readOnly = true)
+	public boolean isActiveParticipant(Long roomId, String userId) {
+		return chatParticipantRepository.existsByRoom_IdAndUser_UserIdAndLeftAtIsNull(roomId, userId);
 	}
 
 	/**
-	 * 최근 메시지 내역 조회 (시간 오름차순, size개)
+	 * 내 채팅방 목록 요약 (마지막 메시지 미리보기 + 미확인 수, 최근 메시지 순)
+	 * - 방 개수와 무관하게 쿼리 한 번으로 계산 (방별 unreadCount 호출 불필요)
+	 * - 아직 반영되지 않은 내 읽음 시각을 먼저 flush 하여 미확인 수에 반영
+	 *   (트랜잭션 없이 flush를 먼저 커밋한 뒤 조회하므로 요청당 커넥션은 한 번에 하나만 사용)
+	 */
+	public List<ChatRoomSummary> findRoomSummaries(String userId) {
+		chatReadReceiptBuffer.flushUser(userId);
+		List<Object[]> rows = chatParticipantRepository.findRoomSummaryRows(userId);
+		List<ChatRoomSummary> summaries = new ArrayList<>(rows.size());
+		for (Object[] row : rows) {
+			summaries.add(new ChatRoomSummary(
+					((Number) row[0]).longValue(),
+					(String) row[1],
+					toLocalDateTime(row[2]),
+					toLocalDateTime(row[3]),
+					row[4] == null ? null : ((Number) row[4]).longValue(),
+					(String) row[5],
+					(String) row[6],
+					((Number) row[7]).longValue()
+			));
+		}
+		return summaries;
+	}
+
+	/**
+	 * 메시지 내역 조회 (message_id 커서, 결과는 항상 시간 오름차순)
+	 * - before/after 모두 없으면 가장 최근 size개
+	 * - before: 해당 메시지보다 이전 size개 (위로 스크롤)
+	 * - after: 해당 메시지 이후 size개 (놓친 메시지 따라잡기)
 	 */
 	@Transactional(readOnly = true)
-	public List<ChatMessage> loadRecentMessages(Long roomId, int size) {
-		ChatRoom room = requireRoom(roomId);
-		return chatMessageRepository.findByRoomOrderByCreatedAtAsc(room, PageRequest.of(0, size));
+	public List<ChatMessageView> loadMessages(Long roomId, Long beforeId, Long afterId, int size) {
+		if (beforeId != null && afterId != null) {
+			throw new IllegalArgumentException("before와 after는 함께 사용할 수 없습니다.");
+		}
+		PageRequest page = PageRequest.of(0, size);
+		if (afterId != null) {
+			return chatMessageRepository.findViewsAfter(roomId, afterId, page);
+		}
+		List<ChatMessageView> newestFirst = beforeId != null
+				? chatMessageRepository.findViewsBefore(roomId, beforeId, page)
+				: chatMessageRepository.findLatestViews(roomId, page);
+		List<ChatMessageView> ascending = new ArrayList<>(newestFirst);
+		Collections.reverse(ascending);
+		return ascending;
 	}
 
 	/**
 	 * 읽음 처리: 해당 사용자의 lastReadAt=now
 	 * - 미확인 메시지 수 계산의 기준 시각이 됨
+	 * - 메모리 버퍼에 기록만 하고 DB 반영은 주기적 배치 UPDATE로 수행 (참여자가 아니면 UPDATE 대상이 없어 무시됨)
 	 */
-	@Transactional
 	public void markRead(Long roomId, String userId) {
-		ChatRoom room = requireRoom(roomId);
-		User user = requireUser(userId);
-		ChatParticipant p = chatParticipantRepository.findByRoomAndUser(room, user)
-				.orElseThrow(() -> new IllegalArgumentException("Participant not found"));
-		p.markRead(LocalDateTime.now());
-		chatParticipantRepository.save(p);
+		chatReadReceiptBuffer.mark(roomId, userId, LocalDateTime.now());
 	}
 
 	/**
@@ -156,6 +184,7 @@ public class ChatService {
 
 	/**
 	 * 미확인 메시지 수: lastReadAt 이후에 생성된 메시지 개수
+	 * - lastReadAt은 DB 값과 아직 반영되지 않은 버퍼 값 중 최신 값을 사용
 	 */
 	@Transactional(readOnly = true)
 	public long unreadCount(Long roomId, String userId) {
@@ -163,9 +192,19 @@ public class ChatService {
 		User user = requireUser(userId);
 		Optional<ChatParticipant> opt = chatParticipantRepository.findByRoomAndUser(room, user);
 		LocalDateTime lastRead = opt.map(ChatParticipant::getLastReadAt).orElse(LocalDateTime.MIN);
+		LocalDateTime buffered = chatReadReceiptBuffer.latest(roomId, userId).orElse(null);
+		if (buffered != null && (lastRead == null || buffered.isAfter(lastRead))) {
+			lastRead = buffered;
+		}
 		return chatMessageRepository.countByRoomAndCreatedAtAfter(room, lastRead);
 	}
 
+	// 네이티브 쿼리의 DATETIME 컬럼은 드라이버/Hibernate 설정에 따라 Timestamp 또는 LocalDateTime으로 반환됨
+	private static LocalDateTime toLocalDateTime(Object value) {
+		if (value instanceof Timestamp ts) return ts.toLocalDateTime();
+		return (LocalDateTime) value;
+	}
+
 	private User requireUser(String userId) {
 		return userRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException("User not found"));
 	}
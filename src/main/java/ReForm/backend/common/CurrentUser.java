@@ -0,0 +1,18 @@
+package ReForm.backend.common;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 파라미터에 현재 인증된 사용자를 주입
+ * - String 타입: userId
+ * - AuthenticatedUser 타입: 인증 사용자 전체 정보 (userId, email, 이름, 닉네임, 권한)
+ * - 인증되지 않은 요청이면 null이 주입되므로 컨트롤러에서 401 처리
+ * - JwtAuthenticationFilter가 SecurityContext에 저장한 principal을 읽으므로 DB 조회가 없습니다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUser {
+}
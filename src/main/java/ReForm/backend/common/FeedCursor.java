@@ -0,0 +1,63 @@
+package ReForm.backend.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(keyset) 페이지네이션 커서
+ * - (created_at, id) 조합으로 마지막으로 내려준 행의 위치를 표현합니다.
+ * - 클라이언트에는 Base64(URL-safe) 문자열로 전달되며, 다음 페이지 요청 시 그대로 돌려받습니다.
+ * - OFFSET 방식과 달리 중간에 글이 추가/삭제되어도 다음 페이지가 밀리거나 중복되지 않습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class FeedCursor {
+
+	private static final String SEPARATOR = "|";
+
+	private final LocalDateTime createdAt;
+	private final Integer id;
+
+	/**
+	 * 커서 문자열 생성 (예: "2025-01-01T12:00:00|42" → Base64)
+	 */
+	public String encode() {
+		String raw = createdAt + SEPARATOR + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 커서 문자열 해석
+	 * - 비어 있으면 첫 페이지 요청으로 보고 null 반환
+	 * - 형식이 잘못된 경우 IllegalArgumentException (컨트롤러에서 400 처리)
+	 */
+	public static FeedCursor decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int idx = raw.lastIndexOf(SEPARATOR);
+			if (idx < 0) {
+				throw new IllegalArgumentException("잘못된 커서입니다.");
+			}
+			LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, idx));
+			Integer id = Integer.valueOf(raw.substring(idx + 1));
+			return new FeedCursor(createdAt, id);
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new IllegalArgumentException("잘못된 커서입니다.");
+		}
+	}
+
+	/**
+	 * 요청 page size를 [1, max] 범위로 제한
+	 */
+	public static int boundedSize(int requested, int max) {
+		return Math.max(1, Math.min(requested, max));
+	}
+}
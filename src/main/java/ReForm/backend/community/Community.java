@@ -15,7 +15,10 @@ import java.time.LocalDateTime;
 @Entity
 @Builder
 
-@Table(name = "community")
+@Table(name = "community", indexes = {
+		// 피드 키셋 페이지네이션용 (created_at DESC, community_id DESC)
+		@Index(name = "idx_community_created_at_id", columnList = "created_at, community_id")
+})
 public class Community {
 
 	@Id
@@ -41,6 +44,15 @@ public class Community {
 
 	@Column(name = "tag_content")
 	private String tagContent;
+
+	// 좋아요/댓글 수 (비정규화 카운터)
+	// - 엔티티 저장(save) 시에는 쓰지 않고, 좋아요/댓글 변경과 같은 트랜잭션의 원자적 UPDATE로만 증감
+	// - 드리프트는 주기적 재계산 작업(reconcileCounters)으로 보정
+	@Column(name = "like_count", insertable = false, updatable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+	private Long likeCount;
+
+	@Column(name = "comment_count", insertable = false, updatable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+	private Long commentCount;
 }
 
 
@@ -3,31 +3,41 @@ package ReForm.backend.community;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import ReForm.backend.image.ImageRenditionService;
+import ReForm.backend.image.StoredImage;
 import ReForm.backend.s3.AwsS3Service;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 public class CommunityImageService {
 
-	private final AwsS3Service awsS3Service;
+	private final ImageRenditionService imageRenditionService;
 
 	/**
 	 * 커뮤니티 단일 이미지 업로드
-	 * - 커뮤니티용 prefix(community/) 하위에 저장하고 공개 URL을 반환합니다.
+	 * - 커뮤니티용 prefix(community/) 하위에 full/card/thumbnail rendition을 저장하고 키/URL을 반환합니다.
 	 */
-	public String store(MultipartFile file) {
-		return awsS3Service.store(file, AwsS3Service.Category.COMMUNITY);
+	public StoredImage store(MultipartFile file) {
+		return imageRenditionService.store(file, AwsS3Service.Category.COMMUNITY);
 	}
 
 	/**
 	 * 커뮤니티 다중 이미지 업로드
-	 * - 각 파일을 community/ 하위에 업로드하고 공개 URL 리스트를 반환합니다.
+	 * - storeAllAsync 결과를 기다려 입력 순서대로 반환합니다.
 	 */
-	public List<String> storeAll(List<MultipartFile> files) {
-		return awsS3Service.uploadFiles(files, AwsS3Service.Category.COMMUNITY);
+	public List<StoredImage> storeAll(List<MultipartFile> files) {
+		return storeAllAsync(files).join();
 	}
-}
-
 
+	/**
+	 * 커뮤니티 다중 이미지 병렬 업로드 (비동기)
+	 * - 모든 파일을 community/ 하위에 동시에 변환/업로드하고, 완료 시 입력 순서대로 돌려줍니다.
+	 * - 전체 제한 시간을 넘거나 하나라도 실패하면 예외로 완료되며 이미 올라간 파일은 정리됩니다.
+	 */
+	public CompletableFuture<List<StoredImage>> storeAllAsync(List<MultipartFile> files) {
+		return imageRenditionService.storeAllAsync(files, AwsS3Service.Category.COMMUNITY);
+	}
+}
@@ -0,0 +1,309 @@
+package ReForm.backend.community;
+
+import ReForm.backend.community.repository.CommunityLikeRepository;
+import ReForm.backend.community.repository.CommunityRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 좋아요 순위(Top-K) 인메모리 리더보드
+ * - 좋아요 등록/삭제 시 점수를 증감하고, 정렬된 집합에서 상위 K개를 바로 꺼내 응답합니다.
+ * - 기간별 순위(24시간, 7일)는 1시간 단위 버킷(168개 링 버퍼)으로 관리하며,
+ *   버킷이 기간 밖으로 밀려나면 해당 버킷의 좋아요 수만큼 점수를 차감합니다.
+ * - 애플리케이션 기동 시, 그리고 매일 카운터 보정(CommunityReactionService.reconcileCounters) 직후 DB(like_count, 최근 7일 좋아요)로 재구성합니다.
+ *   DB 조회를 시작한 뒤 들어온 좋아요/삭제는 기존 순위에 바로 반영하면서 따로 기록해 두고,
+ *   조회 결과로 교체한 직후 다시 적용하므로 재구성 중의 변경이 사라지지 않습니다.
+ * - 인스턴스별 메모리 구조이므로 다른 인스턴스에서 발생한 좋아요는 다음 재구성 전까지 반영되지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CommunityLeaderboard {
+
+	/**
+	 * 순위 집계 기간
+	 */
+	public enum Window {
+		ALL(0), DAY(24), WEEK(168);
+
+		private final int hours;
+
+		Window(int hours) {
+			this.hours = hours;
+		}
+
+		// 요청 파라미터(all, 24h, 7d) → Window
+		public static Window from(String value) {
+			if (value == null || value.isBlank() || value.equalsIgnoreCase("all")) return ALL;
+			if (value.equalsIgnoreCase("24h") || value.equalsIgnoreCase("day")) return DAY;
+			if (value.equalsIgnoreCase("7d") || value.equalsIgnoreCase("week")) return WEEK;
+			throw new IllegalArgumentException("지원하지 않는 기간입니다: " + value);
+		}
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static class Entry {
+		private final Integer communityId;
+		private final long likeCount;
+	}
+
+	// 1시간 버킷 168개 = 7일
+	private static final int BUCKET_COUNT = 168;
+	private static final ZoneId ZONE = ZoneId.systemDefault();
+
+	private final CommunityRepository communityRepository;
+	private final CommunityLikeRepository communityLikeRepository;
+
+	@Value("${community.leaderboard.max-size:50}")
+	private int maxSize;
+
+	private final Board allTime = new Board();
+	private final Board day = new Board();
+	private final Board week = new Board();
+
+	// 버킷별 (게시글 ID -> 해당 시간대 좋아요 수), 버킷이 담당하는 epoch hour
+	@SuppressWarnings("unchecked")
+	private final Map<Integer, Long>[] buckets = new Map[BUCKET_COUNT];
+	private final long[] bucketHours = new long[BUCKET_COUNT];
+	private long currentHour = epochHour(LocalDateTime.now());
+
+	private final Object rebuildLock = new Object();
+	// 재구성 중일 때만 존재: DB 조회 시작 후 반영된 변경 (교체 후 재적용, 모니터 하에서만 접근)
+	private List<Runnable> pending;
+
+	/**
+	 * DB 기준으로 리더보드 재구성
+	 * - 전체 기간: community.like_count
+	 * - 24시간/7일: 최근 7일 community_like.liked_at
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		synchronized (rebuildLock) {
+			List<Runnable> changes = new ArrayList<>();
+			synchronized (this) {
+				pending = changes;
+			}
+			try {
+				LocalDateTime now = LocalDateTime.now();
+				List<Object[]> totals = communityRepository.findPositiveLikeCounts();
+				List<Object[]> recent = communityLikeRepository.findLikedAtSince(now.minusHours(BUCKET_COUNT));
+
+				synchronized (this) {
+					allTime.clear();
+					day.clear();
+					week.clear();
+					for (int i = 0; i < BUCKET_COUNT; i++) {
+						buckets[i] = null;
+						bucketHours[i] = -1;
+					}
+					currentHour = epochHour(now);
+
+					for (Object[] row : totals) {
+						allTime.add((Integer) row[0], (Long) row[1]);
+					}
+					for (Object[] row : recent) {
+						addToWindows((Integer) row[0], (LocalDateTime) row[1], 1);
+					}
+					changes.forEach(Runnable::run);
+				}
+				log.info("[CommunityLeaderboard] 재구성 완료 - posts={}, recentLikes={}, replayed={}",
+						totals.size(), recent.size(), changes.size());
+			} finally {
+				synchronized (this) {
+					pending = null;
+				}
+			}
+		}
+	}
+
+	/**
+	 * 좋아요 등록 반영
+	 */
+	public synchronized void recordLike(Integer communityId, LocalDateTime likedAt) {
+		record(() -> {
+			allTime.add(communityId, 1);
+			addToWindows(communityId, likedAt, 1);
+		});
+	}
+
+	/**
+	 * 좋아요 삭제 반영 (likedAt: 삭제되는 좋아요가 등록된 시각)
+	 */
+	public synchronized void recordUnlike(Integer communityId, LocalDateTime likedAt) {
+		record(() -> {
+			allTime.add(communityId, -1);
+			addToWindows(communityId, likedAt, -1);
+		});
+	}
+
+	/**
+	 * 게시글 삭제 시 모든 순위에서 제거
+	 */
+	public synchronized void removePost(Integer communityId) {
+		record(() -> {
+			allTime.remove(communityId);
+			day.remove(communityId);
+			week.remove(communityId);
+			for (Map<Integer, Long> bucket : buckets) {
+				if (bucket != null) bucket.remove(communityId);
+			}
+		});
+	}
+
+	/**
+	 * 기간별 상위 K개 (좋아요 수 내림차순, 동률이면 최신 게시글 우선)
+	 */
+	public synchronized List<Entry> top(Window window, int k) {
+		advanceTo(epochHour(LocalDateTime.now()));
+		Board board = switch (window) {
+			case ALL -> allTime;
+			case DAY -> day;
+			case WEEK -> week;
+		};
+		return board.top(Math.max(1, Math.min(k, maxSize)));
+	}
+
+	/**
+	 * 시간 버킷 회전 (요청이 없어도 만료 버킷이 쌓이지 않도록 주기 실행)
+	 */
+	@Scheduled(fixedDelayString = "${community.leaderboard.rotate-interval-ms:60000}")
+	public synchronized void rotate() {
+		advanceTo(epochHour(LocalDateTime.now()));
+	}
+
+	// 현재 순위에 반영하고, 재구성 중이면 교체 후 재적용하도록 기록
+	private void record(Runnable change) {
+		change.run();
+		if (pending != null) {
+			pending.add(change);
+		}
+	}
+
+	// likedAt 시간대 버킷과 24시간/7일 점수에 delta 반영 (7일보다 오래된 좋아요는 전체 기간에만 반영)
+	private void addToWindows(Integer communityId, LocalDateTime likedAt, long delta) {
+		if (likedAt == null) return;
+		long hour = epochHour(likedAt);
+		if (hour > currentHour) {
+			advanceTo(hour);
+		}
+		long age = currentHour - hour;
+		if (age >= BUCKET_COUNT) return;
+
+		// 창 안의 시간대는 슬롯당 하나뿐이므로, 다른 시간대가 들어 있다면 이미 만료된 버킷
+		int slot = (int) (hour % BUCKET_COUNT);
+		if (bucketHours[slot] != hour) {
+			buckets[slot] = null;
+			bucketHours[slot] = hour;
+		}
+		Map<Integer, Long> bucket = buckets[slot];
+		if (bucket == null) {
+			bucket = new HashMap<>();
+			buckets[slot] = bucket;
+		}
+		bucket.merge(communityId, delta, Long::sum);
+		if (bucket.get(communityId) <= 0) bucket.remove(communityId);
+
+		week.add(communityId, delta);
+		if (age < Window.DAY.hours) {
+			day.add(communityId, delta);
+		}
+	}
+
+	// currentHour를 toHour까지 전진시키며 기간 밖으로 나가는 버킷 점수 차감
+	private void advanceTo(long toHour) {
+		if (toHour <= currentHour) {
+			return;
+		}
+		if (toHour - currentHour >= BUCKET_COUNT) {
+			// 7일 이상 공백: 기간 점수 전체 초기화
+			day.clear();
+			week.clear();
+			for (int i = 0; i < BUCKET_COUNT; i++) {
+				buckets[i] = null;
+				bucketHours[i] = -1;
+			}
+			currentHour = toHour;
+			return;
+		}
+		for (long h = currentHour + 1; h <= toHour; h++) {
+			// 24시간 창에서 빠지는 버킷
+			int daySlot = (int) ((h - Window.DAY.hours) % BUCKET_COUNT);
+			if (bucketHours[daySlot] == h - Window.DAY.hours && buckets[daySlot] != null) {
+				buckets[daySlot].forEach((id, count) -> day.add(id, -count));
+			}
+			// 7일 창에서 빠지는 버킷 (새 시간대가 같은 슬롯을 재사용)
+			int slot = (int) (h % BUCKET_COUNT);
+			if (bucketHours[slot] == h - BUCKET_COUNT && buckets[slot] != null) {
+				buckets[slot].forEach((id, count) -> week.add(id, -count));
+			}
+			buckets[slot] = null;
+			bucketHours[slot] = h;
+		}
+		currentHour = toHour;
+	}
+
+	private static long epochHour(LocalDateTime at) {
+		return at.atZone(ZONE).toEpochSecond() / 3600;
+	}
+
+	/**
+	 * 점수 맵 + (점수 내림차순, ID 내림차순) 정렬 집합
+	 * - 외부 동기화(CommunityLeaderboard 모니터) 하에서만 사용
+	 */
+	private static class Board {
+		private static final Comparator<Entry> ORDER = Comparator
+				.comparingLong(Entry::getLikeCount).reversed()
+				.thenComparing(Entry::getCommunityId, Comparator.reverseOrder());
+
+		private final Map<Integer, Long> scores = new HashMap<>();
+		private final TreeSet<Entry> ranking = new TreeSet<>(ORDER);
+
+		void add(Integer id, long delta) {
+			long before = scores.getOrDefault(id, 0L);
+			long after = before + delta;
+			if (before > 0) ranking.remove(new Entry(id, before));
+			if (after > 0) {
+				scores.put(id, after);
+				ranking.add(new Entry(id, after));
+			} else {
+				scores.remove(id);
+			}
+		}
+
+		void remove(Integer id) {
+			Long before = scores.remove(id);
+			if (before != null) ranking.remove(new Entry(id, before));
+		}
+
+		List<Entry> top(int k) {
+			List<Entry> result = new ArrayList<>(Math.min(k, ranking.size()));
+			for (Entry e : ranking) {
+				if (result.size() >= k) break;
+				result.add(e);
+			}
+			return result;
+		}
+
+		void clear() {
+			scores.clear();
+			ranking.clear();
+		}
+	}
+}
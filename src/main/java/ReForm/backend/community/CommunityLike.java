@@ -17,7 +17,10 @@ import java.util.Objects;
 @Entity
 @Builder
 
-@Table(name = "community_like")
+@Table(name = "community_like", indexes = {
+		// 리더보드 기간별(24시간/7일) 재구성 시 최근 좋아요 범위 조회
+		@Index(name = "idx_community_like_liked_at", columnList = "liked_at")
+})
 public class CommunityLike {
 
 	// 복합키를 한 값 객체로 내장하여 PK로 사용 (@Embeddable 클래스 참조)
@@ -0,0 +1,45 @@
+package ReForm.backend.community;
+
+import ReForm.backend.community.repository.CommunityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 커뮤니티 전체 게시글 수 카운터
+ * - 목록 조회마다 COUNT(*)를 실행하지 않도록 메모리에 유지합니다.
+ * - 애플리케이션 기동 시 DB 값으로 초기화하고, 게시글 작성/삭제 시 증감합니다.
+ * - 인스턴스별로 유지되므로 다중 인스턴스 환경에서는 resync()로 주기적 보정이 필요합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CommunityPostCounter {
+
+	private final CommunityRepository communityRepository;
+
+	private final AtomicLong total = new AtomicLong();
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void resync() {
+		long count = communityRepository.count();
+		total.set(count);
+		log.info("[CommunityPostCounter] 게시글 수 동기화 - total={}", count);
+	}
+
+	public long get() {
+		return total.get();
+	}
+
+	public void increment() {
+		total.incrementAndGet();
+	}
+
+	public void decrement() {
+		total.updateAndGet(v -> v > 0 ? v - 1 : 0);
+	}
+}
@@ -0,0 +1,91 @@
+package ReForm.backend.community;
+
+import ReForm.backend.community.repository.CommunityCommentRepository;
+import ReForm.backend.community.repository.CommunityLikeRepository;
+import ReForm.backend.community.repository.CommunityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 커뮤니티 좋아요/댓글 변경 서비스
+ * - 좋아요/댓글 행 추가·삭제와 community.like_count/comment_count 증감을 한 트랜잭션으로 묶습니다.
+ * - 조회 API는 카운터 컬럼만 읽으므로 like/comment 테이블에 COUNT(*)를 실행하지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CommunityReactionService {
+
+	private final CommunityRepository communityRepository;
+	private final CommunityLikeRepository communityLikeRepository;
+	private final CommunityCommentRepository communityCommentRepository;
+	private final CommunityPostCounter communityPostCounter;
+	private final CommunityLeaderboard communityLeaderboard;
+
+	/**
+	 * 좋아요 등록 + like_count 1 증가
+	 * - 행이 실제로 삽입된 경우에만 카운터를 올립니다. (동시 중복 요청이면 false)
+	 */
+	@Transactional
+	public boolean addLike(CommunityLike like) {
+		Integer communityId = like.getCommunity().getCommunityId();
+		if (communityLikeRepository.insertIfAbsent(communityId, like.getUser().getUserId(), like.getLikedAt()) == 0) {
+			return false;
+		}
+		communityRepository.addLikeCount(communityId, 1);
+		return true;
+	}
+
+	/**
+	 * 좋아요 삭제 + like_count 1 감소
+	 * - 행이 실제로 삭제된 경우에만 카운터를 내립니다. (이미 삭제되었으면 false)
+	 */
+	@Transactional
+	public boolean removeLike(Integer communityId, String userId) {
+		if (communityLikeRepository.deleteByCommunityIdAndUserId(communityId, userId) == 0) {
+			return false;
+		}
+		communityRepository.addLikeCount(communityId, -1);
+		return true;
+	}
+
+	/**
+	 * 댓글 등록 + comment_count 1 증가
+	 */
+	@Transactional
+	public CommunityComment addComment(CommunityComment comment) {
+		CommunityComment saved = communityCommentRepository.save(comment);
+		communityRepository.addCommentCount(comment.getCommunity().getCommunityId(), 1);
+		return saved;
+	}
+
+	/**
+	 * 댓글 삭제 + comment_count 1 감소
+	 * - 행이 실제로 삭제된 경우에만 카운터를 내립니다. (동시 삭제 요청이면 false)
+	 */
+	@Transactional
+	public boolean removeComment(Integer communityId, Integer commentId) {
+		if (communityCommentRepository.deleteByCommentId(commentId) == 0) {
+			return false;
+		}
+		communityRepository.addCommentCount(communityId, -1);
+		return true;
+	}
+
+	/**
+	 * 카운터 드리프트 보정 (기본: 매일 04:30)
+	 * - 실제 좋아요/댓글 행 수와 다른 게시글만 다시 계산하고, 전체 게시글 수 카운터도 재동기화
+	 * - 보정된 like_count와 다른 인스턴스에서 발생한 좋아요를 반영하도록 리더보드도 다시 구성
+	 */
+	@Scheduled(cron = "${counters.reconcile.cron:0 30 4 * * *}")
+	@Transactional
+	public void reconcileCounters() {
+		int repaired = communityRepository.reconcileCounters();
+		communityPostCounter.resync();
+		communityLeaderboard.rebuild();
+		log.info("[CommunityReactionService] 카운터 보정 완료 - repairedRows={}", repaired);
+	}
+}
@@ -0,0 +1,31 @@
+package ReForm.backend.community.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 커뮤니티 피드(목록) 조회용 읽기 모델
+ * - 게시글, 작성자 요약, 좋아요/댓글 수를 한 번의 쿼리로 받아오기 위한 JPQL 생성자 프로젝션
+ * - Community/User 엔티티를 로딩하지 않으므로 게시글별 추가 쿼리(N+1)가 발생하지 않음
+ * - thumbnail은 image URL로 uploaded_image를 LEFT JOIN해 함께 가져옴
+ */
+@Getter
+@AllArgsConstructor
+public class CommunityFeedItemDTO {
+
+    private Integer communityId;
+    private String title;
+    private String image;
+    private String thumbnail; // 목록 카드용 축소 이미지 URL (uploaded_image.thumbnail_url, 없으면 null -> image 사용)
+    private LocalDateTime createdAt;
+
+    // 작성자 요약
+    private String authorId;
+    private String author;
+    private String authorProfileImageUrl;
+
+    private Long likeCount;
+    private Long commentCount;
+}
@@ -1,9 +1,19 @@
 package ReForm.backend.community.controller;
 
+import ReForm.backend.common.CurrentUser;
+import ReForm.backend.common.FeedCursor;
 import ReForm.backend.community.Community;
+import ReForm.backend.community.CommunityLeaderboard;
+import ReForm.backend.community.CommunityPostCounter;
+import ReForm.backend.community.CommunityReactionService;
+import ReForm.backend.community.CommunitySearchService;
+import ReForm.backend.community.DTO.CommunityFeedItemDTO;
 import ReForm.backend.community.repository.CommunityRepository;
 import ReForm.backend.community.repository.CommunityLikeRepository;
 import ReForm.backend.community.repository.CommunityCommentRepository;
+import ReForm.backend.image.UploadedImageService;
+import ReForm.backend.s3.AwsS3Service;
+import ReForm.backend.search.InvertedIndex;
 import ReForm.backend.user.User;
 import ReForm.backend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +27,7 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 @RestController
 @RequiredArgsConstructor
@@ -27,6 +38,14 @@ public class CommunityController {
     private final CommunityLikeRepository communityLikeRepository;
     private final CommunityCommentRepository communityCommentRepository;
     private final UserRepository userRepository;
+    private final CommunityPostCounter communityPostCounter;
+    private final CommunityReactionService communityReactionService;
+    private final CommunityLeaderboard communityLeaderboard;
+    private final CommunitySearchService communitySearchService;
+    private final UploadedImageService uploadedImageService;
+
+    // 피드 한 페이지 최대 크기
+    private static final int MAX_FEED_PAGE_SIZE = 50;
 
     /**
      * 커뮤니티 게시글 작성
@@ -34,10 +53,8 @@ public class CommunityController {
      * - 헤더: Authorization: Bearer {access_token}
      */
     @PostMapping("/board")
-    public ResponseEntity<Map<String, Object>> createCommunityPost(@RequestBody CommunityPostRequestDTO request) {
+    public ResponseEntity<Map<String, Object>> createCommunityPost(@RequestBody CommunityPostRequestDTO request, @CurrentUser String userId) {
         try {
-            // 현재 인증된 사용자 ID 추출
-            String userId = getCurrentUserId();
             if (userId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("error", "인증이 필요합니다."));
@@ -59,8 +76,21 @@ public class CommunityController {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-            // DB 저장
-            Community savedCommunity = communityRepository.save(community);
+            // 업로드된 이미지만 연결 (게시글이 이미지 참조를 가짐)
+            if (!uploadedImageService.attach(AwsS3Service.Category.COMMUNITY, request.getImage())) {
+                throw new IllegalArgumentException("등록되지 않은 이미지입니다. 이미지 업로드 후 받은 URL을 사용하세요.");
+            }
+
+            // DB 저장 (실패하면 연결한 이미지 참조만 되돌림)
+            Community savedCommunity;
+            try {
+                savedCommunity = communityRepository.save(community);
+            } catch (RuntimeException e) {
+                uploadedImageService.detach(AwsS3Service.Category.COMMUNITY, request.getImage());
+                throw e;
+            }
+            communityPostCounter.increment();
+            communitySearchService.index(savedCommunity);
 
             // 응답 생성
             Map<String, Object> response = new HashMap<>();
@@ -95,10 +125,9 @@ public class CommunityController {
     @PutMapping("/board/{boardId}")
     public ResponseEntity<Map<String, Object>> updateCommunityPost(
             @PathVariable Integer boardId,
-            @RequestBody CommunityPostRequestDTO request) {
+            @RequestBody CommunityPostRequestDTO request,
+            @CurrentUser String userId) {
         try {
-            // 현재 인증된 사용자 ID 추출
-            String userId = getCurrentUserId();
             if (userId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("error", "인증이 필요합니다."));
@@ -127,8 +156,27 @@ public class CommunityController {
                 .createdAt(existingCommunity.getCreatedAt()) // 생성일은 유지
                 .build();
 
-            // DB 저장
-            Community savedCommunity = communityRepository.save(updatedCommunity);
+            // 이미지가 바뀌었으면 새 이미지를 연결 (업로드된 이미지만)
+            boolean imageChanged = !Objects.equals(existingCommunity.getImage(), request.getImage());
+            if (imageChanged && !uploadedImageService.attach(AwsS3Service.Category.COMMUNITY, request.getImage())) {
+                throw new IllegalArgumentException("등록되지 않은 이미지입니다. 이미지 업로드 후 받은 URL을 사용하세요.");
+            }
+
+            // DB 저장 (실패하면 새로 연결한 이미지 참조만 되돌림)
+            Community savedCommunity;
+            try {
+                savedCommunity = communityRepository.save(updatedCommunity);
+            } catch (RuntimeException e) {
+                if (imageChanged) {
+                    uploadedImageService.detach(AwsS3Service.Category.COMMUNITY, request.getImage());
+                }
+                throw e;
+            }
+            communitySearchService.index(savedCommunity);
+            // 이전 이미지는 이 게시글이 얻은 참조만 해제
+            if (imageChanged) {
+                uploadedImageService.release(existingCommunity.getImage());
+            }
 
             // 응답 생성
             Map<String, Object> response = new HashMap<>();
@@ -161,10 +209,8 @@ public class CommunityController {
      * - 헤더: Authorization: Bearer {access_token}
      */
     @DeleteMapping("/delete-board/{boardId}")
-    public ResponseEntity<Map<String, Object>> deleteCommunityPost(@PathVariable Integer boardId) {
+    public ResponseEntity<Map<String, Object>> deleteCommunityPost(@PathVariable Integer boardId, @CurrentUser String userId) {
         try {
-            // 현재 인증된 사용자 ID 추출
-            String userId = getCurrentUserId();
             if (userId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("error", "인증이 필요합니다."));
@@ -184,6 +230,10 @@ public class CommunityController {
 
             // 게시글 삭제
             communityRepository.delete(existingCommunity);
+            communityPostCounter.decrement();
+            communityLeaderboard.removePost(boardId);
+            communitySearchService.remove(boardId);
+            uploadedImageService.release(existingCommunity.getImage());
 
             // 응답 생성
             Map<String, Object> response = new HashMap<>();
@@ -211,9 +261,8 @@ public class CommunityController {
      * - 헤더: Authorization: Bearer {access_token}
      */
     @PostMapping("/board/{boardId}/like")
-    public ResponseEntity<Map<String, Object>> likeCommunityPost(@PathVariable Integer boardId) {
+    public ResponseEntity<Map<String, Object>> likeCommunityPost(@PathVariable Integer boardId, @CurrentUser String userId) {
         try {
-            String userId = getCurrentUserId();
             if (userId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("error", "인증이 필요합니다."));
@@ -241,7 +290,11 @@ public class CommunityController {
                 .likedAt(java.time.LocalDateTime.now())
                 .build();
 
-            communityLikeRepository.save(like);
+            if (!communityReactionService.addLike(like)) {
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("error", "이미 좋아요를 눌렀습니다."));
+            }
+            communityLeaderboard.recordLike(boardId, like.getLikedAt());
 
             Map<String, Object> resp = new HashMap<>();
             resp.put("message", "좋아요가 등록되었습니다.");
@@ -265,9 +318,8 @@ public class CommunityController {
      * - 헤더: Authorization: Bearer {access_token}
      */
     @DeleteMapping("/board/{boardId}/delete-like")
-    public ResponseEntity<Map<String, Object>> deleteCommunityLike(@PathVariable Integer boardId) {
+    public ResponseEntity<Map<String, Object>> deleteCommunityLike(@PathVariable Integer boardId, @CurrentUser String userId) {
         try {
-            String userId = getCurrentUserId();
             if (userId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("error", "인증이 필요합니다."));
@@ -282,7 +334,11 @@ public class CommunityController {
                     .body(Map.of("error", "좋아요가 존재하지 않습니다."));
             }
 
-            communityLikeRepository.deleteById(id);
+            if (!communityReactionService.removeLike(boardId, userId)) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "좋아요가 존재하지 않습니다."));
+            }
+            communityLeaderboard.recordUnlike(boardId, likeOpt.get().getLikedAt());
 
             Map<String, Object> resp = new HashMap<>();
             resp.put("message", "좋아요가 삭제되었습니다.");
@@ -299,39 +355,66 @@ public class CommunityController {
 
     /**
      * 커뮤니티 게시글 목록 조회 (제목, 작성자만)
-     * - 경로: GET /community
+     * - 경로: GET /community?cursor={nextCursor}&size={size}
      * - 헤더: Authorization: Bearer {access_token}
+     * - 키셋 페이지네이션: (createdAt, communityId) 기준 최신순, size는 최대 50
+     * - 응답의 nextCursor를 다음 요청의 cursor로 전달 (마지막 페이지면 null)
      */
     @GetMapping("/community")
-    public ResponseEntity<Map<String, Object>> getCommunityList() {
+    public ResponseEntity<Map<String, Object>> getCommunityList(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @CurrentUser String userId) {
         try {
             // 인증 확인
-            String userId = getCurrentUserId();
             if (userId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("error", "인증이 필요합니다."));
             }
 
-            List<Community> communities = communityRepository.findAllByOrderByCreatedAtDesc();
+            int pageSize = FeedCursor.boundedSize(size, MAX_FEED_PAGE_SIZE);
+            FeedCursor after = FeedCursor.decode(cursor);
+
+            // 다음 페이지 존재 여부 판단을 위해 pageSize + 1건 조회
+            PageRequest limit = PageRequest.of(0, pageSize + 1);
+            // 게시글/작성자/좋아요 수/댓글 수를 단일 쿼리로 조회 (페이지당 1회 왕복)
+            List<CommunityFeedItemDTO> rows = after == null
+                ? communityRepository.findFeedFirstPage(limit)
+                : communityRepository.findFeedPageAfter(after.getCreatedAt(), after.getId(), limit);
 
-            List<Map<String, Object>> items = communities.stream()
+            boolean hasNext = rows.size() > pageSize;
+            if (hasNext) {
+                rows = rows.subList(0, pageSize);
+            }
+
+            List<Map<String, Object>> items = rows.stream()
                 .map(c -> {
                     Map<String, Object> item = new HashMap<>();
                     item.put("communityId", c.getCommunityId());
                     item.put("title", c.getTitle());
-                    item.put("author", c.getUser() != null ? c.getUser().getUserName() : "");
-                    long likeCount = communityLikeRepository.countByCommunity_CommunityId(c.getCommunityId());
-                    long commentCount = communityCommentRepository.countByCommunity_CommunityId(c.getCommunityId());
-                    item.put("likeCount", likeCount);
-                    item.put("commentCount", commentCount);
+                    item.put("author", c.getAuthor() != null ? c.getAuthor() : "");
+                    item.put("createdAt", c.getCreatedAt());
+                    item.put("likeCount", c.getLikeCount());
+                    item.put("commentCount", c.getCommentCount());
                     return item;
                 })
                 .toList();
 
+            String nextCursor = null;
+            if (hasNext) {
+                CommunityFeedItemDTO last = rows.get(rows.size() - 1);
+                nextCursor = new FeedCursor(last.getCreatedAt(), last.getCommunityId()).encode();
+            }
+
             Map<String, Object> response = new HashMap<>();
             response.put("items", items);
-            response.put("totalCount", items.size());
+            response.put("nextCursor", nextCursor);
+            response.put("hasNext", hasNext);
+            response.put("totalCount", communityPostCounter.get());
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             log.error("[/community] 목록 조회 실패", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -340,38 +423,61 @@ public class CommunityController {
     }
 
     /**
-     * 커뮤니티 제목 검색 (부분일치)
-     * - 경로: GET /board/search/{string}
+     * 커뮤니티 게시글 검색 (제목/본문/태그, 관련도순)
+     * - 경로: GET /board/search/{string}?page=0&size=20
      * - 헤더: Authorization: Bearer {access_token}
+     * - 인메모리 역색인에서 순위를 계산하고, 해당 페이지의 카드 정보만 단일 IN 쿼리로 조회
      */
     @GetMapping("/board/search/{string}")
-    public ResponseEntity<Map<String, Object>> searchCommunityByTitle(@PathVariable("string") String keyword) {
+    public ResponseEntity<Map<String, Object>> searchCommunityByTitle(
+            @PathVariable("string") String keyword,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @CurrentUser String userId) {
         try {
             // 인증 확인
-            String userId = getCurrentUserId();
             if (userId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("error", "인증이 필요합니다."));
             }
+            if (page < 0) {
+                throw new IllegalArgumentException("page는 0 이상이어야 합니다.");
+            }
 
-            String query = keyword == null ? "" : keyword;
-            List<Community> communities = communityRepository.findByTitleContainingOrderByCreatedAtDesc(query);
+            int pageSize = FeedCursor.boundedSize(size, MAX_FEED_PAGE_SIZE);
+            InvertedIndex.SearchPage result = communitySearchService.search(keyword == null ? "" : keyword, page, pageSize);
 
-            List<Map<String, Object>> items = communities.stream()
-                .map(c -> {
-                    Map<String, Object> item = new HashMap<>();
-                    item.put("communityId", c.getCommunityId());
-                    item.put("title", c.getTitle());
-                    item.put("author", c.getUser() != null ? c.getUser().getUserName() : "");
-                    item.put("createdAt", c.getCreatedAt());
-                    return item;
-                })
-                .toList();
+            List<Integer> ids = result.getHits().stream().map(InvertedIndex.Hit::getId).toList();
+            Map<Integer, CommunityFeedItemDTO> cards = new HashMap<>();
+            if (!ids.isEmpty()) {
+                for (CommunityFeedItemDTO card : communityRepository.findFeedItemsByIds(ids)) {
+                    cards.put(card.getCommunityId(), card);
+                }
+            }
+
+            List<Map<String, Object>> items = new java.util.ArrayList<>();
+            for (Integer id : ids) {
+                CommunityFeedItemDTO c = cards.get(id);
+                if (c == null) continue; // 다른 인스턴스에서 삭제된 게시글
+
+                Map<String, Object> item = new HashMap<>();
+                item.put("communityId", c.getCommunityId());
+                item.put("title", c.getTitle());
+                item.put("author", c.getAuthor() != null ? c.getAuthor() : "");
+                item.put("createdAt", c.getCreatedAt());
+                items.add(item);
+            }
 
             Map<String, Object> response = new HashMap<>();
             response.put("items", items);
-            response.put("totalCount", items.size());
+            response.put("page", page);
+            response.put("size", pageSize);
+            response.put("totalCount", result.getTotalCount());
+            response.put("hasNext", (long) (page + 1) * pageSize < result.getTotalCount());
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             log.error("[/board/search/{}] 검색 실패", keyword, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -380,44 +486,55 @@ public class CommunityController {
     }
 
     /**
-     * 좋아요 상위 5개 커뮤니티 게시글
-     * - 경로: GET /community/top-liked
-     * - 응답: 이미지(있으면), 제목, 댓글 수, 좋아요 수
+     * 좋아요 상위 커뮤니티 게시글
+     * - 경로: GET /community/top-liked?window={all|24h|7d}&limit={K}
+     * - 응답: 이미지(있으면), 제목, 댓글 수, 좋아요 수(해당 기간 기준)
+     * - 순위는 인메모리 리더보드에서 계산하고, 카드 정보는 단일 IN 쿼리로 조회
      */
     @GetMapping("/community/top-liked")
-    public ResponseEntity<Map<String, Object>> getTopLikedCommunities() {
+    public ResponseEntity<Map<String, Object>> getTopLikedCommunities(
+            @RequestParam(value = "window", defaultValue = "all") String window,
+            @RequestParam(value = "limit", defaultValue = "${community.leaderboard.default-size:5}") int limit,
+            @CurrentUser String userId) {
         try {
             // 인증 확인
-            String userId = getCurrentUserId();
             if (userId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("error", "인증이 필요합니다."));
             }
 
-            var rows = communityLikeRepository.findTopLikedCommunities(PageRequest.of(0, 5));
-            java.util.List<Map<String, Object>> items = new java.util.ArrayList<>();
+            var ranking = communityLeaderboard.top(CommunityLeaderboard.Window.from(window), limit);
+            List<Integer> ids = ranking.stream().map(CommunityLeaderboard.Entry::getCommunityId).toList();
+            Map<Integer, CommunityFeedItemDTO> cards = new HashMap<>();
+            if (!ids.isEmpty()) {
+                for (CommunityFeedItemDTO card : communityRepository.findFeedItemsByIds(ids)) {
+                    cards.put(card.getCommunityId(), card);
+                }
+            }
 
-            for (Object[] row : rows) {
-                Integer cid = (Integer) row[0];
-                Long likeCount = (Long) row[1];
-                var communityOpt = communityRepository.findById(cid);
-                if (communityOpt.isEmpty()) continue;
-                var c = communityOpt.get();
-                long commentCount = communityCommentRepository.countByCommunity_CommunityId(cid);
+            java.util.List<Map<String, Object>> items = new java.util.ArrayList<>();
+            for (CommunityLeaderboard.Entry entry : ranking) {
+                CommunityFeedItemDTO c = cards.get(entry.getCommunityId());
+                if (c == null) continue; // 다른 인스턴스에서 삭제된 게시글
 
                 Map<String, Object> item = new HashMap<>();
-                item.put("communityId", cid);
+                item.put("communityId", c.getCommunityId());
                 item.put("title", c.getTitle());
                 item.put("image", c.getImage()); // null 가능: 이미지 없으면 null
-                item.put("likeCount", likeCount);
-                item.put("commentCount", commentCount);
+                item.put("thumbnail", c.getThumbnail() != null ? c.getThumbnail() : c.getImage()); // 카드용 축소본 (없으면 원본)
+                item.put("likeCount", entry.getLikeCount());
+                item.put("commentCount", c.getCommentCount());
                 items.add(item);
             }
 
             Map<String, Object> response = new HashMap<>();
             response.put("items", items);
+            response.put("window", window);
             response.put("totalCount", items.size());
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             log.error("[/community/top-liked] 조회 실패", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -431,10 +548,9 @@ public class CommunityController {
      * - 헤더: Authorization: Bearer {access_token}
      */
     @GetMapping("/community/{communityId}")
-    public ResponseEntity<Map<String, Object>> getCommunityDetail(@PathVariable Integer communityId) {
+    public ResponseEntity<Map<String, Object>> getCommunityDetail(@PathVariable Integer communityId, @CurrentUser String userId) {
         try {
             // 인증 확인
-            String userId = getCurrentUserId();
             if (userId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("error", "인증이 필요합니다."));
@@ -451,11 +567,9 @@ public class CommunityController {
             body.put("image", community.getImage());
             body.put("content", community.getContent());
             body.put("tagContent", community.getTagContent());
-            // counts
-            long likeCount = communityLikeRepository.countByCommunity_CommunityId(communityId);
-            long commentCount = communityCommentRepository.countByCommunity_CommunityId(communityId);
-            body.put("likeCount", likeCount);
-            body.put("commentCount", commentCount);
+            // counts (비정규화 카운터 컬럼)
+            body.put("likeCount", community.getLikeCount());
+            body.put("commentCount", community.getCommentCount());
 
             // comments
             var comments = communityCommentRepository.findByCommunity_CommunityIdOrderByCreatedAtDesc(communityId);
@@ -489,9 +603,9 @@ public class CommunityController {
     @PostMapping("/board/{boardId}/comment")
     public ResponseEntity<Map<String, Object>> createCommunityComment(
             @PathVariable Integer boardId,
-            @RequestBody CreateCommentRequest request) {
+            @RequestBody CreateCommentRequest request,
+            @CurrentUser String userId) {
         try {
-            String userId = getCurrentUserId();
             if (userId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("error", "인증이 필요합니다."));
@@ -510,7 +624,7 @@ public class CommunityController {
                 .createdAt(java.time.LocalDateTime.now())
                 .build();
 
-            ReForm.backend.community.CommunityComment saved = communityCommentRepository.save(comment);
+            ReForm.backend.community.CommunityComment saved = communityReactionService.addComment(comment);
 
             Map<String, Object> resp = new HashMap<>();
             resp.put("message", "댓글이 등록되었습니다.");
@@ -540,9 +654,9 @@ public class CommunityController {
     public ResponseEntity<Map<String, Object>> updateCommunityComment(
             @PathVariable Integer boardId,
             @PathVariable Integer commentId,
-            @RequestBody CreateCommentRequest request) {
+            @RequestBody CreateCommentRequest request,
+            @CurrentUser String userId) {
         try {
-            String userId = getCurrentUserId();
             if (userId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("error", "인증이 필요합니다."));
@@ -597,9 +711,9 @@ public class CommunityController {
     @DeleteMapping("/board/{boardId}/delete-comment/{commentId}")
     public ResponseEntity<Map<String, Object>> deleteCommunityComment(
             @PathVariable Integer boardId,
-            @PathVariable Integer commentId) {
+            @PathVariable Integer commentId,
+            @CurrentUser String userId) {
         try {
-            String userId = getCurrentUserId();
             if (userId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("error", "인증이 필요합니다."));
@@ -618,7 +732,10 @@ public class CommunityController {
                     .body(Map.of("error", "본인의 댓글만 삭제할 수 있습니다."));
             }
 
-            communityCommentRepository.deleteById(commentId);
+            if (!communityReactionService.removeComment(boardId, commentId)) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "댓글을 찾을 수 없습니다."));
+            }
 
             Map<String, Object> resp = new HashMap<>();
             resp.put("message", "댓글이 삭제되었습니다.");
@@ -642,9 +759,8 @@ public class CommunityController {
      * - 헤더: Authorization: Bearer {access_token}
      */
     @GetMapping("/board/{boardId}/see-comment")
-    public ResponseEntity<Map<String, Object>> getCommunityComments(@PathVariable Integer boardId) {
+    public ResponseEntity<Map<String, Object>> getCommunityComments(@PathVariable Integer boardId, @CurrentUser String userId) {
         try {
-            String userId = getCurrentUserId();
             if (userId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("error", "인증이 필요합니다."));
@@ -685,27 +801,6 @@ public class CommunityController {
         public void setContent(String content) { this.content = content; }
     }
 
-    /**
-     * 현재 인증된 사용자 ID 추출
-     */
-    private String getCurrentUserId() {
-        try {
-            String email = org.springframework.security.core.context.SecurityContextHolder.getContext()
-                .getAuthentication() != null ?
-                org.springframework.security.core.context.SecurityContextHolder.getContext().getAuthentication().getName() : null;
-            
-            if (email == null) {
-                return null;
-            }
-            
-            return userRepository.findByEmail(email)
-                .map(User::getUserId)
-                .orElse(null);
-        } catch (Exception e) {
-            log.error("사용자 ID 추출 실패", e);
-            return null;
-        }
-    }
 
     /**
      * 커뮤니티 게시글 작성 요청 DTO
@@ -2,6 +2,9 @@ package ReForm.backend.community.repository;
 
 import ReForm.backend.community.CommunityComment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,7 +15,10 @@ public interface CommunityCommentRepository extends JpaRepository<CommunityComme
     List<CommunityComment> findByCommunity_CommunityIdOrderByCreatedAtDesc(Integer communityId);
 
     /**
-     * 특정 게시글의 댓글 개수
+     * 댓글 삭제
+     * @return 실제로 삭제된 행 수 (이미 삭제되었으면 0)
      */
-    long countByCommunity_CommunityId(Integer communityId);
+    @Modifying
+    @Query("DELETE FROM CommunityComment c WHERE c.commentId = :commentId")
+    int deleteByCommentId(@Param("commentId") Integer commentId);
 }
@@ -2,11 +2,14 @@ package ReForm.backend.community.repository;
 
 import ReForm.backend.community.CommunityLike;
 import ReForm.backend.community.CommunityLike.CommunityLikeId;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,16 +18,27 @@ public interface CommunityLikeRepository extends JpaRepository<CommunityLike, Co
     Optional<CommunityLike> findById(CommunityLikeId id);
 
     /**
-     * 특정 게시글의 좋아요 개수
+     * 좋아요 행 삽입 (이미 있으면 무시)
+     * @return 실제로 삽입된 행 수 (중복이면 0)
      */
-    long countByCommunity_CommunityId(Integer communityId);
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO community_like (community_id, user_id, liked_at) VALUES (:communityId, :userId, :likedAt)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("communityId") Integer communityId, @Param("userId") String userId,
+                       @Param("likedAt") LocalDateTime likedAt);
 
     /**
-     * 좋아요 수 상위 커뮤니티 ID 목록을 반환 (내림차순)
-     * 반환 원소: [communityId(Integer), likeCount(Long)]
+     * 좋아요 행 삭제
+     * @return 실제로 삭제된 행 수 (없으면 0)
      */
-    @Query("select cl.community.communityId as communityId, count(cl) as likeCount " +
-           "from CommunityLike cl group by cl.community.communityId " +
-           "order by likeCount desc")
-    java.util.List<Object[]> findTopLikedCommunities(Pageable pageable);
+    @Modifying
+    @Query(value = "DELETE FROM community_like WHERE community_id = :communityId AND user_id = :userId",
+           nativeQuery = true)
+    int deleteByCommunityIdAndUserId(@Param("communityId") Integer communityId, @Param("userId") String userId);
+
+    /**
+     * since 이후 등록된 좋아요의 (communityId, likedAt) 목록 (리더보드 기간별 버킷 재구성용)
+     */
+    @Query("SELECT cl.community.communityId, cl.likedAt FROM CommunityLike cl WHERE cl.likedAt >= :since")
+    List<Object[]> findLikedAtSince(@Param("since") LocalDateTime since);
 }
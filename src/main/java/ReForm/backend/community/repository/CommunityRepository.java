@@ -1,18 +1,45 @@
 package ReForm.backend.community.repository;
 
 import ReForm.backend.community.Community;
+import ReForm.backend.community.DTO.CommunityFeedItemDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface CommunityRepository extends JpaRepository<Community, Integer> {
 
     /**
-     * 전체 커뮤니티 게시글 최신순 조회
+     * 피드 항목 프로젝션 (게시글 + 작성자 요약 + 좋아요/댓글 수)
+     * - 좋아요/댓글 수는 비정규화 컬럼(like_count, comment_count)에서 읽음
+     * - 썸네일은 업로드 메타데이터(uploaded_image)를 URL로 조인 (idx_uploaded_image_url)
      */
-    List<Community> findAllByOrderByCreatedAtDesc();
+    String FEED_ITEM_SELECT = "SELECT new ReForm.backend.community.DTO.CommunityFeedItemDTO(" +
+            "c.communityId, c.title, c.image, ui.thumbnailUrl, c.createdAt, u.userId, u.userName, u.profileImageUrl, " +
+            "c.likeCount, c.commentCount) " +
+            "FROM Community c JOIN c.user u LEFT JOIN UploadedImage ui ON ui.url = c.image ";
+
+    /**
+     * 피드 첫 페이지 (최신순, idx_community_created_at_id 인덱스 사용)
+     */
+    @Query(FEED_ITEM_SELECT + "ORDER BY c.createdAt DESC, c.communityId DESC")
+    List<CommunityFeedItemDTO> findFeedFirstPage(Pageable pageable);
+
+    /**
+     * 피드 다음 페이지: 커서(createdAt, communityId) 이후의 게시글 (최신순)
+     */
+    @Query(FEED_ITEM_SELECT +
+           "WHERE c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.communityId < :communityId) " +
+           "ORDER BY c.createdAt DESC, c.communityId DESC")
+    List<CommunityFeedItemDTO> findFeedPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("communityId") Integer communityId,
+                                                 Pageable pageable);
 
     /**
      * 사용자별 커뮤니티 게시글 조회
@@ -22,7 +49,50 @@ public interface CommunityRepository extends JpaRepository<Community, Integer> {
     List<Community> findByUser_UserIdOrderByCreatedAtDesc(String userId);
 
     /**
-     * 제목 부분일치 검색 (최신순)
+     * 검색 색인 재구성용 (communityId, title, content, tagContent), ID 오름차순 키셋 배치
+     */
+    @Query("SELECT c.communityId, c.title, c.content, c.tagContent FROM Community c " +
+           "WHERE c.communityId > :afterId ORDER BY c.communityId")
+    List<Object[]> findSearchDocumentsAfter(@Param("afterId") Integer afterId, Pageable pageable);
+
+    /**
+     * 지정한 게시글들의 피드 항목 (리더보드 카드 조회용, 순서는 호출 측에서 정렬)
+     */
+    @Query(FEED_ITEM_SELECT + "WHERE c.communityId IN :ids")
+    List<CommunityFeedItemDTO> findFeedItemsByIds(@Param("ids") List<Integer> ids);
+
+    /**
+     * 좋아요가 있는 게시글의 (communityId, likeCount) 목록 (리더보드 재구성용)
+     */
+    @Query("SELECT c.communityId, c.likeCount FROM Community c WHERE c.likeCount > 0")
+    List<Object[]> findPositiveLikeCounts();
+
+    /**
+     * 좋아요 수 원자적 증감 (좋아요 등록/삭제와 같은 트랜잭션에서 호출)
+     */
+    @Modifying
+    @Query(value = "UPDATE community SET like_count = GREATEST(like_count + :delta, 0) WHERE community_id = :communityId",
+           nativeQuery = true)
+    int addLikeCount(@Param("communityId") Integer communityId, @Param("delta") long delta);
+
+    /**
+     * 댓글 수 원자적 증감 (댓글 등록/삭제와 같은 트랜잭션에서 호출)
+     */
+    @Modifying
+    @Query(value = "UPDATE community SET comment_count = GREATEST(comment_count + :delta, 0) WHERE community_id = :communityId",
+           nativeQuery = true)
+    int addCommentCount(@Param("communityId") Integer communityId, @Param("delta") long delta);
+
+    /**
+     * 카운터 재계산: 실제 좋아요/댓글 수와 다른 게시글만 보정
+     * @return 보정된 행 수
      */
-    List<Community> findByTitleContainingOrderByCreatedAtDesc(String title);
+    @Modifying
+    @Query(value = "UPDATE community c SET " +
+                   "c.like_count = (SELECT COUNT(*) FROM community_like l WHERE l.community_id = c.community_id), " +
+                   "c.comment_count = (SELECT COUNT(*) FROM community_comment cm WHERE cm.community_id = c.community_id) " +
+                   "WHERE c.like_count <> (SELECT COUNT(*) FROM community_like l2 WHERE l2.community_id = c.community_id) " +
+                   "OR c.comment_count <> (SELECT COUNT(*) FROM community_comment cm2 WHERE cm2.community_id = c.community_id)",
+           nativeQuery = true)
+    int reconcileCounters();
 }
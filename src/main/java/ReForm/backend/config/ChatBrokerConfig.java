@@ -0,0 +1,19 @@
+package ReForm.backend.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@ConditionalOnProperty(name = "chat.broker.type", havingValue = "redis")
+public class ChatBrokerConfig {
+
+    @Bean // 채팅방 채널 구독용 리스너 컨테이너 (시작/종료는 스프링 생명주기가 관리, RedisChatBroker가 방 단위로 구독 추가/해제)
+    public RedisMessageListenerContainer chatRedisListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+}
@@ -0,0 +1,46 @@
+package ReForm.backend.config;
+
+import ReForm.backend.common.CurrentUser;
+import ReForm.backend.user.AuthenticatedUser;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * @CurrentUser 파라미터 리졸버
+ * - SecurityContext의 principal(AuthenticatedUser)에서 값을 꺼내 주입합니다.
+ */
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+	@Override
+	public boolean supportsParameter(MethodParameter parameter) {
+		if (!parameter.hasParameterAnnotation(CurrentUser.class)) {
+			return false;
+		}
+		Class<?> type = parameter.getParameterType();
+		return type == String.class || type == AuthenticatedUser.class;
+	}
+
+	@Override
+	public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+								  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+		AuthenticatedUser user = currentPrincipal();
+		if (user == null) {
+			return null;
+		}
+		return parameter.getParameterType() == String.class ? user.getUserId() : user;
+	}
+
+	// 인증되지 않았거나 다른 방식(OAuth2 로그인 세션 등)으로 인증된 경우 null
+	private static AuthenticatedUser currentPrincipal() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+			return user;
+		}
+		return null;
+	}
+}
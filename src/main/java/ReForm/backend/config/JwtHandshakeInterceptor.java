@@ -1,8 +1,8 @@
 package ReForm.backend.config;
 
-import ReForm.backend.user.User;
-import ReForm.backend.user.repository.UserRepository;
+import ReForm.backend.chat.ChatWireFormat;
 import ReForm.backend.user.service.JwtService;
+import ReForm.backend.user.service.UserPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.server.ServerHttpRequest;
@@ -20,6 +20,7 @@ import java.util.Optional;
  * WebSocket 핸드셰이크 시 JWT를 검증하는 인터셉터
  * - 토큰 추출 우선순위: query param `token` -> Authorization 헤더(Bearer)
  * - 유효하면 userId를 세션 attribute로 저장하여 이후 메시지 처리에서 사용
+ * - query param `format=bin`이면 바이너리 프레임 형식을 세션 attribute로 표시 (서브프로토콜을 지정할 수 없는 클라이언트용)
  */
 @Slf4j
 @Component
@@ -27,7 +28,7 @@ import java.util.Optional;
 public class JwtHandshakeInterceptor implements HandshakeInterceptor {
 
 	private final JwtService jwtService;
-	private final UserRepository userRepository;
+	private final UserPrincipalCache userPrincipalCache;
 
 	@Override
 	public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
@@ -47,16 +48,18 @@ public class JwtHandshakeInterceptor implements HandshakeInterceptor {
 			return false;
 		}
 
-		if (!jwtService.isTokenValid(token)) {
+		// 서명 검증은 한 번만 수행하고 클레임을 함께 추출
+		Optional<JwtService.AccessTokenClaims> claims = jwtService.parseAccessToken(token);
+		if (claims.isEmpty()) {
 			log.warn("WS handshake rejected: invalid token");
 			return false;
 		}
 
 		// userId 우선, 없으면 email로 조회하여 userId 확보
-		Optional<String> userIdOpt = jwtService.extractUserId(token);
+		Optional<String> userIdOpt = Optional.ofNullable(claims.get().getUserId());
 		if (userIdOpt.isEmpty()) {
-            userIdOpt = jwtService.extractEmail(token)
-                    .flatMap(email -> userRepository.findFirstByEmailOrderByCreatedAtDesc(email).map(User::getUserId));
+			userIdOpt = Optional.ofNullable(claims.get().getEmail())
+					.flatMap(userPrincipalCache::findUserIdByEmail);
 		}
 		if (userIdOpt.isEmpty()) {
 			log.warn("WS handshake rejected: cannot resolve user identity");
@@ -64,6 +67,9 @@ public class JwtHandshakeInterceptor implements HandshakeInterceptor {
 		}
 
 		attributes.put("userId", userIdOpt.get());
+		if ("bin".equalsIgnoreCase(http.getParameter("format"))) {
+			attributes.put(ChatWireFormat.ATTRIBUTE, ChatWireFormat.BINARY);
+		}
 		return true;
 	}
 
@@ -12,6 +12,7 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import ReForm.backend.filter.JwtAuthenticationFilter;
 import ReForm.backend.user.service.JwtService;
+import ReForm.backend.user.service.UserPrincipalCache;
 import ReForm.backend.user.repository.UserRepository;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -43,6 +44,7 @@ public class SecurityConfig {
                         ).permitAll()
 						.requestMatchers("/ws/**").permitAll()
                         .requestMatchers("/image/upload/**").authenticated()
+                        .requestMatchers("/admin/**").hasRole("ADMIN") // 운영용 API (검색 색인 재구성 등)
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
@@ -60,9 +62,10 @@ public class SecurityConfig {
     }
 
     @Bean
-    public JwtAuthenticationFilter jwtAuthenticationFilter(JwtService jwtService, UserRepository userRepository) {
+    public JwtAuthenticationFilter jwtAuthenticationFilter(JwtService jwtService, UserRepository userRepository,
+                                                           UserPrincipalCache userPrincipalCache) {
         // JWT 필터를 빈으로 등록해 필터 체인에서 사용할 수 있게 함
-        return new JwtAuthenticationFilter(jwtService, userRepository);
+        return new JwtAuthenticationFilter(jwtService, userRepository, userPrincipalCache);
     }
 
     @Bean
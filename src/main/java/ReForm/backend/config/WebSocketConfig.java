@@ -10,6 +10,7 @@ import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry
 /**
  * WebSocket 엔드포인트 등록 설정
  * - /ws/conn 경로로 핸드셰이크 허용
+ * - 프레임 형식: 핸들러가 제공하는 서브프로토콜(reform.chat.bin.v1 / reform.chat.json.v1)로 협상, 미지정 시 JSON
  * - CORS: 모든 Origin 허용(필요 시 운영 환경에 맞게 제한)
  */
 @Configuration
@@ -1,8 +1,10 @@
 package ReForm.backend.filter;
 
+import ReForm.backend.user.AuthenticatedUser;
 import ReForm.backend.user.User;
 import ReForm.backend.user.repository.UserRepository;
 import ReForm.backend.user.service.JwtService;
+import ReForm.backend.user.service.UserPrincipalCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,11 +14,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
 
 @Getter
 @Slf4j
@@ -25,6 +30,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     public final JwtService jwtService;
     public final UserRepository userRepository;
+    public final UserPrincipalCache userPrincipalCache; // 요청마다 user 테이블을 조회하지 않도록 사용자 캐시 사용
 
     /**
      * Jwt 인증 필터
@@ -91,21 +97,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     public void checkAccessToken(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws IOException, ServletException {
         // 불필요한 과도한 로그 방지: 토큰 존재/유효할 때만 핵심 로그 출력
-        jwtService.extractAccessToken(request)
-                .filter(jwtService::isTokenValid)
-                .ifPresent(accessToken -> {
+        // 토큰 서명 검증은 여기서 한 번만 수행하고, 파싱된 클레임은 request attribute로 컨트롤러와 공유
+        jwtService.resolveAccessTokenClaims(request)
+                .ifPresent(claims -> {
                     log.debug("[JWT] 유효한 AT 감지, 사용자 인증 진행 중");
 
                     // 1) userId 클레임 우선 시도 (로컬 로그인 토큰)
-                    boolean authenticated = jwtService.extractUserId(accessToken)
-                            .flatMap(userRepository::findById)
+                    boolean authenticated = Optional.ofNullable(claims.getUserId())
+                            .flatMap(userPrincipalCache::findByUserId)
                             .map(user -> { saveAuthentication(user); return true; })
                             .orElse(false);
 
                     // 2) email 클레임으로 시도 (소셜 로그인 토큰)
                     if (!authenticated) {
-                        jwtService.extractEmail(accessToken)
-                                .flatMap(userRepository::findFirstByEmailOrderByCreatedAtDesc)
+                        Optional.ofNullable(claims.getEmail())
+                                .flatMap(userPrincipalCache::findByEmail)
                                 .ifPresent(this::saveAuthentication);
                     }
                 });
@@ -113,23 +119,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         chain.doFilter(request, response); // 다음 필터로 요청 전달
     }
 
-    public void saveAuthentication(User myUser) { // 소셜 로그인에서 스프링 시큐리티가 인증된 사용자 정보를 다루기 위해 인터페이스 사용
-        UserDetails userDetails = org.springframework.security.core.userdetails.User.builder()
-                .username(myUser.getEmail()) // 시용자 이름은 이메일로 받음
-                .password("") // 소셜로그인만 구현하므로 비밀번호는 공백으로 처리 (사용 x)
-                .roles(myUser.getRole().name()) // 권한 설정
-                .build();
+    public void saveAuthentication(AuthenticatedUser myUser) {
+        // principal에 userId/권한/닉네임을 담은 AuthenticatedUser를 그대로 저장
+        // 컨트롤러는 @CurrentUser로 꺼내 쓰므로 이메일로 사용자를 다시 조회하지 않음
+        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(myUser.getRole().getKey())); // ROLE_USER / ROLE_ADMIN
 
         // Authentication: 사용자 인증 상태와 정보를 나타내는 인터페이스
         /**
          * UsernamePasswordAuthenticationToken
-         * 첫 번째 파라미터에는 인증된 사용자 정보(보통 UserDetails) 들어감
+         * 첫 번째 파라미터에는 인증된 사용자 정보(AuthenticatedUser) 들어감
          * 두 번째 자격 증명 : 소셜 로그인으로 구현해서 비밀번호가 없으므로 null 값 사용함
          * 세 번째 해당 사용자 권한 목록
          * 결론 : 현재 로그인한 사용자 정보를 담아서 인증 토큰 객체를 생성하는 과정
          */
 
-        Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        Authentication authentication = new UsernamePasswordAuthenticationToken(myUser, null, authorities);
 
         /** SecurityContextHolder : 스프링 시큐리티에 인증 정보 저장하고 조회하는 저장소 역할을함
          *  1. getContext() : 현재 실행중인 스레드의 SecurityContext 가져옴
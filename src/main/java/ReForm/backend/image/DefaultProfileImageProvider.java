@@ -0,0 +1,61 @@
+package ReForm.backend.image;
+
+import ReForm.backend.s3.AwsS3Service;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기본 프로필 이미지 (모든 사용자가 공유하는 S3 오브젝트 1개)
+ * - 고정 키(storage.default-profile-key)에 한 번만 올려 두고 그 URL을 모든 신규 사용자에게 사용합니다.
+ * - 처음 필요할 때 오브젝트가 있는지 확인하고, 없으면 classpath의 basicProfile/basicUserImage.png를 올린 뒤 URL을 캐시합니다.
+ * - uploaded_image에 등록하지 않으므로 프로필 이미지를 바꿔도 참조 해제(삭제) 대상이 되지 않습니다.
+ */
+@Component
+@Slf4j
+public class DefaultProfileImageProvider {
+
+	private static final String RESOURCE = "basicProfile/basicUserImage.png";
+
+	private final AwsS3Service awsS3Service;
+	private final String key;
+
+	private volatile String url;
+
+	public DefaultProfileImageProvider(AwsS3Service awsS3Service,
+									   @Value("${storage.default-profile-key:profile/basicUserImage.png}") String key) {
+		this.awsS3Service = awsS3Service;
+		this.key = key;
+	}
+
+	/**
+	 * 기본 프로필 이미지 URL (최초 호출 시 S3 확인/업로드, 실패하면 예외)
+	 */
+	public String url() {
+		String cached = url;
+		if (cached != null) {
+			return cached;
+		}
+		synchronized (this) {
+			if (url == null) {
+				url = seed();
+			}
+			return url;
+		}
+	}
+
+	private String seed() {
+		if (awsS3Service.exists(key)) {
+			return awsS3Service.publicUrl(key);
+		}
+		try {
+			byte[] bytes = new ClassPathResource(RESOURCE).getContentAsByteArray();
+			String seeded = awsS3Service.storeAt(key, bytes, "image/png");
+			log.info("[IMAGE] 기본 프로필 이미지 업로드 - key={}, url={}", key, seeded);
+			return seeded;
+		} catch (Exception e) {
+			throw new IllegalStateException("기본 프로필 이미지 업로드 실패: " + e.getMessage(), e);
+		}
+	}
+}
@@ -0,0 +1,150 @@
+package ReForm.backend.image;
+
+import ReForm.backend.common.CurrentUser;
+import ReForm.backend.s3.AwsS3Service;
+import ReForm.backend.s3.AwsS3Service.Category;
+import ReForm.backend.user.User;
+import ReForm.backend.user.repository.UserRepository;
+import ReForm.backend.user.service.UserPrincipalCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 클라이언트 -> S3 직접 업로드 (이미지 본문이 서버를 거치지 않음)
+ * 처리 순서:
+ *   1) POST /image/upload/direct/{category}/presign 으로 presigned PUT URL 발급 (사용자 전용 경로, 크기/형식 서명)
+ *   2) 클라이언트가 uploadUrl에 headers와 함께 본문을 PUT
+ *   3) POST /image/upload/direct/{category}/complete 로 완료 알림 -> HeadObject로 확인 후 uploaded_image 저장
+ * - category: ai | community | market | profile (profile은 완료 시 내 프로필 이미지로 설정)
+ * - 완료되지 않은 업로드는 uploaded_image에 없으므로, 버킷의 {category}/direct/ 경로에 수명 주기 규칙을 두어 정리합니다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/image/upload/direct")
+@Slf4j
+public class DirectUploadController {
+
+	private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-fA-F]{64}");
+
+	private final AwsS3Service awsS3Service;
+	private final UploadedImageService uploadedImageService;
+	private final UserRepository userRepository;
+	private final UserPrincipalCache userPrincipalCache;
+
+	/**
+	 * presigned PUT URL 발급
+	 * - 경로: POST /image/upload/direct/{category}/presign
+	 * - 요청: JSON { "filename": "a.jpg", "contentType": "image/jpeg", "contentLength": 12345, "sha256": "(선택) 본문 SHA-256 hex" }
+	 * - 응답: { key, uploadUrl, method, headers, expiresAt, url }
+	 */
+	@PostMapping("/{category}/presign")
+	public ResponseEntity<Map<String, Object>> presign(@PathVariable String category,
+													   @RequestBody Map<String, Object> request,
+													   @CurrentUser String userId) {
+		if (userId == null) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", "인증이 필요합니다."));
+		}
+		Category target = toCategory(category);
+		if (target == null) {
+			return ResponseEntity.badRequest().body(Map.of("error", "지원하지 않는 카테고리입니다: " + category));
+		}
+		String contentType = request.get("contentType") instanceof String s ? s : null;
+		if (contentType == null || !contentType.startsWith("image/")) {
+			return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(Map.of("error", "이미지(Content-Type: image/*)만 업로드할 수 있습니다."));
+		}
+		long contentLength = request.get("contentLength") instanceof Number n ? n.longValue() : -1;
+		if (contentLength <= 0) {
+			return ResponseEntity.badRequest().body(Map.of("error", "contentLength is required"));
+		}
+		if (contentLength > awsS3Service.maxObjectBytes()) {
+			return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(Map.of("error", "업로드 크기 제한을 초과했습니다."));
+		}
+		String sha256 = request.get("sha256") instanceof String s && !s.isBlank() ? s : null;
+		if (sha256 != null && !SHA256_HEX.matcher(sha256).matches()) {
+			return ResponseEntity.badRequest().body(Map.of("error", "sha256은 64자리 hex 문자열이어야 합니다."));
+		}
+		String filename = request.get("filename") instanceof String s ? s : null;
+
+		AwsS3Service.PresignedUpload upload = awsS3Service.presignPut(target, userId, filename, contentType, contentLength, sha256);
+		Map<String, Object> body = new HashMap<>();
+		body.put("key", upload.key());
+		body.put("uploadUrl", upload.uploadUrl());
+		body.put("method", "PUT");
+		body.put("headers", upload.headers());
+		body.put("expiresAt", upload.expiresAt().toString());
+		body.put("url", upload.url());
+		return ResponseEntity.ok(body);
+	}
+
+	/**
+	 * 직접 업로드 완료 알림
+	 * - 경로: POST /image/upload/direct/{category}/complete
+	 * - 요청: JSON { "key": "presign에서 받은 key" }
+	 * - 오브젝트 크기/Content-Type을 확인하고 uploaded_image에 저장 (조건에 맞지 않으면 오브젝트 삭제 후 400)
+	 * - 같은 key로 다시 요청하면 처음 저장된 이미지를 반환 (중복 이미지로 판별된 경우의 재시도는 UploadedImageService.completeDirect 참고)
+	 */
+	@PostMapping("/{category}/complete")
+	public ResponseEntity<Map<String, Object>> complete(@PathVariable String category,
+														@RequestBody Map<String, String> request,
+														@CurrentUser String userId) {
+		if (userId == null) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", "인증이 필요합니다."));
+		}
+		Category target = toCategory(category);
+		if (target == null) {
+			return ResponseEntity.badRequest().body(Map.of("error", "지원하지 않는 카테고리입니다: " + category));
+		}
+		String key = request.get("key");
+		if (key == null || key.isBlank()) {
+			return ResponseEntity.badRequest().body(Map.of("error", "key is required"));
+		}
+
+		StoredImage image;
+		try {
+			image = uploadedImageService.completeDirect(target, userId, key);
+		} catch (IllegalArgumentException e) {
+			log.warn("[/image/upload/direct/{}/complete] 검증 실패 - userId={}, key={}, 원인={}", category, userId, key, e.getMessage());
+			return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+		}
+		if (target == Category.PROFILE) {
+			updateProfileImage(userId, image.url());
+		}
+
+		Map<String, Object> body = new HashMap<>();
+		body.put("message", "이미지가 성공적으로 등록되었습니다.");
+		body.put("url", image.url());
+		body.put("cardUrl", image.cardUrl() != null ? image.cardUrl() : image.url());
+		body.put("thumbnailUrl", image.thumbnailUrl() != null ? image.thumbnailUrl() : image.url());
+		return ResponseEntity.status(HttpStatus.CREATED).body(body);
+	}
+
+	// 프로필 이미지 교체 (이전 이미지 참조 해제)
+	private void updateProfileImage(String userId, String url) {
+		User u = userRepository.findById(userId).orElseThrow();
+		String previousUrl = u.getProfileImageUrl();
+		userRepository.save(u.toBuilder()
+				.profileImageUrl(url)
+				.updatedAt(LocalDateTime.now())
+				.build());
+		userPrincipalCache.invalidate(userId);
+		uploadedImageService.replace(previousUrl, url);
+	}
+
+	private static Category toCategory(String category) {
+		return switch (category) {
+			case "ai" -> Category.AI;
+			case "community" -> Category.COMMUNITY;
+			case "market" -> Category.MARKET;
+			case "profile" -> Category.PROFILE;
+			default -> null;
+		};
+	}
+}
@@ -0,0 +1,571 @@
+package ReForm.backend.image;
+
+import ReForm.backend.s3.AwsS3Service;
+import ReForm.backend.s3.AwsS3Service.Category;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 이미지 변환 파이프라인
+ * - 이미지를 한 번만 디코딩해 EXIF 회전을 반영하고, 고정 폭 JPEG 3종으로 다시 인코딩합니다.
+ *   full(1600px) -> card(640px) -> thumbnail(240px) 순으로 앞 결과를 줄여 만들며, 원본보다 크게 키우지 않습니다.
+ * - 다시 인코딩하면서 EXIF(GPS 위치, 기기 정보 등) 메타데이터는 모두 제거되고, 원본은 저장하지 않습니다.
+ * - 키: {prefix}/{uuid}.jpg (full), {uuid}_card.jpg, {uuid}_thumb.jpg
+ * - 디코딩/인코딩은 CPU 작업이므로 크기가 고정된 전용 스레드 풀(대기열 포함)에서만 수행하며, 대기열이 가득 차면 즉시 실패합니다.
+ * - GIF(애니메이션 보존)와 ImageIO가 디코딩하지 못한 JPEG(CMYK 등)는 변환 없이 저장하되,
+ *   메타데이터 블록(GIF 주석/XMP, JPEG APP1~15/COM)을 걷어낸 바이트를 저장합니다. (색 정보인 ICC/Adobe 세그먼트는 유지)
+ * - 그 밖에 디코딩할 수 없는 형식(HEIC, WebP 등)은 메타데이터를 제거할 수 없으므로 거부합니다. (IllegalArgumentException)
+ *   (WebP 인코더는 JDK에 없어 rendition은 JPEG만 생성)
+ * - 변환 전에 원본의 SHA-256으로 같은 카테고리의 기존 이미지를 찾아, 있으면 변환/업로드 없이 그 이미지를 재사용합니다. (UploadedImageService)
+ */
+@Service
+@Slf4j
+public class ImageRenditionService {
+
+	private static final int FULL_WIDTH = 1600;
+	private static final int CARD_WIDTH = 640;
+	private static final int THUMBNAIL_WIDTH = 240;
+	private static final String JPEG = "image/jpeg";
+
+	private static final String GIF = "image/gif";
+
+	private record Renditions(byte[] full, byte[] card, byte[] thumbnail) {}
+
+	// 변환 없이 저장할 이미지 (메타데이터 제거 후)
+	private record Original(byte[] bytes, String extension, String contentType) {}
+
+	// 변환 단계 결과: 기존 이미지(existing)가 있으면 재사용, 없으면 renditions 또는 original 중 하나를 저장
+	private record Prepared(String contentHash, StoredImage existing, Renditions renditions, Original original) {}
+
+	private final AwsS3Service awsS3Service;
+	private final UploadedImageService uploadedImageService;
+	private final ThreadPoolExecutor transcoders;
+	private final float jpegQuality;
+	private final long maxPixels;
+	private final long batchDeadlineMs;
+
+	public ImageRenditionService(AwsS3Service awsS3Service,
+								 UploadedImageService uploadedImageService,
+								 @Value("${storage.image.transcode-threads:0}") int transcodeThreads,
+								 @Value("${storage.image.transcode-queue:64}") int transcodeQueue,
+								 @Value("${storage.image.jpeg-quality:0.85}") float jpegQuality,
+								 @Value("${storage.image.max-pixels:50000000}") long maxPixels,
+								 @Value("${storage.async.batch-deadline-ms:20000}") long batchDeadlineMs) {
+		this.awsS3Service = awsS3Service;
+		this.uploadedImageService = uploadedImageService;
+		this.jpegQuality = Math.max(0.1f, Math.min(1.0f, jpegQuality));
+		this.maxPixels = maxPixels;
+		this.batchDeadlineMs = batchDeadlineMs;
+		int threads = transcodeThreads > 0 ? transcodeThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+		AtomicInteger seq = new AtomicInteger();
+		this.transcoders = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(Math.max(1, transcodeQueue)), r -> {
+			Thread t = new Thread(r, "image-transcode-" + seq.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		}, new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	/**
+	 * 이미지 변환 후 저장 (완료될 때까지 대기)
+	 */
+	public StoredImage store(MultipartFile file, Category category) {
+		try {
+			return storeAsync(file, category).join();
+		} catch (CompletionException e) {
+			throw unwrap(e);
+		}
+	}
+
+	/**
+	 * 이미지 변환 후 저장 (비동기)
+	 * - 해시 계산/중복 확인/변환은 transcode 풀에서, rendition 3종 업로드는 S3 비동기 업로드로 병렬 수행
+	 * - 저장이 끝나면 uploaded_image에 메타데이터를 기록합니다. (중복이면 기존 행 재사용, 게시글 이미지가 아니면 ref_count 증가)
+	 */
+	public CompletableFuture<StoredImage> storeAsync(MultipartFile file, Category category) {
+		if (file == null || file.isEmpty()) {
+			return CompletableFuture.failedFuture(new IllegalArgumentException("업로드할 파일이 비어 있습니다."));
+		}
+		CompletableFuture<Prepared> prepared;
+		try {
+			prepared = CompletableFuture.supplyAsync(() -> prepare(file, category), transcoders);
+		} catch (RejectedExecutionException e) {
+			return CompletableFuture.failedFuture(new IllegalStateException("이미지 처리 요청이 많습니다. 잠시 후 다시 시도하세요."));
+		}
+		return prepared.thenCompose(p -> {
+			if (p.existing() != null) {
+				return CompletableFuture.completedFuture(p.existing());
+			}
+			CompletableFuture<StoredImage> stored = p.renditions() == null
+					? storeOriginal(p.original(), category)
+					: upload(p.renditions(), category);
+			return stored.thenApply(image -> uploadedImageService.register(category, p.contentHash(), image));
+		});
+	}
+
+	/**
+	 * 여러 이미지를 병렬로 변환/저장 (입력 순서 유지)
+	 * - 전체 제한 시간(storage.async.batch-deadline-ms)을 넘거나 하나라도 실패하면 예외로 완료되고,
+	 *   이미 저장된(또는 나중에 저장되는) 이미지는 정리합니다. (게시글에 연결되지 않았거나 다른 업로드와 공유 중이 아니면 삭제)
+	 */
+	public CompletableFuture<List<StoredImage>> storeAllAsync(List<MultipartFile> files, Category category) {
+		if (files == null || files.isEmpty()) {
+			return CompletableFuture.completedFuture(List.of());
+		}
+		List<CompletableFuture<StoredImage>> stores = new ArrayList<>(files.size());
+		for (MultipartFile file : files) {
+			stores.add(storeAsync(file, category));
+		}
+		CompletableFuture<List<StoredImage>> result = CompletableFuture.allOf(stores.toArray(new CompletableFuture[0]))
+				.orTimeout(batchDeadlineMs, TimeUnit.MILLISECONDS)
+				.thenApply(v -> stores.stream().map(CompletableFuture::join).toList());
+		result.whenComplete((images, error) -> {
+			if (error != null) {
+				log.error("[IMAGE] 다중 이미지 저장 실패 - category={}, count={}, 원인={}", category, files.size(), unwrap(error).toString());
+				for (CompletableFuture<StoredImage> store : stores) {
+					store.thenAccept(image -> uploadedImageService.discard(category, image.url()));
+				}
+			}
+		});
+		return result;
+	}
+
+	@PreDestroy
+	void shutdown() {
+		transcoders.shutdown();
+	}
+
+	private CompletableFuture<StoredImage> storeOriginal(Original original, Category category) {
+		String key = awsS3Service.newObjectKey(category) + original.extension();
+		return awsS3Service.storeAsync(key, original.bytes(), original.contentType())
+				.thenApply(url -> StoredImage.original(key, url));
+	}
+
+	private CompletableFuture<StoredImage> upload(Renditions renditions, Category category) {
+		String base = awsS3Service.newObjectKey(category);
+		String fullKey = base + ".jpg";
+		String cardKey = base + "_card.jpg";
+		String thumbnailKey = base + "_thumb.jpg";
+		CompletableFuture<String> full = awsS3Service.storeAsync(fullKey, renditions.full(), JPEG);
+		CompletableFuture<String> card = awsS3Service.storeAsync(cardKey, renditions.card(), JPEG);
+		CompletableFuture<String> thumbnail = awsS3Service.storeAsync(thumbnailKey, renditions.thumbnail(), JPEG);
+		CompletableFuture<StoredImage> stored = CompletableFuture.allOf(full, card, thumbnail)
+				.thenApply(v -> new StoredImage(fullKey, full.join(), cardKey, card.join(), thumbnailKey, thumbnail.join()));
+		// 일부만 올라간 경우 나머지를 정리
+		stored.whenComplete((image, error) -> {
+			if (error != null) {
+				full.thenRun(() -> awsS3Service.deleteQuietly(fullKey));
+				card.thenRun(() -> awsS3Service.deleteQuietly(cardKey));
+				thumbnail.thenRun(() -> awsS3Service.deleteQuietly(thumbnailKey));
+			}
+		});
+		return stored;
+	}
+
+	// 원본 해시 -> 기존 이미지 확인 -> (없으면) 변환, 변환할 수 없으면 메타데이터 제거 또는 거부
+	private Prepared prepare(MultipartFile file, Category category) {
+		byte[] bytes;
+		try {
+			bytes = file.getBytes();
+		} catch (IOException e) {
+			throw new IllegalStateException("업로드 파일 읽기 실패: " + e.getMessage(), e);
+		}
+		String contentHash = UploadedImageService.sha256(bytes);
+		Optional<StoredImage> existing = uploadedImageService.acquire(category, contentHash);
+		if (existing.isPresent()) {
+			log.info("[IMAGE] 중복 이미지, 변환/업로드 생략 - category={}, url={}", category, existing.get().url());
+			return new Prepared(contentHash, existing.get(), null, null);
+		}
+		// 형식은 Content-Type/파일명이 아닌 내용(시그니처)으로 판단
+		if (isGif(bytes)) {
+			return new Prepared(contentHash, null, null, original(stripGif(bytes), ".gif", GIF));
+		}
+		Renditions renditions = render(bytes);
+		if (renditions != null) {
+			return new Prepared(contentHash, null, renditions, null);
+		}
+		if (isJpeg(bytes)) {
+			log.info("[IMAGE] 디코딩할 수 없는 JPEG, 메타데이터만 제거해 저장 - name={}", file.getOriginalFilename());
+			return new Prepared(contentHash, null, null, original(stripJpeg(bytes), ".jpg", JPEG));
+		}
+		log.info("[IMAGE] 지원하지 않는 형식 거부 - name={}, contentType={}", file.getOriginalFilename(), file.getContentType());
+		throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다. JPEG, PNG, GIF로 올려 주세요.");
+	}
+
+	private static Original original(byte[] stripped, String extension, String contentType) {
+		if (stripped == null) {
+			throw new IllegalArgumentException("이미지 파일이 손상되었습니다.");
+		}
+		return new Original(stripped, extension, contentType);
+	}
+
+	// 디코딩 1회 -> 회전 보정 -> full/card/thumbnail 인코딩 (디코딩할 수 없으면 null)
+	private Renditions render(byte[] bytes) {
+		BufferedImage decoded = decode(bytes);
+		if (decoded == null) {
+			return null;
+		}
+		BufferedImage full = scaleToWidth(orientToRgb(decoded, exifOrientation(bytes)), FULL_WIDTH);
+		BufferedImage card = scaleToWidth(full, CARD_WIDTH);
+		BufferedImage thumbnail = scaleToWidth(card, THUMBNAIL_WIDTH);
+		try {
+			return new Renditions(encodeJpeg(full), encodeJpeg(card), encodeJpeg(thumbnail));
+		} catch (IOException e) {
+			throw new IllegalStateException("이미지 인코딩 실패: " + e.getMessage(), e);
+		}
+	}
+
+	// 헤더에서 크기를 먼저 확인해 지나치게 큰 이미지(디코딩 폭탄)는 픽셀을 읽기 전에 거부
+	private BufferedImage decode(byte[] bytes) {
+		try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+			Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+			if (!readers.hasNext()) {
+				return null;
+			}
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(in, true, true);
+				long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+				if (pixels > maxPixels) {
+					throw new IllegalArgumentException("이미지 해상도가 너무 큽니다.");
+				}
+				return reader.read(0);
+			} finally {
+				reader.dispose();
+			}
+		} catch (IOException e) {
+			log.warn("[IMAGE] 디코딩 실패 - 원인={}", e.getMessage());
+			return null;
+		}
+	}
+
+	private byte[] encodeJpeg(BufferedImage image) throws IOException {
+		ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+			writer.setOutput(ios);
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+			param.setCompressionQuality(jpegQuality);
+			// 메타데이터 없이 기록 (EXIF 제거)
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+		return out.toByteArray();
+	}
+
+	private static boolean isGif(byte[] b) {
+		return b.length >= 6 && b[0] == 'G' && b[1] == 'I' && b[2] == 'F' && b[3] == '8'
+				&& (b[4] == '7' || b[4] == '9') && b[5] == 'a';
+	}
+
+	private static boolean isJpeg(byte[] b) {
+		return b.length >= 3 && (b[0] & 0xFF) == 0xFF && (b[1] & 0xFF) == 0xD8 && (b[2] & 0xFF) == 0xFF;
+	}
+
+	// EXIF 방향을 적용하면서 RGB(투명 영역은 흰색)로 변환
+	private static BufferedImage orientToRgb(BufferedImage src, int orientation) {
+		int w = src.getWidth();
+		int h = src.getHeight();
+		AffineTransform t = new AffineTransform();
+		switch (orientation) {
+			case 2 -> { t.translate(w, 0); t.scale(-1, 1); }
+			case 3 -> { t.translate(w, h); t.rotate(Math.PI); }
+			case 4 -> { t.translate(0, h); t.scale(1, -1); }
+			case 5 -> { t.rotate(-Math.PI / 2); t.scale(-1, 1); }
+			case 6 -> { t.translate(h, 0); t.rotate(Math.PI / 2); }
+			case 7 -> { t.translate(h, w); t.rotate(Math.PI / 2); t.scale(-1, 1); }
+			case 8 -> { t.translate(0, w); t.rotate(3 * Math.PI / 2); }
+			default -> {
+				if (src.getType() == BufferedImage.TYPE_INT_RGB) {
+					return src;
+				}
+			}
+		}
+		boolean swap = orientation >= 5 && orientation <= 8;
+		BufferedImage dst = new BufferedImage(swap ? h : w, swap ? w : h, BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = dst.createGraphics();
+		try {
+			g.setColor(Color.WHITE);
+			g.fillRect(0, 0, dst.getWidth(), dst.getHeight());
+			g.drawImage(src, t, null);
+		} finally {
+			g.dispose();
+		}
+		return dst;
+	}
+
+	// 목표 폭으로 축소 (2배 이상 차이 나면 절반씩 줄여 bilinear 품질 유지, 확대하지 않음)
+	private static BufferedImage scaleToWidth(BufferedImage src, int width) {
+		if (src.getWidth() <= width) {
+			return src;
+		}
+		int targetHeight = Math.max(1, (int) Math.round((double) src.getHeight() * width / src.getWidth()));
+		BufferedImage current = src;
+		int w = src.getWidth();
+		int h = src.getHeight();
+		while (w / 2 >= width) {
+			w /= 2;
+			h = Math.max(1, h / 2);
+			current = resize(current, w, h);
+		}
+		return w == width ? current : resize(current, width, targetHeight);
+	}
+
+	private static BufferedImage resize(BufferedImage src, int width, int height) {
+		BufferedImage dst = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = dst.createGraphics();
+		try {
+			g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			g.drawImage(src, 0, 0, width, height, null);
+		} finally {
+			g.dispose();
+		}
+		return dst;
+	}
+
+	// JPEG APP1(Exif) 세그먼트에서 Orientation(0x0112) 값 읽기 (없거나 JPEG가 아니면 1)
+	static int exifOrientation(byte[] b) {
+		if (b.length < 4 || (b[0] & 0xFF) != 0xFF || (b[1] & 0xFF) != 0xD8) {
+			return 1;
+		}
+		int pos = 2;
+		while (pos + 4 <= b.length) {
+			if ((b[pos] & 0xFF) != 0xFF) {
+				return 1;
+			}
+			int marker = b[pos + 1] & 0xFF;
+			if (marker == 0xDA || marker == 0xD9) {
+				return 1; // 이미지 데이터 시작 전까지 Exif 없음
+			}
+			int length = u16(b, pos + 2, false);
+			int segment = pos + 4;
+			int end = Math.min(b.length, pos + 2 + length);
+			if (marker == 0xE1 && segment + 6 <= end
+					&& b[segment] == 'E' && b[segment + 1] == 'x' && b[segment + 2] == 'i' && b[segment + 3] == 'f'
+					&& b[segment + 4] == 0 && b[segment + 5] == 0) {
+				return tiffOrientation(b, segment + 6, end);
+			}
+			pos += 2 + length;
+		}
+		return 1;
+	}
+
+	/**
+	 * JPEG에서 메타데이터 세그먼트 제거 (형식이 깨졌으면 null)
+	 * - SOS(이미지 데이터) 전까지의 APP1~APP15(Exif, XMP, MPF 등)와 COM을 버립니다.
+	 * - 디코딩에 필요한 APP0(JFIF), APP2(ICC_PROFILE), APP14(Adobe, CMYK 색 변환)는 유지합니다.
+	 */
+	static byte[] stripJpeg(byte[] b) {
+		if (!isJpeg(b)) {
+			return null;
+		}
+		ByteArrayOutputStream out = new ByteArrayOutputStream(b.length);
+		out.write(0xFF);
+		out.write(0xD8);
+		int pos = 2;
+		while (pos + 2 <= b.length) {
+			if ((b[pos] & 0xFF) != 0xFF) {
+				return null;
+			}
+			int marker = b[pos + 1] & 0xFF;
+			if (marker == 0xFF) {
+				pos++; // 채움 바이트
+				continue;
+			}
+			if (marker == 0xDA) {
+				out.write(b, pos, b.length - pos); // 이미지 데이터 이후는 그대로
+				return out.toByteArray();
+			}
+			if (marker == 0xD9) {
+				out.write(0xFF);
+				out.write(0xD9);
+				return out.toByteArray();
+			}
+			if (pos + 4 > b.length) {
+				return null;
+			}
+			int length = u16(b, pos + 2, false);
+			if (length < 2 || pos + 2 + length > b.length) {
+				return null;
+			}
+			if (!isMetadataSegment(b, marker, pos + 4, pos + 2 + length)) {
+				out.write(b, pos, 2 + length);
+			}
+			pos += 2 + length;
+		}
+		return null;
+	}
+
+	private static boolean isMetadataSegment(byte[] b, int marker, int segment, int end) {
+		if (marker == 0xFE) {
+			return true;
+		}
+		if (marker < 0xE0 || marker > 0xEF) {
+			return false;
+		}
+		return switch (marker) {
+			case 0xE0 -> !startsWith(b, segment, end, "JFIF\0");
+			case 0xE2 -> !startsWith(b, segment, end, "ICC_PROFILE\0");
+			case 0xEE -> !startsWith(b, segment, end, "Adobe");
+			default -> true;
+		};
+	}
+
+	/**
+	 * GIF에서 메타데이터 블록 제거 (형식이 깨졌으면 null)
+	 * - 주석 확장(Comment)과, 반복 재생 설정(NETSCAPE2.0/ANIMEXTS1.0)이 아닌 애플리케이션 확장(XMP 등)을 버립니다.
+	 * - 프레임/색상표/그래픽 제어 확장은 그대로 두므로 애니메이션은 유지됩니다.
+	 */
+	static byte[] stripGif(byte[] b) {
+		if (!isGif(b) || b.length < 13) {
+			return null;
+		}
+		ByteArrayOutputStream out = new ByteArrayOutputStream(b.length);
+		int pos = 13 + colorTableSize(b[10]);
+		if (pos > b.length) {
+			return null;
+		}
+		out.write(b, 0, pos);
+		while (pos < b.length) {
+			int start = pos;
+			int introducer = b[pos] & 0xFF;
+			if (introducer == 0x3B) {
+				out.write(0x3B);
+				return out.toByteArray();
+			}
+			boolean keep = true;
+			if (introducer == 0x2C) {
+				if (pos + 11 > b.length) {
+					return null;
+				}
+				pos += 10 + colorTableSize(b[pos + 9]) + 1; // 이미지 설명자 + 지역 색상표 + LZW 최소 코드 크기
+				pos = skipSubBlocks(b, pos);
+			} else if (introducer == 0x21 && pos + 2 <= b.length) {
+				int label = b[pos + 1] & 0xFF;
+				if (label == 0xFE) {
+					keep = false;
+				} else if (label == 0xFF) {
+					keep = startsWith(b, pos + 3, b.length, "NETSCAPE2.0") || startsWith(b, pos + 3, b.length, "ANIMEXTS1.0");
+				} else {
+					keep = label == 0xF9 || label == 0x01;
+				}
+				pos = skipSubBlocks(b, pos + 2);
+			} else {
+				return null;
+			}
+			if (pos < 0) {
+				return null;
+			}
+			if (keep) {
+				out.write(b, start, pos - start);
+			}
+		}
+		out.write(0x3B); // 끝 표시가 없는 파일은 보충
+		return out.toByteArray();
+	}
+
+	private static int colorTableSize(byte flags) {
+		return (flags & 0x80) != 0 ? 3 * (1 << ((flags & 0x07) + 1)) : 0;
+	}
+
+	// 데이터 하위 블록([크기][데이터]...[0])을 건너뛴 위치 (잘렸으면 -1)
+	private static int skipSubBlocks(byte[] b, int pos) {
+		while (pos < b.length) {
+			int size = b[pos] & 0xFF;
+			pos += 1 + size;
+			if (size == 0) {
+				return pos;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean startsWith(byte[] b, int offset, int end, String ascii) {
+		if (offset < 0 || offset + ascii.length() > Math.min(end, b.length)) {
+			return false;
+		}
+		for (int i = 0; i < ascii.length(); i++) {
+			if (b[offset + i] != ascii.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int tiffOrientation(byte[] b, int tiff, int end) {
+		if (tiff + 8 > end) {
+			return 1;
+		}
+		boolean littleEndian = b[tiff] == 'I' && b[tiff + 1] == 'I';
+		long ifdOffset = u32(b, tiff + 4, littleEndian);
+		if (ifdOffset < 8 || tiff + ifdOffset + 2 > end) {
+			return 1;
+		}
+		int ifd = (int) (tiff + ifdOffset);
+		int count = u16(b, ifd, littleEndian);
+		for (int i = 0; i < count; i++) {
+			int entry = ifd + 2 + i * 12;
+			if (entry + 12 > end) {
+				break;
+			}
+			if (u16(b, entry, littleEndian) == 0x0112) {
+				int value = u16(b, entry + 8, littleEndian);
+				return value >= 1 && value <= 8 ? value : 1;
+			}
+		}
+		return 1;
+	}
+
+	private static int u16(byte[] b, int i, boolean littleEndian) {
+		int b0 = b[i] & 0xFF;
+		int b1 = b[i + 1] & 0xFF;
+		return littleEndian ? (b1 << 8) | b0 : (b0 << 8) | b1;
+	}
+
+	private static long u32(byte[] b, int i, boolean littleEndian) {
+		long hi = u16(b, littleEndian ? i + 2 : i, littleEndian);
+		long lo = u16(b, littleEndian ? i : i + 2, littleEndian);
+		return (hi << 16) | lo;
+	}
+
+	private static RuntimeException unwrap(Throwable error) {
+		Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+		if (cause instanceof RuntimeException re) {
+			return re;
+		}
+		return new IllegalStateException(cause.getMessage(), cause);
+	}
+}
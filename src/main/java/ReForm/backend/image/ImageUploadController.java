@@ -8,20 +8,25 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import ReForm.backend.common.CurrentUser;
 import ReForm.backend.s3.AwsS3Service;
 import ReForm.backend.s3.AwsS3Service.Category;
 import ReForm.backend.community.CommunityImageService;
 import ReForm.backend.market.MarketImageService;
-import ReForm.backend.s3.UploadedImage;
-import ReForm.backend.s3.UploadedImageRepository;
 import ReForm.backend.ai.entity.AIAnalysisHistory;
 import ReForm.backend.ai.repository.AIAnalysisHistoryRepository;
 import ReForm.backend.ai.DTO.AIAnalysisHistoryDTO;
 
-import java.time.LocalDateTime;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -37,7 +42,7 @@ public class ImageUploadController {
 	private final AwsS3Service awsS3Service;
 	private final CommunityImageService communityImageService;
 	private final MarketImageService marketImageService;
-	private final UploadedImageRepository uploadedImageRepository;
+	private final UploadedImageService uploadedImageService;
 	private final AIAnalysisHistoryRepository aiAnalysisHistoryRepository;
 	private final ObjectMapper objectMapper;
 	private final UserRepository userRepository;
@@ -61,10 +66,8 @@ public class ImageUploadController {
 	 * - 최신 10개 히스토리 반환
 	 */
 	@GetMapping("/history")
-	public ResponseEntity<Map<String, Object>> getAnalysisHistory() {
+	public ResponseEntity<Map<String, Object>> getAnalysisHistory(@CurrentUser String userId) {
 		try {
-			// 현재 인증된 사용자 ID 추출
-			String userId = getCurrentUserId();
 			if (userId == null) {
 				return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
 						.body(Map.of("error", "인증이 필요합니다."));
@@ -99,30 +102,23 @@ public class ImageUploadController {
 	 * AI 이미지 업로드 + 분석 + 평가 + 저장
 	 * - 경로: POST /image/upload/ai
 	 * 처리 순서:
-	 *   1) 업로드된 이미지를 S3(ai/)에 저장하고, 공개 URL을 생성
-	 *   2) 업로드 메타데이터(URL 등)를 MySQL(uploaded_image)에 저장
+	 *   1) 업로드된 이미지를 S3(ai/)에 저장하고, 공개 URL을 생성 (같은 내용의 이미지가 이미 있으면 그 URL 재사용)
+	 *   2) 업로드 메타데이터(URL, 내용 해시 등)를 MySQL(uploaded_image)에 저장
 	 *   3) AI에 이미지 URL을 전달하여 분석(JSON: material, damageStatus, shape)
 	 *   4) 분석 결과를 바탕으로 AI에 평가 요청(JSON: recommendation, difficulty, requiredTools, estimatedTime, tutorialLink)
 	 *   5) 분석/평가 결과를 통합하여 도메인 엔티티(AIChatAnswer)로 DB 저장
 	 *   6) 클라이언트에 업로드/분석/평가 결과를 JSON으로 응답
 	 */
 	@PostMapping("/ai")
-	public ResponseEntity<Map<String, Object>> uploadAI(@RequestParam("file") MultipartFile file) {
-		// 인증된 사용자 ID를 토큰에서 추출 (헤더 기반)
-		String userId = userRepository.findByEmail(
-				org.springframework.security.core.context.SecurityContextHolder.getContext()
-						.getAuthentication() != null ?
-						org.springframework.security.core.context.SecurityContextHolder.getContext().getAuthentication().getName() : null
-		).map(ReForm.backend.user.User::getUserId).orElse("anonymous");
+	public ResponseEntity<Map<String, Object>> uploadAI(@RequestParam("file") MultipartFile file, @CurrentUser String currentUserId) {
+		// 인증된 사용자 ID (필터가 SecurityContext에 저장한 principal)
+		String userId = currentUserId != null ? currentUserId : "anonymous";
 
 		log.info("[/image/upload/ai] 요청 수신 - user_id={}, filename={}, size={}", userId, file.getOriginalFilename(), file.getSize());
 
-		String url = awsS3Service.store(file, Category.AI);
-		log.info("[/image/upload/ai] S3 업로드 완료 - url={}", url);
-
 		// 1~2) S3 업로드 및 업로드 메타데이터 저장
-		saveMetadata("ai", url);
-		log.info("[/image/upload/ai] 업로드 메타데이터 저장 완료 - category=ai, url={}", url);
+		String url = uploadedImageService.storeOriginal(file, Category.AI).url();
+		log.info("[/image/upload/ai] S3 업로드 및 메타데이터 저장 완료 - category=ai, url={}", url);
 
 		// 3) 응답
 		Map<String, Object> body = new HashMap<>();
@@ -140,7 +136,7 @@ public class ImageUploadController {
 	 * - 응답: 업사이클링 분석 JSON
 	 */
 	@PostMapping("/analyze-by-url")
-	public ResponseEntity<?> analyzeByUrl(@RequestBody Map<String, String> request) {
+	public ResponseEntity<?> analyzeByUrl(@RequestBody Map<String, String> request, @CurrentUser String userId) {
 		try {
 			String imageUrl = request.get("imageUrl");
 			String userPrompt = request.getOrDefault("prompt", "");
@@ -237,7 +233,7 @@ public class ImageUploadController {
 			}
 
 			// 히스토리 저장 (사용자 프롬프트만 저장)
-			saveAnalysisHistory(imageUrl, userPrompt, analysisJson);
+			saveAnalysisHistory(userId, imageUrl, userPrompt, analysisJson);
 
 			return ResponseEntity.ok(Map.of("analysis", responseMap));
 
@@ -254,9 +250,11 @@ public class ImageUploadController {
 	 */
 	@PostMapping("/community")
 	public ResponseEntity<Map<String, Object>> uploadCommunity(@RequestParam("file") MultipartFile file) {
-		String url = communityImageService.store(file);
-		saveMetadata("community", url);
-		return success(url);
+		try {
+			return success(communityImageService.store(file));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+		}
 	}
 
 	/**
@@ -265,66 +263,122 @@ public class ImageUploadController {
 	 */
 	@PostMapping("/market")
 	public ResponseEntity<Map<String, Object>> uploadMarket(@RequestParam("file") MultipartFile file) {
-		String url = marketImageService.store(file);
-		saveMetadata("market", url);
-		return success(url);
+		try {
+			return success(marketImageService.store(file));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+		}
 	}
 
-	// 업로드 메타데이터 저장: 카테고리/키/URL/시간
-	private void saveMetadata(String category, String url) {
-		String key = extractKeyFromUrl(url);
-		String fileName = key.substring(key.lastIndexOf('/') + 1);
-		uploadedImageRepository.save(UploadedImage.builder()
-				.category(category)
-				.fileName(fileName)
-				.s3Key(key)
-				.url(url)
-				.createdAt(LocalDateTime.now())
-				.build());
+	/**
+	 * 커뮤니티 다중 이미지 업로드 엔드포인트 (파일별 병렬 업로드)
+	 * - 경로: POST /image/upload/community/batch
+	 * - Form: files (여러 개)
+	 * - 업로드가 끝날 때까지 요청 스레드를 점유하지 않음 (비동기 응답), 전체 제한 시간 초과 시 504
+	 */
+	@PostMapping("/community/batch")
+	public CompletableFuture<ResponseEntity<Map<String, Object>>> uploadCommunityBatch(@RequestParam("files") List<MultipartFile> files) {
+		if (files == null || files.isEmpty()) {
+			return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(Map.of("error", "업로드할 파일이 없습니다.")));
+		}
+		return batchResponse("community", communityImageService.storeAllAsync(files));
 	}
 
-	// 공개 URL에서 키(prefix 포함)만 추출
-	private String extractKeyFromUrl(String url) {
-		int idx = url.indexOf(".amazonaws.com/");
-		if (idx < 0) return url;
-		return url.substring(idx + ".amazonaws.com/".length());
+	/**
+	 * 마켓 다중 이미지 업로드 엔드포인트 (파일별 병렬 업로드)
+	 * - 경로: POST /image/upload/market/batch
+	 * - Form: files (여러 개)
+	 */
+	@PostMapping("/market/batch")
+	public CompletableFuture<ResponseEntity<Map<String, Object>>> uploadMarketBatch(@RequestParam("files") List<MultipartFile> files) {
+		if (files == null || files.isEmpty()) {
+			return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(Map.of("error", "업로드할 파일이 없습니다.")));
+		}
+		return batchResponse("market", marketImageService.storeAllAsync(files));
 	}
 
-	private ResponseEntity<Map<String, Object>> success(String url) {
-		Map<String, Object> body = new HashMap<>();
-		body.put("message", "이미지가 성공적으로 등록되었습니다.");
-		body.put("url", url);
-		return ResponseEntity.status(HttpStatus.CREATED).body(body);
+	// 병렬 업로드 결과를 응답으로 변환 (업로드 메타데이터는 ImageRenditionService가 저장)
+	private CompletableFuture<ResponseEntity<Map<String, Object>>> batchResponse(String category, CompletableFuture<List<StoredImage>> uploads) {
+		return uploads.handle((images, error) -> {
+			if (error != null) {
+				Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+				if (cause instanceof TimeoutException) {
+					return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT)
+							.body(Map.<String, Object>of("error", "이미지 업로드 시간이 초과되었습니다."));
+				}
+				if (cause instanceof IllegalArgumentException) {
+					return ResponseEntity.badRequest().body(Map.<String, Object>of("error", cause.getMessage()));
+				}
+				log.error("[/image/upload/{}/batch] 업로드 실패", category, cause);
+				return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+						.body(Map.<String, Object>of("error", "S3 업로드 실패: " + cause.getMessage()));
+			}
+			Map<String, Object> body = new HashMap<>();
+			body.put("message", "이미지가 성공적으로 등록되었습니다.");
+			body.put("urls", images.stream().map(StoredImage::url).toList());
+			body.put("thumbnailUrls", images.stream().map(image -> image.thumbnailUrl() != null ? image.thumbnailUrl() : image.url()).toList());
+			return ResponseEntity.status(HttpStatus.CREATED).body(body);
+		});
 	}
 
 	/**
-	 * 현재 인증된 사용자 ID 추출
+	 * 스트리밍 이미지 업로드 (multipart/form-data 대신 요청 본문 자체가 이미지)
+	 * - 경로: PUT /image/upload/stream/{category} (category: ai)
+	 * - 헤더: Content-Type: image/*
+	 * - Query: filename(선택, 저장 파일 확장자 결정용)
+	 * - 본문을 서버 디스크에 임시 저장하지 않고 메모리 버퍼 단위로 S3 multipart upload 합니다.
+	 * - 업로드하면서 내용 해시를 계산해, 같은 이미지가 이미 있으면 방금 올린 오브젝트 대신 기존 URL을 반환합니다.
+	 * - 변환(EXIF 제거)을 거치지 않고 원본을 저장하므로 AI 분석용만 허용합니다. community/market은 POST /image/upload/{category}를 사용하세요.
 	 */
-	private String getCurrentUserId() {
-		try {
-			String email = org.springframework.security.core.context.SecurityContextHolder.getContext()
-					.getAuthentication() != null ?
-					org.springframework.security.core.context.SecurityContextHolder.getContext().getAuthentication().getName() : null;
-
-			if (email == null) {
-				return null;
-			}
+	@PutMapping("/stream/{category}")
+	public ResponseEntity<Map<String, Object>> uploadStream(@PathVariable String category,
+															@RequestParam(value = "filename", required = false) String filename,
+															HttpServletRequest request) {
+		if (!"ai".equals(category)) {
+			return ResponseEntity.badRequest().body(Map.of("error", "스트리밍 업로드를 지원하지 않는 카테고리입니다: " + category));
+		}
+		String contentType = request.getContentType();
+		if (contentType == null || !contentType.startsWith("image/")) {
+			return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(Map.of("error", "이미지(Content-Type: image/*)만 업로드할 수 있습니다."));
+		}
+		if (request.getContentLengthLong() > awsS3Service.maxObjectBytes()) {
+			return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(Map.of("error", "업로드 크기 제한을 초과했습니다."));
+		}
 
-            return userRepository.findFirstByEmailOrderByCreatedAtDesc(email)
-					.map(ReForm.backend.user.User::getUserId)
-					.orElse(null);
-		} catch (Exception e) {
-			log.error("사용자 ID 추출 실패", e);
-			return null;
+		StoredImage image;
+		try (InputStream in = request.getInputStream()) {
+			image = uploadedImageService.storeStream(in, filename, contentType, Category.AI);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+		} catch (IOException e) {
+			log.warn("[/image/upload/stream] 요청 본문 읽기 실패 - {}", e.getMessage());
+			return ResponseEntity.badRequest().body(Map.of("error", "요청 본문을 읽을 수 없습니다."));
 		}
+		return success(image.url());
+	}
+
+	private ResponseEntity<Map<String, Object>> success(StoredImage image) {
+		Map<String, Object> body = new HashMap<>();
+		body.put("message", "이미지가 성공적으로 등록되었습니다.");
+		body.put("url", image.url());
+		// 축소본이 없으면(원본 저장) 원본 URL로 대체
+		body.put("cardUrl", image.cardUrl() != null ? image.cardUrl() : image.url());
+		body.put("thumbnailUrl", image.thumbnailUrl() != null ? image.thumbnailUrl() : image.url());
+		return ResponseEntity.status(HttpStatus.CREATED).body(body);
+	}
+
+	private ResponseEntity<Map<String, Object>> success(String url) {
+		Map<String, Object> body = new HashMap<>();
+		body.put("message", "이미지가 성공적으로 등록되었습니다.");
+		body.put("url", url);
+		return ResponseEntity.status(HttpStatus.CREATED).body(body);
 	}
 
 	/**
 	 * AI 분석 히스토리 저장
 	 */
-	private void saveAnalysisHistory(String imageUrl, String prompt, String response) {
+	private void saveAnalysisHistory(String userId, String imageUrl, String prompt, String response) {
 		try {
-			String userId = getCurrentUserId();
 			if (userId == null) {
 				log.warn("사용자 ID가 없어 히스토리 저장을 건너뜁니다.");
 				return;
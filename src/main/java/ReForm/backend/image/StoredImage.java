@@ -0,0 +1,29 @@
+package ReForm.backend.image;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * S3에 저장된 이미지와 리사이즈 결과물(rendition)의 키/URL
+ * - key/url: 대표 이미지 (메타데이터를 제거한 full 크기, 변환하지 않는 형식이면 원본. 게시글/프로필용 원본도 메타데이터는 제거)
+ * - card*, thumbnail*: 목록 카드/썸네일용 축소본 (원본을 그대로 저장한 경우 null)
+ */
+public record StoredImage(String key, String url,
+						  String cardKey, String cardUrl,
+						  String thumbnailKey, String thumbnailUrl) {
+
+	public static StoredImage original(String key, String url) {
+		return new StoredImage(key, url, null, null, null, null);
+	}
+
+	/**
+	 * 저장된 모든 오브젝트 키 (정리/삭제용)
+	 */
+	public List<String> keys() {
+		List<String> keys = new ArrayList<>(3);
+		keys.add(key);
+		if (cardKey != null) keys.add(cardKey);
+		if (thumbnailKey != null) keys.add(thumbnailKey);
+		return keys;
+	}
+}
@@ -0,0 +1,336 @@
+package ReForm.backend.image;
+
+import ReForm.backend.s3.AwsS3Service;
+import ReForm.backend.s3.AwsS3Service.Category;
+import ReForm.backend.s3.UploadedImage;
+import ReForm.backend.s3.UploadedImageRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 업로드 이미지 메타데이터(uploaded_image)와 내용 기반 중복 제거
+ * - 같은 카테고리에 같은 내용(SHA-256)의 이미지가 다시 올라오면 새 오브젝트를 만들지 않고 기존 키/URL을 돌려주며 ref_count를 올립니다.
+ * - 게시글 삭제/이미지 교체 시 release로 참조를 내리고, 마지막 참조가 사라지면 행과 S3 오브젝트(rendition 포함)를 삭제합니다.
+ * - 게시글 이미지(community/market)는 업로드만으로는 참조를 갖지 않고(ref_count 0), 게시글 작성/수정 시 attach로 참조를 얻습니다.
+ *   게시글은 자신이 얻은 참조만 내리므로, 다른 사용자의 이미지 URL을 넣은 게시글을 지워도 원래 이미지는 삭제되지 않습니다.
+ * - 오브젝트 키는 여전히 UUID입니다. 해시를 키로 쓰면 마지막 참조 해제(삭제)와 같은 내용의 재업로드가 겹칠 때
+ *   방금 올린 오브젝트가 지워질 수 있어, 해시는 uploaded_image의 유니크 인덱스로만 사용합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UploadedImageService {
+
+	// 유니크 인덱스 충돌 후 기존 행이 그 사이 삭제된 경우의 재시도 횟수
+	private static final int REGISTER_ATTEMPTS = 3;
+
+	private final UploadedImageRepository uploadedImageRepository;
+	private final AwsS3Service awsS3Service;
+	private final TransactionTemplate transactionTemplate;
+
+	// 직접 업로드 중 중복으로 판별돼 오브젝트를 지운 키 -> 대신 돌려준 기존 이미지 키 (완료 재시도 응답용, 인스턴스별)
+	private final Cache<String, String> dedupedDirectKeys = Caffeine.newBuilder()
+			.maximumSize(10_000)
+			.expireAfterWrite(Duration.ofHours(1))
+			.build();
+
+	/**
+	 * 같은 내용의 이미지가 이미 있으면 참조 수를 올리고 반환
+	 * - 게시글 이미지는 게시글이 참조를 가지므로 조회만 합니다. (attach 참고)
+	 */
+	public Optional<StoredImage> acquire(Category category, String contentHash) {
+		String name = categoryName(category);
+		if (isPostImage(category)) {
+			return uploadedImageRepository.findByCategoryAndContentHash(name, contentHash)
+					.map(UploadedImageService::toStoredImage);
+		}
+		return transactionTemplate.execute(status -> {
+			if (uploadedImageRepository.incrementRefCount(name, contentHash) == 0) {
+				return Optional.<StoredImage>empty();
+			}
+			return uploadedImageRepository.findByCategoryAndContentHash(name, contentHash)
+					.map(UploadedImageService::toStoredImage);
+		});
+	}
+
+	/**
+	 * 게시글에 이미지 연결 (참조 수 증가)
+	 * - 해당 카테고리로 업로드되어 uploaded_image에 있는 URL만 연결할 수 있습니다.
+	 * - 게시글을 삭제하거나 이미지를 바꾸면 release로 이 참조를 내려야 합니다.
+	 * - 연결 후 게시글 저장이 실패하면 release가 아니라 detach로 되돌립니다.
+	 * @return 연결 여부 (이미지가 없으면 true, 등록되지 않은 URL이면 false)
+	 */
+	public boolean attach(Category category, String url) {
+		if (url == null || url.isBlank()) {
+			return true;
+		}
+		Integer updated = transactionTemplate.execute(status ->
+				uploadedImageRepository.incrementRefCountByUrl(categoryName(category), url));
+		return updated != null && updated > 0;
+	}
+
+	/**
+	 * attach 되돌리기 (게시글 저장 실패 시)
+	 * - 참조 수만 내리고 행과 S3 오브젝트는 지우지 않습니다.
+	 *   방금 올린 게시글 이미지는 연결 전 ref_count가 0이므로, release로 되돌리면 재시도할 이미지가 삭제됩니다.
+	 */
+	public void detach(Category category, String url) {
+		if (url == null || url.isBlank()) {
+			return;
+		}
+		try {
+			transactionTemplate.execute(status ->
+					uploadedImageRepository.decrementRefCountByUrl(categoryName(category), url));
+		} catch (Exception e) {
+			log.warn("[IMAGE] 이미지 연결 되돌리기 실패 - url={}, 원인={}", url, e.getMessage());
+		}
+	}
+
+	/**
+	 * 새로 올린 이미지의 메타데이터 저장 (ref_count = 1, 게시글 이미지는 0)
+	 * - 같은 내용이 동시에 올라와 유니크 인덱스가 충돌하면 먼저 저장된 이미지를 참조하고, 방금 올린 오브젝트는 삭제합니다.
+	 * @return 실제로 사용할 이미지 (충돌 시 기존 이미지)
+	 */
+	public StoredImage register(Category category, String contentHash, StoredImage image) {
+		for (int attempt = 0; attempt < REGISTER_ATTEMPTS; attempt++) {
+			try {
+				uploadedImageRepository.save(toEntity(category, contentHash, image));
+				return image;
+			} catch (DataIntegrityViolationException e) {
+				// 같은 오브젝트가 동시에 저장된 경우(uk_uploaded_image_s3_key, 직접 업로드 완료 중복 요청): 먼저 저장된 행 사용
+				Optional<UploadedImage> sameKey = uploadedImageRepository.findFirstByS3Key(image.key());
+				if (sameKey.isPresent()) {
+					log.info("[IMAGE] 이미 저장된 오브젝트 - category={}, key={}", category, image.key());
+					return toStoredImage(sameKey.get());
+				}
+				Optional<StoredImage> existing = contentHash != null ? acquire(category, contentHash) : Optional.empty();
+				if (existing.isPresent()) {
+					log.info("[IMAGE] 동시 중복 업로드, 기존 이미지 사용 - category={}, url={}", category, existing.get().url());
+					if (!existing.get().key().equals(image.key())) {
+						deleteObjects(image);
+					}
+					return existing.get();
+				}
+			} catch (RuntimeException e) {
+				deleteObjects(image);
+				throw e;
+			}
+		}
+		deleteObjects(image);
+		throw new IllegalStateException("업로드 이미지 메타데이터 저장 실패");
+	}
+
+	/**
+	 * 원본 그대로 저장 (변환하지 않는 카테고리, 예: AI 분석용)
+	 * - 파일 내용의 해시로 기존 이미지를 먼저 찾고, 없을 때만 S3에 업로드합니다.
+	 */
+	public StoredImage storeOriginal(MultipartFile file, Category category) {
+		if (file == null || file.isEmpty()) {
+			throw new IllegalArgumentException("업로드할 파일이 비어 있습니다.");
+		}
+		String contentHash;
+		try (InputStream in = file.getInputStream()) {
+			contentHash = sha256(in);
+		} catch (IOException e) {
+			throw new IllegalStateException("업로드 파일 읽기 실패: " + e.getMessage(), e);
+		}
+		Optional<StoredImage> existing = acquire(category, contentHash);
+		if (existing.isPresent()) {
+			log.info("[IMAGE] 중복 이미지, 업로드 생략 - category={}, url={}", category, existing.get().url());
+			return existing.get();
+		}
+		String url = awsS3Service.store(file, category);
+		return register(category, contentHash, StoredImage.original(awsS3Service.extractKey(url), url));
+	}
+
+	/**
+	 * 스트림 업로드 (업로드하면서 해시 계산)
+	 * - 스트림은 다시 읽을 수 없으므로 먼저 올린 뒤, 같은 내용이 이미 있으면 방금 올린 오브젝트를 지우고 기존 이미지를 반환합니다.
+	 */
+	public StoredImage storeStream(InputStream in, String originalFilename, String contentType, Category category) {
+		AwsS3Service.HashedUpload upload = awsS3Service.storeHashed(in, originalFilename, contentType, category);
+		StoredImage uploaded = StoredImage.original(upload.key(), upload.url());
+		Optional<StoredImage> existing = acquire(category, upload.contentHash());
+		if (existing.isPresent()) {
+			log.info("[IMAGE] 중복 이미지, 새 오브젝트 삭제 - category={}, url={}", category, existing.get().url());
+			deleteObjects(uploaded);
+			return existing.get();
+		}
+		return register(category, upload.contentHash(), uploaded);
+	}
+
+	/**
+	 * 클라이언트가 presigned URL로 직접 올린 오브젝트 확인 후 메타데이터 저장
+	 * - 키가 요청한 사용자의 직접 업로드 경로 아래인지, 크기(storage.stream.max-object-size-mb 이하)와 Content-Type(image/*)을 확인합니다.
+	 *   조건에 맞지 않는 오브젝트는 삭제합니다.
+	 * - 업로드 시 SHA-256 체크섬을 보냈다면 같은 내용의 기존 이미지를 재사용하고 방금 올린 오브젝트는 삭제합니다.
+	 * - 서버를 거치지 않으므로 rendition(카드/썸네일)은 만들지 않습니다. (목록은 원본 URL로 대체)
+	 * - 같은 키로 다시 요청하면(재시도, 동시 요청 포함) 이미 저장된 이미지를 그대로 반환합니다. (uk_uploaded_image_s3_key)
+	 * - 중복으로 판별돼 오브젝트를 지운 키는 1시간 동안 기존 이미지로 응답합니다.
+	 *   이 기록은 인스턴스별이므로 다른 인스턴스로 간 재시도나 그 이후의 재시도는 400(파일 없음)이 되며, 클라이언트는 첫 응답의 URL을 사용해야 합니다.
+	 */
+	public StoredImage completeDirect(Category category, String ownerId, String key) {
+		if (key == null || key.contains("..") || !key.startsWith(awsS3Service.directUploadPrefix(category, ownerId))) {
+			throw new IllegalArgumentException("업로드 키가 올바르지 않습니다.");
+		}
+		Optional<UploadedImage> registered = uploadedImageRepository.findFirstByS3Key(key);
+		if (registered.isPresent()) {
+			return toStoredImage(registered.get());
+		}
+		String dedupedTo = dedupedDirectKeys.getIfPresent(key);
+		if (dedupedTo != null) {
+			Optional<UploadedImage> existing = uploadedImageRepository.findFirstByS3Key(dedupedTo);
+			if (existing.isPresent()) {
+				return toStoredImage(existing.get());
+			}
+		}
+		AwsS3Service.ObjectInfo object = awsS3Service.head(key)
+				.orElseThrow(() -> new IllegalArgumentException("업로드된 파일을 찾을 수 없습니다."));
+		StoredImage uploaded = StoredImage.original(key, awsS3Service.publicUrl(key));
+		if (object.size() <= 0 || object.size() > awsS3Service.maxObjectBytes()) {
+			deleteObjects(uploaded);
+			throw new IllegalArgumentException("업로드 크기 제한을 초과했거나 빈 파일입니다.");
+		}
+		if (object.contentType() == null || !object.contentType().startsWith("image/")) {
+			deleteObjects(uploaded);
+			throw new IllegalArgumentException("이미지(Content-Type: image/*)만 업로드할 수 있습니다.");
+		}
+		String contentHash = object.contentHash();
+		if (contentHash != null) {
+			Optional<StoredImage> existing = acquire(category, contentHash);
+			if (existing.isPresent()) {
+				log.info("[IMAGE] 중복 이미지(직접 업로드), 새 오브젝트 삭제 - category={}, url={}", category, existing.get().url());
+				if (!existing.get().key().equals(key)) {
+					dedupedDirectKeys.put(key, existing.get().key());
+					deleteObjects(uploaded);
+				}
+				return existing.get();
+			}
+		}
+		log.info("[IMAGE] 직접 업로드 완료 - category={}, key={}, size={}, contentType={}", category, key, object.size(), object.contentType());
+		return register(category, contentHash, uploaded);
+	}
+
+	/**
+	 * 이미지 참조 해제 (URL 기준)
+	 * - uploaded_image에 없는 URL(외부 URL, 기본 프로필 이미지 등)이나 null은 무시합니다.
+	 * - 마지막 참조면 행을 지우고 커밋 후 S3 오브젝트를 삭제합니다. 실패해도 예외를 던지지 않습니다.
+	 */
+	public void release(String url) {
+		drop(url, false);
+	}
+
+	/**
+	 * 업로드 직후 쓰지 않게 된 이미지 정리 (다중 업로드 실패 등)
+	 * - 게시글 이미지는 아직 어떤 게시글도 연결하지 않은 경우(ref_count 0)에만 삭제하고, 그 밖의 카테고리는 release와 같습니다.
+	 */
+	public void discard(Category category, String url) {
+		drop(url, isPostImage(category));
+	}
+
+	private void drop(String url, boolean onlyUnattached) {
+		if (url == null || url.isBlank()) {
+			return;
+		}
+		try {
+			List<String> orphaned = transactionTemplate.execute(status -> {
+				List<UploadedImage> rows = uploadedImageRepository.findByUrlForUpdate(url);
+				if (rows.isEmpty()) {
+					return List.<String>of();
+				}
+				UploadedImage row = rows.get(0);
+				boolean referenced = onlyUnattached
+						? row.getRefCount() > 0
+						: uploadedImageRepository.decrementRefCount(row.getId()) > 0;
+				if (referenced) {
+					return List.<String>of();
+				}
+				uploadedImageRepository.delete(row);
+				return toStoredImage(row).keys();
+			});
+			if (orphaned != null && !orphaned.isEmpty()) {
+				log.info("[IMAGE] 마지막 참조 해제, 오브젝트 삭제 - url={}", url);
+				orphaned.forEach(awsS3Service::deleteQuietly);
+			}
+		} catch (Exception e) {
+			log.warn("[IMAGE] 이미지 참조 해제 실패 - url={}, 원인={}", url, e.getMessage());
+		}
+	}
+
+	/**
+	 * 이미지 교체 시 이전 이미지 참조 해제 (같은 URL이면 무시)
+	 */
+	public void replace(String oldUrl, String newUrl) {
+		if (oldUrl != null && !oldUrl.equals(newUrl)) {
+			release(oldUrl);
+		}
+	}
+
+	/**
+	 * SHA-256 hex
+	 */
+	public static String sha256(byte[] bytes) {
+		return HexFormat.of().formatHex(AwsS3Service.sha256().digest(bytes));
+	}
+
+	private static String sha256(InputStream in) throws IOException {
+		MessageDigest digest = AwsS3Service.sha256();
+		byte[] buffer = new byte[8192];
+		int n;
+		while ((n = in.read(buffer)) != -1) {
+			digest.update(buffer, 0, n);
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private void deleteObjects(StoredImage image) {
+		image.keys().forEach(awsS3Service::deleteQuietly);
+	}
+
+	private static UploadedImage toEntity(Category category, String contentHash, StoredImage image) {
+		String key = image.key();
+		return UploadedImage.builder()
+				.category(categoryName(category))
+				.fileName(key.substring(key.lastIndexOf('/') + 1))
+				.s3Key(key)
+				.url(image.url())
+				.cardKey(image.cardKey())
+				.cardUrl(image.cardUrl())
+				.thumbnailKey(image.thumbnailKey())
+				.thumbnailUrl(image.thumbnailUrl())
+				.contentHash(contentHash)
+				.refCount(isPostImage(category) ? 0 : 1)
+				.createdAt(LocalDateTime.now())
+				.build();
+	}
+
+	private static StoredImage toStoredImage(UploadedImage row) {
+		return new StoredImage(row.getS3Key(), row.getUrl(),
+				row.getCardKey(), row.getCardUrl(),
+				row.getThumbnailKey(), row.getThumbnailUrl());
+	}
+
+	private static boolean isPostImage(Category category) {
+		return category == Category.COMMUNITY || category == Category.MARKET;
+	}
+
+	private static String categoryName(Category category) {
+		return category.name().toLowerCase(Locale.ROOT);
+	}
+}
@@ -0,0 +1,25 @@
+package ReForm.backend.market.DTO;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 마켓 목록 필터 (null인 조건은 적용하지 않음)
+ */
+@Getter
+@Builder
+public class MarketListFilter {
+
+    // 기부 상품 여부
+    private Boolean donation;
+
+    // 가격 범위 (포함)
+    private Integer minPrice;
+    private Integer maxPrice;
+
+    // 태그 (정확히 일치)
+    private String tag;
+
+    // 작성자 ID
+    private String authorId;
+}
@@ -0,0 +1,33 @@
+package ReForm.backend.market.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마켓 목록 조회용 읽기 모델
+ * - 목록 카드에 필요한 컬럼만 조회하는 JPQL 생성자 프로젝션 (본문 content 제외)
+ * - 작성자 요약을 조인으로 함께 받아오므로 제품별 추가 쿼리(N+1)가 발생하지 않음
+ */
+@Getter
+@AllArgsConstructor
+public class MarketSummaryDTO {
+
+    private Integer marketId;
+    private String title;
+    private String tag;
+    private String image;
+    private String thumbnail; // 목록 카드용 축소 이미지 URL (uploaded_image.thumbnail_url, 없으면 null -> image 사용)
+    private Integer price;
+    private Boolean isDonation;
+    private LocalDateTime createdAt;
+
+    // 작성자 요약
+    private String authorId;
+    private String author;
+    private String authorProfileImageUrl;
+
+    private Long likeCount;
+    private Long commentCount;
+}
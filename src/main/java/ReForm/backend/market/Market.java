@@ -15,7 +15,14 @@ import java.time.LocalDateTime;
 @Entity
 @Builder
 
-@Table(name = "market")
+@Table(name = "market", indexes = {
+		// 목록 키셋 페이지네이션용 (created_at DESC, market_id DESC)
+		@Index(name = "idx_market_created_at_id", columnList = "created_at, market_id"),
+		// 기부/판매 필터 목록
+		@Index(name = "idx_market_donation_created_at", columnList = "is_donation, created_at, market_id"),
+		// 태그 필터 목록
+		@Index(name = "idx_market_tag_created_at", columnList = "tag, created_at, market_id")
+})
 public class Market {
 
 	@Id
@@ -47,6 +54,15 @@ public class Market {
 
 	@Column(name = "created_at")
 	private LocalDateTime createdAt;
+
+	// 좋아요/댓글 수 (비정규화 카운터)
+	// - 엔티티 저장(save) 시에는 쓰지 않고, 좋아요/댓글 변경과 같은 트랜잭션의 원자적 UPDATE로만 증감
+	// - 드리프트는 주기적 재계산 작업(reconcileCounters)으로 보정
+	@Column(name = "like_count", insertable = false, updatable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+	private Long likeCount;
+
+	@Column(name = "comment_count", insertable = false, updatable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+	private Long commentCount;
 }
 
 
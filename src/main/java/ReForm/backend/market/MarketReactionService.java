@@ -0,0 +1,84 @@
+package ReForm.backend.market;
+
+import ReForm.backend.market.repository.MarketCommentRepository;
+import ReForm.backend.market.repository.MarketLikeRepository;
+import ReForm.backend.market.repository.MarketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 마켓 좋아요/댓글 변경 서비스
+ * - 좋아요/댓글 행 추가·삭제와 market.like_count/comment_count 증감을 한 트랜잭션으로 묶습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MarketReactionService {
+
+	private final MarketRepository marketRepository;
+	private final MarketLikeRepository marketLikeRepository;
+	private final MarketCommentRepository marketCommentRepository;
+
+	/**
+	 * 좋아요 등록 + like_count 1 증가
+	 * - 행이 실제로 삽입된 경우에만 카운터를 올립니다. (동시 중복 요청이면 false)
+	 */
+	@Transactional
+	public boolean addLike(MarketLike like) {
+		Integer marketId = like.getMarket().getMarketId();
+		if (marketLikeRepository.insertIfAbsent(marketId, like.getUser().getUserId(), like.getLikedAt()) == 0) {
+			return false;
+		}
+		marketRepository.addLikeCount(marketId, 1);
+		return true;
+	}
+
+	/**
+	 * 좋아요 삭제 + like_count 1 감소
+	 * - 행이 실제로 삭제된 경우에만 카운터를 내립니다. (이미 삭제되었으면 false)
+	 */
+	@Transactional
+	public boolean removeLike(Integer marketId, String userId) {
+		if (marketLikeRepository.deleteByMarketIdAndUserId(marketId, userId) == 0) {
+			return false;
+		}
+		marketRepository.addLikeCount(marketId, -1);
+		return true;
+	}
+
+	/**
+	 * 댓글 등록 + comment_count 1 증가
+	 */
+	@Transactional
+	public MarketComment addComment(MarketComment comment) {
+		MarketComment saved = marketCommentRepository.save(comment);
+		marketRepository.addCommentCount(comment.getMarket().getMarketId(), 1);
+		return saved;
+	}
+
+	/**
+	 * 댓글 삭제 + comment_count 1 감소
+	 * - 행이 실제로 삭제된 경우에만 카운터를 내립니다. (동시 삭제 요청이면 false)
+	 */
+	@Transactional
+	public boolean removeComment(Integer marketId, Integer commentId) {
+		if (marketCommentRepository.deleteByCommentId(commentId) == 0) {
+			return false;
+		}
+		marketRepository.addCommentCount(marketId, -1);
+		return true;
+	}
+
+	/**
+	 * 카운터 드리프트 보정 (기본: 매일 04:30)
+	 */
+	@Scheduled(cron = "${counters.reconcile.cron:0 30 4 * * *}")
+	@Transactional
+	public void reconcileCounters() {
+		int repaired = marketRepository.reconcileCounters();
+		log.info("[MarketReactionService] 카운터 보정 완료 - repairedRows={}", repaired);
+	}
+}
@@ -0,0 +1,24 @@
+package ReForm.backend.market;
+
+import ReForm.backend.market.repository.MarketRepository;
+import ReForm.backend.search.DocumentSearchService;
+import org.springframework.stereotype.Service;
+
+/**
+ * 마켓 제품 검색 서비스
+ * - 제목/본문/태그를 인메모리 역색인으로 검색합니다. (LIKE '%q%' 전체 스캔 대체)
+ * - 한글 바이그램으로 색인하며, 제목 일치를 태그/본문 일치보다 높게 평가합니다.
+ * - 색인 갱신/재구성/검색 동작은 DocumentSearchService 참고
+ */
+@Service
+public class MarketSearchService extends DocumentSearchService<Market> {
+
+	// 필드 순서: 제목, 본문, 태그 (가중치 3 / 1 / 2)
+	public MarketSearchService(MarketRepository marketRepository) {
+		super("MarketSearchService",
+				Market::getMarketId,
+				m -> new String[]{m.getTitle(), m.getContent(), m.getTag()},
+				marketRepository::findSearchDocumentsAfter,
+				3f, 1f, 2f);
+	}
+}
@@ -1,9 +1,18 @@
 package ReForm.backend.market.controller;
 
+import ReForm.backend.common.CurrentUser;
+import ReForm.backend.common.FeedCursor;
+import ReForm.backend.image.UploadedImageService;
 import ReForm.backend.market.Market;
+import ReForm.backend.market.MarketReactionService;
+import ReForm.backend.market.MarketSearchService;
+import ReForm.backend.market.DTO.MarketListFilter;
+import ReForm.backend.market.DTO.MarketSummaryDTO;
 import ReForm.backend.market.repository.MarketRepository;
 import ReForm.backend.market.repository.MarketLikeRepository;
 import ReForm.backend.market.repository.MarketCommentRepository;
+import ReForm.backend.s3.AwsS3Service;
+import ReForm.backend.search.InvertedIndex;
 import ReForm.backend.user.User;
 import ReForm.backend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +25,7 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 @RestController
 @RequiredArgsConstructor
@@ -27,6 +37,12 @@ public class MarketController {
     private final UserRepository userRepository;
     private final MarketLikeRepository marketLikeRepository;
     private final MarketCommentRepository marketCommentRepository;
+    private final MarketReactionService marketReactionService;
+    private final MarketSearchService marketSearchService;
+    private final UploadedImageService uploadedImageService;
+
+    // 목록/검색 결과 한 페이지 최대 크기
+    private static final int MAX_LIST_PAGE_SIZE = 50;
 
     /**
      * 마켓 제품 등록
@@ -34,10 +50,8 @@ public class MarketController {
      * - 헤더: Authorization: Bearer {access_token}
      */
     @PostMapping("/item")
-    public ResponseEntity<Map<String, Object>> createMarketItem(@RequestBody MarketItemRequestDTO request) {
+    public ResponseEntity<Map<String, Object>> createMarketItem(@RequestBody MarketItemRequestDTO request, @CurrentUser String userId) {
         try {
-            // 현재 인증된 사용자 ID 추출
-            String userId = getCurrentUserId();
             if (userId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(Map.of("error", "인증이 필요합니다."));
@@ -61,8 +75,20 @@ public class MarketController {
                     .createdAt(LocalDateTime.now())
                     .build();
 
-            // DB 저장
-            Market savedMarket = marketRepository.save(market);
+            // 업로드된 이미지만 연결 (제품 글이 이미지 참조를 가짐)
+            if (!uploadedImageService.attach(AwsS3Service.Category.MARKET, request.getImage())) {
+                throw new IllegalArgumentException("등록되지 않은 이미지입니다. 이미지 업로드 후 받은 URL을 사용하세요.");
+            }
+
+            // DB 저장 (실패하면 연결한 이미지 참조만 되돌림)
+            Market savedMarket;
+            try {
+                savedMarket = marketRepository.save(market);
+            } catch (RuntimeException e) {
+                uploadedImageService.detach(AwsS3Service.Category.MARKET, request.getImage());
+                throw e;
+            }
+            marketSearchService.index(savedMarket);
 
             // 응답 생성
             Map<String, Object> response = new HashMap<>();
@@ -96,9 +122,9 @@ public class MarketController {
     @DeleteMapping("/item/{marketId}/delete-comment/{commentId}")
     public ResponseEntity<Map<String, Object>> deleteMarketComment(
             @PathVariable Integer marketId,
-            @PathVariable Integer commentId) {
+            @PathVariable Integer commentId,
+            @CurrentUser String userId) {
         try {
-            String userId = getCurrentUserId();
             if (userId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(Map.of("error", "인증이 필요합니다."));
@@ -117,7 +143,10 @@ public class MarketController {
                         .body(Map.of("error", "본인의 댓글만 삭제할 수 있습니다."));
             }
 
-            marketCommentRepository.deleteById(commentId);
+            if (!marketReactionService.removeComment(marketId, commentId)) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Map.of("error", "댓글을 찾을 수 없습니다."));
+            }
 
             Map<String, Object> resp = new HashMap<>();
             resp.put("message", "댓글이 삭제되었습니다.");
@@ -144,9 +173,9 @@ public class MarketController {
     public ResponseEntity<Map<String, Object>> updateMarketComment(
             @PathVariable Integer marketId,
             @PathVariable Integer commentId,
-            @RequestBody CreateCommentRequest request) {
+            @RequestBody CreateCommentRequest request,
+            @CurrentUser String userId) {
         try {
-            String userId = getCurrentUserId();
             if (userId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(Map.of("error", "인증이 필요합니다."));
@@ -201,9 +230,9 @@ public class MarketController {
     @PostMapping("/item/{marketId}/comment")
     public ResponseEntity<Map<String, Object>> createMarketComment(
             @PathVariable Integer marketId,
-            @RequestBody CreateCommentRequest request) {
+            @RequestBody CreateCommentRequest request,
+            @CurrentUser String userId) {
         try {
-            String userId = getCurrentUserId();
             if (userId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(Map.of("error", "인증이 필요합니다."));
@@ -222,7 +251,7 @@ public class MarketController {
                     .createdAt(java.time.LocalDateTime.now())
                     .build();
 
-            ReForm.backend.market.MarketComment saved = marketCommentRepository.save(comment);
+            ReForm.backend.market.MarketComment saved = marketReactionService.addComment(comment);
 
             Map<String, Object> resp = new HashMap<>();
             resp.put("message", "댓글이 등록되었습니다.");
@@ -249,9 +278,8 @@ public class MarketController {
      * - 헤더: Authorization: Bearer {access_token}
      */
     @GetMapping("/{marketId}/see-comment")
-    public ResponseEntity<Map<String, Object>> getMarketComments(@PathVariable Integer marketId) {
+    public ResponseEntity<Map<String, Object>> getMarketComments(@PathVariable Integer marketId, @CurrentUser String userId) {
         try {
-            String userId = getCurrentUserId();
             if (userId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(Map.of("error", "인증이 필요합니다."));
@@ -298,9 +326,8 @@ public class MarketController {
      * - 헤더: Authorization: Bearer {access_token}
      */
     @DeleteMapping("/item/{marketId}/delete-like")
-    public ResponseEntity<Map<String, Object>> deleteMarketLike(@PathVariable Integer marketId) {
+    public ResponseEntity<Map<String, Object>> deleteMarketLike(@PathVariable Integer marketId, @CurrentUser String userId) {
         try {
-            String userId = getCurrentUserId();
             if (userId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(Map.of("error", "인증이 필요합니다."));
@@ -314,7 +341,10 @@ public class MarketController {
                         .body(Map.of("error", "좋아요가 존재하지 않습니다."));
             }
 
-            marketLikeRepository.deleteById(id);
+            if (!marketReactionService.removeLike(marketId, userId)) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Map.of("error", "좋아요가 존재하지 않습니다."));
+            }
 
             Map<String, Object> resp = new HashMap<>();
             resp.put("message", "좋아요가 삭제되었습니다.");
@@ -335,9 +365,8 @@ public class MarketController {
      * - 헤더: Authorization: Bearer {access_token}
      */
     @PostMapping("/item/{marketId}/like")
-    public ResponseEntity<Map<String, Object>> likeMarketItem(@PathVariable Integer marketId) {
+    public ResponseEntity<Map<String, Object>> likeMarketItem(@PathVariable Integer marketId, @CurrentUser String userId) {
         try {
-            String userId = getCurrentUserId();
             if (userId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(Map.of("error", "인증이 필요합니다."));
@@ -364,7 +393,10 @@ public class MarketController {
                     .likedAt(java.time.LocalDateTime.now())
                     .build();
 
-            marketLikeRepository.save(like);
+            if (!marketReactionService.addLike(like)) {
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(Map.of("error", "이미 좋아요를 눌렀습니다."));
+            }
 
             Map<String, Object> resp = new HashMap<>();
             resp.put("message", "좋아요가 등록되었습니다.");
@@ -388,10 +420,9 @@ public class MarketController {
      * - 헤더: Authorization: Bearer {access_token}
      */
     @GetMapping("/{marketId}")
-    public ResponseEntity<Map<String, Object>> getMarketDetail(@PathVariable Integer marketId) {
+    public ResponseEntity<Map<String, Object>> getMarketDetail(@PathVariable Integer marketId, @CurrentUser String userId) {
         try {
             // 인증 확인
-            String userId = getCurrentUserId();
             if (userId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(Map.of("error", "인증이 필요합니다."));
@@ -411,6 +442,8 @@ public class MarketController {
             body.put("image", market.getImage());
             body.put("content", market.getContent());
             body.put("isDonation", market.getIsDonation());
+            body.put("likeCount", market.getLikeCount());
+            body.put("commentCount", market.getCommentCount());
 
             // comments
             var comments = marketCommentRepository.findByMarket_MarketIdOrderByCreatedAtDesc(marketId);
@@ -437,44 +470,85 @@ public class MarketController {
     }
 
     /**
-     * 마켓 목록 조회 (모든 컬럼 반환)
-     * - 경로: GET /market
+     * 마켓 목록 조회 (최신순, 키셋 페이지네이션)
+     * - 경로: GET /market?donation=&minPrice=&maxPrice=&tag=&authorId=&cursor=&size=20
      * - 헤더: Authorization: Bearer {access_token}
+     * - 모든 필터는 선택이며 함께 지정하면 AND로 적용
+     * - 본문(content)은 제외하고 반환 (상세 조회에서 제공)
+     * - 응답의 nextCursor를 다음 요청의 cursor로 전달 (hasNext=false면 마지막 페이지)
      */
     @GetMapping
-    public ResponseEntity<Map<String, Object>> getMarketList() {
+    public ResponseEntity<Map<String, Object>> getMarketList(
+            @RequestParam(value = "donation", required = false) Boolean donation,
+            @RequestParam(value = "minPrice", required = false) Integer minPrice,
+            @RequestParam(value = "maxPrice", required = false) Integer maxPrice,
+            @RequestParam(value = "tag", required = false) String tag,
+            @RequestParam(value = "authorId", required = false) String authorId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @CurrentUser String userId) {
         try {
             // 인증 확인
-            String userId = getCurrentUserId();
             if (userId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(Map.of("error", "인증이 필요합니다."));
             }
+            if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+                throw new IllegalArgumentException("minPrice는 maxPrice보다 클 수 없습니다.");
+            }
 
-            List<Market> markets = marketRepository.findAllByOrderByCreatedAtDesc();
+            MarketListFilter filter = MarketListFilter.builder()
+                    .donation(donation)
+                    .minPrice(minPrice)
+                    .maxPrice(maxPrice)
+                    .tag(tag == null || tag.isBlank() ? null : tag)
+                    .authorId(authorId == null || authorId.isBlank() ? null : authorId)
+                    .build();
+
+            int pageSize = FeedCursor.boundedSize(size, MAX_LIST_PAGE_SIZE);
+            FeedCursor after = FeedCursor.decode(cursor);
+
+            // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+            List<MarketSummaryDTO> rows = marketRepository.findSummaries(filter, after, pageSize + 1);
+            boolean hasNext = rows.size() > pageSize;
+            if (hasNext) {
+                rows = rows.subList(0, pageSize);
+            }
 
-            List<Map<String, Object>> items = markets.stream()
+            List<Map<String, Object>> items = rows.stream()
                     .map(m -> {
                         Map<String, Object> item = new HashMap<>();
                         item.put("marketId", m.getMarketId());
-                        item.put("userId", m.getUser() != null ? m.getUser().getUserId() : null);
-                        item.put("author", m.getUser() != null ? m.getUser().getUserName() : null);
-                    item.put("authorProfileImageUrl", m.getUser() != null ? m.getUser().getProfileImageUrl() : null);
+                        item.put("userId", m.getAuthorId());
+                        item.put("author", m.getAuthor());
+                        item.put("authorProfileImageUrl", m.getAuthorProfileImageUrl());
                         item.put("title", m.getTitle());
-                        item.put("content", m.getContent());
                         item.put("tag", m.getTag());
                         item.put("image", m.getImage());
+                        item.put("thumbnail", m.getThumbnail() != null ? m.getThumbnail() : m.getImage()); // 카드용 축소본 (없으면 원본)
                         item.put("price", m.getPrice());
                         item.put("isDonation", m.getIsDonation());
                         item.put("createdAt", m.getCreatedAt());
+                        item.put("likeCount", m.getLikeCount());
+                        item.put("commentCount", m.getCommentCount());
                         return item;
                     })
                     .toList();
 
+            String nextCursor = null;
+            if (hasNext) {
+                MarketSummaryDTO last = rows.get(rows.size() - 1);
+                nextCursor = new FeedCursor(last.getCreatedAt(), last.getMarketId()).encode();
+            }
+
             Map<String, Object> response = new HashMap<>();
             response.put("items", items);
-            response.put("totalCount", items.size());
+            response.put("nextCursor", nextCursor);
+            response.put("hasNext", hasNext);
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             log.error("[/market] 목록 조회 실패", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -483,38 +557,61 @@ public class MarketController {
     }
 
     /**
-     * 마켓 제목 검색 (부분일치)
-     * - 경로: GET /market/search/{string}
+     * 마켓 제품 검색 (제목/본문/태그, 관련도순)
+     * - 경로: GET /market/search/{string}?page=0&size=20
      * - 헤더: Authorization: Bearer {access_token}
+     * - 인메모리 역색인에서 순위를 계산하고, 해당 페이지의 제품 카드만 단일 IN 쿼리로 조회 (본문 제외 프로젝션)
      */
     @GetMapping("/search/{string}")
-    public ResponseEntity<Map<String, Object>> searchMarketByTitle(@PathVariable("string") String keyword) {
+    public ResponseEntity<Map<String, Object>> searchMarketByTitle(
+            @PathVariable("string") String keyword,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @CurrentUser String userId) {
         try {
             // 인증 확인
-            String userId = getCurrentUserId();
             if (userId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(Map.of("error", "인증이 필요합니다."));
             }
+            if (page < 0) {
+                throw new IllegalArgumentException("page는 0 이상이어야 합니다.");
+            }
 
-            String query = keyword == null ? "" : keyword;
-            List<Market> markets = marketRepository.findByTitleContainingOrderByCreatedAtDesc(query);
+            int pageSize = FeedCursor.boundedSize(size, MAX_LIST_PAGE_SIZE);
+            InvertedIndex.SearchPage result = marketSearchService.search(keyword == null ? "" : keyword, page, pageSize);
 
-            List<Map<String, Object>> items = markets.stream()
-                    .map(m -> {
-                        Map<String, Object> item = new HashMap<>();
-                        item.put("marketId", m.getMarketId());
-                        item.put("title", m.getTitle());
-                        item.put("author", m.getUser() != null ? m.getUser().getUserName() : "");
-                        item.put("createdAt", m.getCreatedAt());
-                        return item;
-                    })
-                    .toList();
+            List<Integer> ids = result.getHits().stream().map(InvertedIndex.Hit::getId).toList();
+            Map<Integer, MarketSummaryDTO> cards = new HashMap<>();
+            if (!ids.isEmpty()) {
+                for (MarketSummaryDTO card : marketRepository.findSummariesByIds(ids)) {
+                    cards.put(card.getMarketId(), card);
+                }
+            }
+
+            List<Map<String, Object>> items = new java.util.ArrayList<>();
+            for (Integer id : ids) {
+                MarketSummaryDTO m = cards.get(id);
+                if (m == null) continue; // 다른 인스턴스에서 삭제된 제품
+
+                Map<String, Object> item = new HashMap<>();
+                item.put("marketId", m.getMarketId());
+                item.put("title", m.getTitle());
+                item.put("author", m.getAuthor() != null ? m.getAuthor() : "");
+                item.put("createdAt", m.getCreatedAt());
+                items.add(item);
+            }
 
             Map<String, Object> response = new HashMap<>();
             response.put("items", items);
-            response.put("totalCount", items.size());
+            response.put("page", page);
+            response.put("size", pageSize);
+            response.put("totalCount", result.getTotalCount());
+            response.put("hasNext", (long) (page + 1) * pageSize < result.getTotalCount());
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             log.error("[/market/search/{}] 검색 실패", keyword, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -530,10 +627,9 @@ public class MarketController {
     @PutMapping("/item/{marketId}")
     public ResponseEntity<Map<String, Object>> updateMarketItem(
             @PathVariable Integer marketId,
-            @RequestBody MarketItemRequestDTO request) {
+            @RequestBody MarketItemRequestDTO request,
+            @CurrentUser String userId) {
         try {
-            // 현재 인증된 사용자 ID 추출
-            String userId = getCurrentUserId();
             if (userId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(Map.of("error", "인증이 필요합니다."));
@@ -564,8 +660,27 @@ public class MarketController {
                     .createdAt(existingMarket.getCreatedAt()) // 생성일은 유지
                     .build();
 
-            // DB 저장
-            Market savedMarket = marketRepository.save(updatedMarket);
+            // 이미지가 바뀌었으면 새 이미지를 연결 (업로드된 이미지만)
+            boolean imageChanged = !Objects.equals(existingMarket.getImage(), request.getImage());
+            if (imageChanged && !uploadedImageService.attach(AwsS3Service.Category.MARKET, request.getImage())) {
+                throw new IllegalArgumentException("등록되지 않은 이미지입니다. 이미지 업로드 후 받은 URL을 사용하세요.");
+            }
+
+            // DB 저장 (실패하면 새로 연결한 이미지 참조만 되돌림)
+            Market savedMarket;
+            try {
+                savedMarket = marketRepository.save(updatedMarket);
+            } catch (RuntimeException e) {
+                if (imageChanged) {
+                    uploadedImageService.detach(AwsS3Service.Category.MARKET, request.getImage());
+                }
+                throw e;
+            }
+            marketSearchService.index(savedMarket);
+            // 이전 이미지는 이 제품 글이 얻은 참조만 해제
+            if (imageChanged) {
+                uploadedImageService.release(existingMarket.getImage());
+            }
 
             // 응답 생성
             Map<String, Object> response = new HashMap<>();
@@ -599,10 +714,8 @@ public class MarketController {
      * - 헤더: Authorization: Bearer {access_token}
      */
     @DeleteMapping("/delete-item/{marketId}")
-    public ResponseEntity<Map<String, Object>> deleteMarketItem(@PathVariable Integer marketId) {
+    public ResponseEntity<Map<String, Object>> deleteMarketItem(@PathVariable Integer marketId, @CurrentUser String userId) {
         try {
-            // 현재 인증된 사용자 ID 추출
-            String userId = getCurrentUserId();
             if (userId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(Map.of("error", "인증이 필요합니다."));
@@ -622,6 +735,8 @@ public class MarketController {
 
             // 제품 삭제
             marketRepository.delete(existingMarket);
+            marketSearchService.remove(marketId);
+            uploadedImageService.release(existingMarket.getImage());
 
             // 응답 생성
             Map<String, Object> response = new HashMap<>();
@@ -643,27 +758,6 @@ public class MarketController {
         }
     }
 
-    /**
-     * 현재 인증된 사용자 ID 추출
-     */
-    private String getCurrentUserId() {
-        try {
-            String email = org.springframework.security.core.context.SecurityContextHolder.getContext()
-                    .getAuthentication() != null ?
-                    org.springframework.security.core.context.SecurityContextHolder.getContext().getAuthentication().getName() : null;
-
-            if (email == null) {
-                return null;
-            }
-
-            return userRepository.findByEmail(email)
-                    .map(User::getUserId)
-                    .orElse(null);
-        } catch (Exception e) {
-            log.error("사용자 ID 추출 실패", e);
-            return null;
-        }
-    }
 
     /**
      * 마켓 제품 등록 요청 DTO
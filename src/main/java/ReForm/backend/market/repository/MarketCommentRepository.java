@@ -2,6 +2,9 @@ package ReForm.backend.market.repository;
 
 import ReForm.backend.market.MarketComment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,6 +13,12 @@ import java.util.List;
 public interface MarketCommentRepository extends JpaRepository<MarketComment, Integer> {
 
     List<MarketComment> findByMarket_MarketIdOrderByCreatedAtDesc(Integer marketId);
-}
-
 
+    /**
+     * 댓글 삭제
+     * @return 실제로 삭제된 행 수 (이미 삭제되었으면 0)
+     */
+    @Modifying
+    @Query("DELETE FROM MarketComment c WHERE c.commentId = :commentId")
+    int deleteByCommentId(@Param("commentId") Integer commentId);
+}
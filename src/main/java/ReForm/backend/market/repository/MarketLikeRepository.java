@@ -3,14 +3,35 @@ package ReForm.backend.market.repository;
 import ReForm.backend.market.MarketLike;
 import ReForm.backend.market.MarketLike.MarketLikeId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
 public interface MarketLikeRepository extends JpaRepository<MarketLike, MarketLikeId> {
 
     Optional<MarketLike> findById(MarketLikeId id);
-}
 
+    /**
+     * 좋아요 행 삽입 (이미 있으면 무시)
+     * @return 실제로 삽입된 행 수 (중복이면 0)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO market_like (market_id, user_id, liked_at) VALUES (:marketId, :userId, :likedAt)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("marketId") Integer marketId, @Param("userId") String userId,
+                       @Param("likedAt") LocalDateTime likedAt);
 
+    /**
+     * 좋아요 행 삭제
+     * @return 실제로 삭제된 행 수 (없으면 0)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM market_like WHERE market_id = :marketId AND user_id = :userId",
+           nativeQuery = true)
+    int deleteByMarketIdAndUserId(@Param("marketId") Integer marketId, @Param("userId") String userId);
+}
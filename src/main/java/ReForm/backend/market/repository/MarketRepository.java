@@ -1,13 +1,17 @@
 package ReForm.backend.market.repository;
 
 import ReForm.backend.market.Market;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
-public interface MarketRepository extends JpaRepository<Market, Integer> {
+public interface MarketRepository extends JpaRepository<Market, Integer>, MarketRepositoryCustom {
 
     /**
      * 사용자별 마켓 게시글 조회
@@ -17,24 +21,38 @@ public interface MarketRepository extends JpaRepository<Market, Integer> {
     List<Market> findByUser_UserIdOrderByCreatedAtDesc(String userId);
 
     /**
-     * 기부 상품만 조회
-     * @return 기부 상품 목록
+     * 검색 색인 재구성용 (marketId, title, content, tag), ID 오름차순 키셋 배치
      */
-    List<Market> findByIsDonationTrueOrderByCreatedAtDesc();
+    @Query("SELECT m.marketId, m.title, m.content, m.tag FROM Market m " +
+           "WHERE m.marketId > :afterId ORDER BY m.marketId")
+    List<Object[]> findSearchDocumentsAfter(@Param("afterId") Integer afterId, Pageable pageable);
 
     /**
-     * 판매 상품만 조회
-     * @return 판매 상품 목록
+     * 좋아요 수 원자적 증감 (좋아요 등록/삭제와 같은 트랜잭션에서 호출)
      */
-    List<Market> findByIsDonationFalseOrderByCreatedAtDesc();
+    @Modifying
+    @Query(value = "UPDATE market SET like_count = GREATEST(like_count + :delta, 0) WHERE market_id = :marketId",
+           nativeQuery = true)
+    int addLikeCount(@Param("marketId") Integer marketId, @Param("delta") long delta);
 
     /**
-     * 전체 목록 최신순 조회
+     * 댓글 수 원자적 증감 (댓글 등록/삭제와 같은 트랜잭션에서 호출)
      */
-    List<Market> findAllByOrderByCreatedAtDesc();
+    @Modifying
+    @Query(value = "UPDATE market SET comment_count = GREATEST(comment_count + :delta, 0) WHERE market_id = :marketId",
+           nativeQuery = true)
+    int addCommentCount(@Param("marketId") Integer marketId, @Param("delta") long delta);
 
     /**
-     * 제목 부분일치 검색 (최신순)
+     * 카운터 재계산: 실제 좋아요/댓글 수와 다른 제품만 보정
+     * @return 보정된 행 수
      */
-    List<Market> findByTitleContainingOrderByCreatedAtDesc(String title);
+    @Modifying
+    @Query(value = "UPDATE market m SET " +
+                   "m.like_count = (SELECT COUNT(*) FROM market_like l WHERE l.market_id = m.market_id), " +
+                   "m.comment_count = (SELECT COUNT(*) FROM market_comment mc WHERE mc.market_id = m.market_id) " +
+                   "WHERE m.like_count <> (SELECT COUNT(*) FROM market_like l2 WHERE l2.market_id = m.market_id) " +
+                   "OR m.comment_count <> (SELECT COUNT(*) FROM market_comment mc2 WHERE mc2.market_id = m.market_id)",
+           nativeQuery = true)
+    int reconcileCounters();
 }
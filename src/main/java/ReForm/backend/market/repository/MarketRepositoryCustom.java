@@ -0,0 +1,23 @@
+package ReForm.backend.market.repository;
+
+import ReForm.backend.common.FeedCursor;
+import ReForm.backend.market.DTO.MarketListFilter;
+import ReForm.backend.market.DTO.MarketSummaryDTO;
+
+import java.util.List;
+
+public interface MarketRepositoryCustom {
+
+    /**
+     * 필터 + 키셋 페이지네이션 목록 조회 (최신순)
+     * @param filter 적용할 조건 (null 필드는 무시)
+     * @param after  이전 페이지 마지막 행 커서 (첫 페이지는 null)
+     * @param limit  최대 행 수
+     */
+    List<MarketSummaryDTO> findSummaries(MarketListFilter filter, FeedCursor after, int limit);
+
+    /**
+     * 지정한 제품들의 목록 카드 조회 (검색 결과용, 순서는 호출 측에서 정렬)
+     */
+    List<MarketSummaryDTO> findSummariesByIds(List<Integer> ids);
+}
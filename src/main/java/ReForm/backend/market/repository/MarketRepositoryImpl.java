@@ -0,0 +1,73 @@
+package ReForm.backend.market.repository;
+
+import ReForm.backend.common.FeedCursor;
+import ReForm.backend.market.DTO.MarketListFilter;
+import ReForm.backend.market.DTO.MarketSummaryDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MarketRepositoryCustom 구현
+ * - 값이 있는 조건만 WHERE 절에 넣어, 조합마다 맞는 인덱스를 옵티마이저가 고를 수 있게 합니다.
+ *   (기부 여부: idx_market_donation_created_at, 태그: idx_market_tag_created_at,
+ *    작성자: user_id FK 인덱스, 조건 없음: idx_market_created_at_id)
+ */
+public class MarketRepositoryImpl implements MarketRepositoryCustom {
+
+    private static final String SUMMARY_SELECT = "SELECT new ReForm.backend.market.DTO.MarketSummaryDTO(" +
+            "m.marketId, m.title, m.tag, m.image, ui.thumbnailUrl, m.price, m.isDonation, m.createdAt, " +
+            "u.userId, u.userName, u.profileImageUrl, m.likeCount, m.commentCount) " +
+            "FROM Market m JOIN m.user u LEFT JOIN UploadedImage ui ON ui.url = m.image WHERE 1 = 1";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<MarketSummaryDTO> findSummaries(MarketListFilter filter, FeedCursor after, int limit) {
+        StringBuilder jpql = new StringBuilder(SUMMARY_SELECT);
+        Map<String, Object> params = new HashMap<>();
+
+        if (filter.getDonation() != null) {
+            jpql.append(" AND m.isDonation = :donation");
+            params.put("donation", filter.getDonation());
+        }
+        if (filter.getMinPrice() != null) {
+            jpql.append(" AND m.price >= :minPrice");
+            params.put("minPrice", filter.getMinPrice());
+        }
+        if (filter.getMaxPrice() != null) {
+            jpql.append(" AND m.price <= :maxPrice");
+            params.put("maxPrice", filter.getMaxPrice());
+        }
+        if (filter.getTag() != null) {
+            jpql.append(" AND m.tag = :tag");
+            params.put("tag", filter.getTag());
+        }
+        if (filter.getAuthorId() != null) {
+            jpql.append(" AND u.userId = :authorId");
+            params.put("authorId", filter.getAuthorId());
+        }
+        if (after != null) {
+            jpql.append(" AND (m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.marketId < :marketId))");
+            params.put("createdAt", after.getCreatedAt());
+            params.put("marketId", after.getId());
+        }
+        jpql.append(" ORDER BY m.createdAt DESC, m.marketId DESC");
+
+        TypedQuery<MarketSummaryDTO> query = entityManager.createQuery(jpql.toString(), MarketSummaryDTO.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<MarketSummaryDTO> findSummariesByIds(List<Integer> ids) {
+        return entityManager.createQuery(SUMMARY_SELECT + " AND m.marketId IN :ids", MarketSummaryDTO.class)
+                .setParameter("ids", ids)
+                .getResultList();
+    }
+}
@@ -7,12 +7,32 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ChecksumMode;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-
-import java.util.ArrayList;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +45,14 @@ public class AwsS3Service {
 	@Value("${aws.region}")
 	private String region;
 
+	// S3 호환 스토리지(로컬 MinIO 등) 사용 시 엔드포인트 (비어 있으면 AWS S3)
+	@Value("${aws.s3.endpoint:}")
+	private String endpoint;
+
+	// 업로드 허용 최대 크기 (multipart 설정의 max-file-size와 맞춤)
+	@Value("${storage.stream.max-object-size-mb:100}")
+	private long maxObjectSizeMb;
+
 	// 카테고리별로 S3 내에 저장될 하위 경로(prefix)를 주입받아 사용 (기본값 제공)
 	@Value("${storage.subdirs.ai:ai}")
 	private String aiPrefix;
@@ -38,13 +66,47 @@ public class AwsS3Service {
 	@Value("${storage.subdirs.profile:profile}")
 	private String profilePrefix;
 
+	// 직접 업로드 오브젝트의 카테고리 하위 경로 ({category}/{direct}/{userId}/...)
+	@Value("${storage.subdirs.direct:direct}")
+	private String directPrefix;
+
+	// presigned 직접 업로드 URL 유효 시간
+	@Value("${storage.direct.presign-ttl-seconds:600}")
+	private long presignTtlSeconds;
+
 	private final S3Client s3Client;
+	private final S3StreamingUploader s3StreamingUploader;
+	private final S3AsyncUploader s3AsyncUploader;
+	private final S3Presigner s3Presigner;
+
+	// 키에 그대로 넣을 수 있는 사용자 ID
+	private static final Pattern SAFE_OWNER = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+	// 키에 붙일 수 있는 확장자
+	private static final Pattern SAFE_EXTENSION = Pattern.compile("[a-z0-9]{1,5}");
 
 	/**
 	 * 업로드 카테고리 (S3 버킷 내 폴더 구분용)
 	 */
 	public enum Category { AI, COMMUNITY, MARKET, PROFILE }
 
+	/**
+	 * 해시를 계산하며 올린 업로드 결과 (contentHash: 본문 SHA-256 hex)
+	 */
+	public record HashedUpload(String key, String url, String contentHash) {}
+
+	/**
+	 * presigned PUT 발급 결과
+	 * - headers: 업로드 요청에 그대로 보내야 하는 헤더 (서명에 포함되어 값이 다르면 S3가 거부)
+	 * - url: 업로드 완료 후의 공개 URL
+	 */
+	public record PresignedUpload(String key, String uploadUrl, Map<String, List<String>> headers, Instant expiresAt, String url) {}
+
+	/**
+	 * HeadObject로 확인한 오브젝트 정보 (contentHash: 업로드 시 SHA-256 체크섬을 보냈으면 hex, 아니면 null)
+	 */
+	public record ObjectInfo(long size, String contentType, String contentHash) {}
+
 	/**
 	 * 단일 파일 업로드
 	 * - S3에 파일을 업로드하고 공개 URL을 반환합니다.
@@ -63,15 +125,21 @@ public class AwsS3Service {
 		log.info("[S3] 업로드 시작 - bucket={}, region={}, key={}, size={}, contentType={}",
 				bucketName, region, key, multipartFile.getSize(), multipartFile.getContentType());
 
-		PutObjectRequest request = PutObjectRequest.builder()
-				.bucket(bucketName)
-				.key(key)
-				.contentType(multipartFile.getContentType())
-				.acl(ObjectCannedACL.PUBLIC_READ) // 업로드 즉시 공개 읽기 권한 부여
-				.build();
-
 		try {
-			s3Client.putObject(request, RequestBody.fromInputStream(multipartFile.getInputStream(), multipartFile.getSize()));
+			if (multipartFile.getSize() >= s3StreamingUploader.getPartSize()) {
+				// 큰 파일은 multipart upload로 파트를 병렬 전송
+				try (InputStream in = multipartFile.getInputStream()) {
+					s3StreamingUploader.upload(bucketName, key, multipartFile.getContentType(), in, maxObjectBytes());
+				}
+			} else {
+				PutObjectRequest request = PutObjectRequest.builder()
+						.bucket(bucketName)
+						.key(key)
+						.contentType(multipartFile.getContentType())
+						.acl(ObjectCannedACL.PUBLIC_READ) // 업로드 즉시 공개 읽기 권한 부여
+						.build();
+				s3Client.putObject(request, RequestBody.fromInputStream(multipartFile.getInputStream(), multipartFile.getSize()));
+			}
 		} catch (Exception e) {
 			log.error("[S3] 업로드 실패 - key={}, 원인={}", key, e.getMessage(), e);
 			throw new IllegalStateException("S3 업로드 실패: " + e.getMessage(), e);
@@ -117,40 +185,177 @@ public class AwsS3Service {
 	}
 
 	/**
-	 * 다중 파일 업로드
-	 * - 각 파일마다 store를 호출하여 업로드하고, 업로드된 공개 URL 목록을 반환합니다.
+	 * 스트림 업로드 (요청 본문을 임시 파일 없이 바로 S3로 전송)
+	 * - 크기를 미리 알 필요가 없으며, S3StreamingUploader가 메모리 버퍼 단위로 나눠 multipart upload 합니다.
+	 * - 최대 크기(storage.stream.max-object-size-mb)를 넘으면 업로드를 중단하고 IllegalArgumentException
+	 */
+	public String storeStream(InputStream inputStream, String originalFilename, String contentType, Category category) {
+		String uniqueName = createUniqueFileName(originalFilename);
+		String key = buildObjectKey(category, uniqueName);
+
+		log.info("[S3] 업로드(스트림) 시작 - bucket={}, region={}, key={}, contentType={}",
+				bucketName, region, key, contentType);
+
+		long size;
+		try {
+			size = s3StreamingUploader.upload(bucketName, key, contentType, inputStream, maxObjectBytes());
+		} catch (IllegalArgumentException e) {
+			throw e;
+		} catch (Exception e) {
+			log.error("[S3] 업로드(스트림) 실패 - key={}, 원인={}", key, e.getMessage(), e);
+			throw new IllegalStateException("S3 업로드 실패: " + e.getMessage(), e);
+		}
+
+		String url = buildPublicUrl(key);
+		log.info("[S3] 업로드(스트림) 성공 - key={}, size={}, url={}", key, size, url);
+		return url;
+	}
+
+	/**
+	 * 스트림 업로드 + 내용 해시
+	 * - storeStream과 같지만 S3로 보내는 바이트를 그대로 SHA-256에 흘려 업로드가 끝나면 해시도 함께 반환합니다.
+	 *   (중복 이미지 판별용, 스트림을 두 번 읽지 않음)
+	 */
+	public HashedUpload storeHashed(InputStream inputStream, String originalFilename, String contentType, Category category) {
+		MessageDigest digest = sha256();
+		String url = storeStream(new DigestInputStream(inputStream, digest), originalFilename, contentType, category);
+		return new HashedUpload(extractKey(url), url, HexFormat.of().formatHex(digest.digest()));
+	}
+
+	/**
+	 * 지정한 키로 바이트 배열 업로드 (고정 키가 필요한 공용 리소스용, 같은 키가 있으면 덮어씀)
+	 */
+	public String storeAt(String key, byte[] bytes, String contentType) {
+		s3Client.putObject(PutObjectRequest.builder()
+				.bucket(bucketName)
+				.key(key)
+				.contentType(contentType)
+				.acl(ObjectCannedACL.PUBLIC_READ)
+				.build(), RequestBody.fromBytes(bytes));
+		String url = buildPublicUrl(key);
+		log.info("[S3] 업로드(고정 키) 성공 - key={}, url={}", key, url);
+		return url;
+	}
+
+	/**
+	 * 오브젝트 존재 여부 (HeadObject)
+	 */
+	public boolean exists(String key) {
+		try {
+			s3Client.headObject(HeadObjectRequest.builder().bucket(bucketName).key(key).build());
+			return true;
+		} catch (S3Exception e) {
+			if (e.statusCode() == 404) {
+				return false;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * 클라이언트 직접 업로드용 presigned PUT URL 발급
+	 * - 키는 {category prefix}/{direct}/{ownerId}/{uuid}{ext}로, 발급받은 사용자 전용 경로 아래에만 만듭니다.
+	 * - Content-Type, Content-Length, public-read ACL(그리고 전달된 경우 SHA-256 체크섬)이 서명에 포함되므로
+	 *   클라이언트는 반환된 headers를 그대로 보내야 하고, 다른 크기/형식이나 다른 내용의 본문은 S3가 거부합니다.
+	 * @param contentSha256 본문 SHA-256 (hex, 선택) - 완료 시 중복 이미지 판별에 사용
+	 */
+	public PresignedUpload presignPut(Category category, String ownerId, String originalFilename,
+									  String contentType, long contentLength, String contentSha256) {
+		String key = directUploadPrefix(category, ownerId) + createUniqueFileName(originalFilename);
+		PutObjectRequest.Builder object = PutObjectRequest.builder()
+				.bucket(bucketName)
+				.key(key)
+				.contentType(contentType)
+				.contentLength(contentLength)
+				.acl(ObjectCannedACL.PUBLIC_READ);
+		if (contentSha256 != null) {
+			object.checksumSHA256(Base64.getEncoder().encodeToString(HexFormat.of().parseHex(contentSha256)));
+		}
+		PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+				.signatureDuration(Duration.ofSeconds(presignTtlSeconds))
+				.putObjectRequest(object.build())
+				.build());
+		log.info("[S3] presigned PUT 발급 - key={}, size={}, contentType={}, expiresAt={}",
+				key, contentLength, contentType, presigned.expiration());
+		return new PresignedUpload(key, presigned.url().toString(), presigned.signedHeaders(),
+				presigned.expiration(), buildPublicUrl(key));
+	}
+
+	/**
+	 * 사용자별 직접 업로드 경로 (끝에 / 포함)
+	 * - 키에 쓸 수 없는 문자가 있는 사용자 ID는 해시로 대체합니다.
+	 */
+	public String directUploadPrefix(Category category, String ownerId) {
+		String owner = SAFE_OWNER.matcher(ownerId).matches()
+				? ownerId
+				: HexFormat.of().formatHex(sha256().digest(ownerId.getBytes(StandardCharsets.UTF_8))).substring(0, 32);
+		return buildObjectKey(category, directPrefix + "/" + owner + "/");
+	}
+
+	/**
+	 * 오브젝트 정보 조회 (HeadObject, 없으면 empty)
 	 */
-	public List<String> uploadFiles(List<MultipartFile> multipartFiles, Category category) {
-		if (multipartFiles == null || multipartFiles.isEmpty()) {
-			return List.of();
+	public Optional<ObjectInfo> head(String key) {
+		try {
+			HeadObjectResponse response = s3Client.headObject(HeadObjectRequest.builder()
+					.bucket(bucketName)
+					.key(key)
+					.checksumMode(ChecksumMode.ENABLED)
+					.build());
+			String checksum = response.checksumSHA256();
+			String contentHash = checksum != null && !checksum.contains("-")
+					? HexFormat.of().formatHex(Base64.getDecoder().decode(checksum))
+					: null;
+			return Optional.of(new ObjectInfo(response.contentLength(), response.contentType(), contentHash));
+		} catch (S3Exception e) {
+			if (e.statusCode() == 404) {
+				return Optional.empty();
+			}
+			throw e;
 		}
-		List<String> urls = new ArrayList<>();
-		for (MultipartFile file : multipartFiles) {
-			urls.add(store(file, category));
+	}
+
+	/**
+	 * 키의 공개 URL
+	 */
+	public String publicUrl(String key) {
+		return buildPublicUrl(key);
+	}
+
+	/**
+	 * SHA-256 MessageDigest (JDK 필수 알고리즘)
+	 */
+	public static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
 		}
-		return urls;
+	}
+
+	public long maxObjectBytes() {
+		return maxObjectSizeMb * 1024 * 1024;
 	}
 
 	/**
-	 * (기존 시그니처 유지) 리스트 인자만 받는 업로드 메서드
-	 * - 기본 카테고리를 AI로 가정하여 업로드합니다.
+	 * 지정한 키로 바이트 배열 비동기 업로드 (이미지 rendition 등, 완료 시 공개 URL)
 	 */
-	public List<String> uploadFile(List<MultipartFile> multipartFiles) {
-		return uploadFiles(multipartFiles, Category.AI);
+	public CompletableFuture<String> storeAsync(String key, byte[] bytes, String contentType) {
+		return s3AsyncUploader.upload(bucketName, key, bytes, contentType).thenApply(v -> buildPublicUrl(key));
 	}
 
 	/**
-	 * AI 전용 단일 업로드 헬퍼
+	 * 카테고리 prefix 아래의 새 오브젝트 키 (확장자 없음, 파생 키의 기준 이름으로 사용)
 	 */
-	public String storeForAI(MultipartFile multipartFile) {
-		return store(multipartFile, Category.AI);
+	public String newObjectKey(Category category) {
+		return buildObjectKey(category, UUID.randomUUID().toString().replace("-", ""));
 	}
 
 	/**
-	 * AI 전용 다중 업로드 헬퍼
+	 * 오브젝트 삭제 (비동기, 실패해도 예외 없음)
 	 */
-	public List<String> storeAllForAI(List<MultipartFile> multipartFiles) {
-		return uploadFiles(multipartFiles, Category.AI);
+	public void deleteQuietly(String key) {
+		s3AsyncUploader.deleteQuietly(bucketName, key);
 	}
 
 	/**
@@ -162,12 +367,15 @@ public class AwsS3Service {
 	}
 
 	/**
-	 * 확장자 추출 (없으면 빈 문자열)
+	 * 확장자 추출 (소문자 영숫자 1~5자일 때만 사용, 없거나 형식이 다르면 빈 문자열)
+	 * - 클라이언트가 보낸 파일명이므로 경로 구분자, 공백, 제어 문자 등이 오브젝트 키에 들어가지 않게 합니다.
 	 */
 	private String getExtension(String originalFilename) {
 		if (originalFilename == null) return "";
 		int dot = originalFilename.lastIndexOf('.');
-		return dot >= 0 ? originalFilename.substring(dot) : "";
+		if (dot < 0) return "";
+		String ext = originalFilename.substring(dot + 1).toLowerCase(Locale.ROOT);
+		return SAFE_EXTENSION.matcher(ext).matches() ? "." + ext : "";
 	}
 
 	/**
@@ -196,10 +404,33 @@ public class AwsS3Service {
 
 	/**
 	 * S3 공개 URL 생성 (버킷이 public-read 가정)
+	 * - 엔드포인트가 설정된 경우 path-style URL (endpoint/bucket/key)
 	 */
 	private String buildPublicUrl(String key) {
+		if (!endpoint.isBlank()) {
+			return trimTrailingSlash(endpoint) + "/" + bucketName + "/" + key;
+		}
 		return "https://" + bucketName + ".s3." + region + ".amazonaws.com/" + key;
 	}
+
+	/**
+	 * 공개 URL에서 오브젝트 키(prefix 포함) 추출 (이 서비스가 만든 URL이 아니면 그대로 반환)
+	 */
+	public String extractKey(String url) {
+		if (!endpoint.isBlank()) {
+			String base = trimTrailingSlash(endpoint) + "/" + bucketName + "/";
+			if (url.startsWith(base)) {
+				return url.substring(base.length());
+			}
+		}
+		int idx = url.indexOf(".amazonaws.com/");
+		if (idx < 0) return url;
+		return url.substring(idx + ".amazonaws.com/".length());
+	}
+
+	private static String trimTrailingSlash(String value) {
+		return value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+	}
 }
 
 
@@ -0,0 +1,109 @@
+package ReForm.backend.s3;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * S3AsyncClient 기반 비동기 업로드
+ * - 업로드는 호출 스레드를 막지 않고 CompletableFuture로 완료를 알립니다.
+ * - 서버 전체의 동시 업로드 수는 max-concurrency개로 제한하며, 초과분은 대기열에 넣었다가 앞선 업로드가 끝나는 대로 시작합니다.
+ *   (대기 중에 취소된 업로드는 시작하지 않음)
+ */
+@Component
+@Slf4j
+public class S3AsyncUploader {
+
+	private final S3AsyncClient s3AsyncClient;
+
+	// 동시 업로드 제한: 허가를 얻지 못한 업로드는 waiting에서 대기
+	private final Semaphore permits;
+	private final Queue<Runnable> waiting = new ConcurrentLinkedQueue<>();
+
+	public S3AsyncUploader(S3AsyncClient s3AsyncClient,
+						   @Value("${storage.async.max-concurrency:16}") int maxConcurrency) {
+		this.s3AsyncClient = s3AsyncClient;
+		this.permits = new Semaphore(Math.max(1, maxConcurrency));
+	}
+
+	/**
+	 * 바이트 배열 업로드 (public-read, 변환된 이미지 등 메모리에 있는 데이터)
+	 */
+	public CompletableFuture<Void> upload(String bucket, String key, byte[] bytes, String contentType) {
+		return submit(() -> deleteQuietly(bucket, key), () -> s3AsyncClient.putObject(PutObjectRequest.builder()
+						.bucket(bucket)
+						.key(key)
+						.contentType(contentType)
+						.acl(ObjectCannedACL.PUBLIC_READ)
+						.build(), AsyncRequestBody.fromBytes(bytes))
+				.thenApply(r -> (Void) null));
+	}
+
+	/**
+	 * 오브젝트 삭제 (실패해도 예외 없이 로그만 남김)
+	 */
+	public void deleteQuietly(String bucket, String key) {
+		s3AsyncClient.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build())
+				.whenComplete((r, t) -> {
+					if (t != null) {
+						log.warn("[S3] 오브젝트 삭제 실패 - key={}, 원인={}", key, t.getMessage());
+					} else {
+						log.info("[S3] 오브젝트 삭제 - key={}", key);
+					}
+				});
+	}
+
+	// onLateSuccess: 결과 future가 이미 취소/완료된 뒤에 작업이 성공한 경우 실행
+	private <T> CompletableFuture<T> submit(Runnable onLateSuccess, Supplier<CompletableFuture<T>> task) {
+		CompletableFuture<T> result = new CompletableFuture<>();
+		waiting.add(() -> {
+			if (result.isDone()) {
+				release(); // 대기 중에 취소/시간 초과
+				return;
+			}
+			try {
+				task.get().whenComplete((value, error) -> {
+					release();
+					if (error != null) {
+						result.completeExceptionally(error);
+					} else if (!result.complete(value)) {
+						onLateSuccess.run();
+					}
+				});
+			} catch (Throwable t) {
+				release();
+				result.completeExceptionally(t);
+			}
+		});
+		drain();
+		return result;
+	}
+
+	// 허가가 있는 만큼 대기열의 업로드를 시작
+	private void drain() {
+		while (!waiting.isEmpty() && permits.tryAcquire()) {
+			Runnable next = waiting.poll();
+			if (next == null) {
+				permits.release();
+				return;
+			}
+			next.run();
+		}
+	}
+
+	private void release() {
+		permits.release();
+		drain();
+	}
+}
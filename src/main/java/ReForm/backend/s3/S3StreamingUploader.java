@@ -0,0 +1,271 @@
+package ReForm.backend.s3;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 입력 스트림을 임시 파일 없이 S3에 업로드
+ * - 스트림을 part-size-mb 크기의 메모리 버퍼로 나눠 읽고, 첫 버퍼에 다 들어가면 PutObject 한 번으로 끝냅니다.
+ * - 더 크면 S3 multipart upload로 전환해 읽은 파트를 전용 스레드 풀에서 병렬 업로드합니다.
+ *   (업로드 하나당 동시 전송 파트는 max-parts-in-flight개)
+ * - 버퍼는 전체 업로드가 공유하는 풀에서 빌려 쓰며 최대 max-buffers개입니다.
+ *   동시 업로드가 아무리 많아도 파트 버퍼 메모리는 part-size-mb * max-buffers를 넘지 않습니다.
+ *   빈 버퍼가 없으면 buffer-wait-ms 동안 기다린 뒤 실패합니다.
+ * - 파트 업로드가 하나라도 실패하거나 크기 상한을 넘으면 multipart upload를 abort하므로 불완전한 파트가 버킷에 남지 않습니다.
+ */
+@Component
+@Slf4j
+public class S3StreamingUploader {
+
+	// S3 multipart 최소 파트 크기 (마지막 파트 제외)
+	private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+	private final S3Client s3Client;
+	private final int partSize;
+	private final int maxPartsInFlight;
+	private final long bufferWaitMs;
+	private final ExecutorService partUploaders;
+
+	// 버퍼 풀: 필요할 때 만들고, 반납된 버퍼는 재사용
+	private final Semaphore bufferPermits;
+	private final Queue<byte[]> freeBuffers = new ConcurrentLinkedQueue<>();
+
+	public S3StreamingUploader(S3Client s3Client,
+							   @Value("${storage.stream.part-size-mb:8}") int partSizeMb,
+							   @Value("${storage.stream.max-buffers:16}") int maxBuffers,
+							   @Value("${storage.stream.max-parts-in-flight:4}") int maxPartsInFlight,
+							   @Value("${storage.stream.buffer-wait-ms:30000}") long bufferWaitMs) {
+		this.s3Client = s3Client;
+		this.partSize = Math.max(MIN_PART_SIZE, partSizeMb * 1024 * 1024);
+		this.maxPartsInFlight = Math.max(1, maxPartsInFlight);
+		this.bufferWaitMs = bufferWaitMs;
+		int buffers = Math.max(2, maxBuffers);
+		this.bufferPermits = new Semaphore(buffers);
+		AtomicInteger seq = new AtomicInteger();
+		this.partUploaders = Executors.newFixedThreadPool(buffers, r -> {
+			Thread t = new Thread(r, "s3-part-" + seq.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		});
+	}
+
+	public int getPartSize() {
+		return partSize;
+	}
+
+	/**
+	 * 스트림을 끝까지 읽어 bucket/key에 업로드 (public-read)
+	 * @param maxBytes 허용하는 최대 크기 (초과하면 업로드를 중단하고 IllegalArgumentException)
+	 * @return 업로드한 바이트 수
+	 */
+	public long upload(String bucket, String key, String contentType, InputStream in, long maxBytes) {
+		byte[] first = acquireBuffer();
+		int firstLength;
+		try {
+			firstLength = readFully(in, first);
+		} catch (IOException e) {
+			releaseBuffer(first);
+			throw new IllegalStateException("업로드 스트림 읽기 실패: " + e.getMessage(), e);
+		}
+		if (firstLength == 0) {
+			releaseBuffer(first);
+			throw new IllegalArgumentException("업로드할 데이터가 비어 있습니다.");
+		}
+		if (firstLength > maxBytes) {
+			releaseBuffer(first);
+			throw new IllegalArgumentException("업로드 크기 제한을 초과했습니다. (최대 " + maxBytes + " bytes)");
+		}
+		if (firstLength < partSize) {
+			// 한 파트 크기 미만: multipart 없이 단일 PutObject
+			try {
+				s3Client.putObject(PutObjectRequest.builder()
+								.bucket(bucket)
+								.key(key)
+								.contentType(contentType)
+								.acl(ObjectCannedACL.PUBLIC_READ)
+								.build(),
+						RequestBody.fromInputStream(new ByteArrayInputStream(first, 0, firstLength), firstLength));
+			} finally {
+				releaseBuffer(first);
+			}
+			return firstLength;
+		}
+		return uploadMultipart(bucket, key, contentType, in, maxBytes, first);
+	}
+
+	private long uploadMultipart(String bucket, String key, String contentType, InputStream in, long maxBytes, byte[] first) {
+		String uploadId;
+		try {
+			uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+					.bucket(bucket)
+					.key(key)
+					.contentType(contentType)
+					.acl(ObjectCannedACL.PUBLIC_READ)
+					.build()).uploadId();
+		} catch (RuntimeException e) {
+			releaseBuffer(first);
+			throw e;
+		}
+
+		Semaphore inFlight = new Semaphore(maxPartsInFlight);
+		List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+		byte[] buffer = first;
+		int length = partSize;
+		long total = 0;
+		try {
+			while (true) {
+				total += length;
+				if (total > maxBytes) {
+					throw new IllegalArgumentException("업로드 크기 제한을 초과했습니다. (최대 " + maxBytes + " bytes)");
+				}
+				inFlight.acquire();
+				parts.add(submitPart(bucket, key, uploadId, parts.size() + 1, buffer, length, inFlight));
+				buffer = null; // 파트 업로드가 끝나면 반납됨
+				if (length < partSize || parts.stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+					break;
+				}
+				buffer = acquireBuffer();
+				length = readFully(in, buffer);
+				if (length == 0) {
+					releaseBuffer(buffer);
+					buffer = null;
+					break;
+				}
+			}
+			List<CompletedPart> completed = new ArrayList<>(parts.size());
+			for (CompletableFuture<CompletedPart> part : parts) {
+				completed.add(part.join());
+			}
+			s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+					.bucket(bucket)
+					.key(key)
+					.uploadId(uploadId)
+					.multipartUpload(CompletedMultipartUpload.builder().parts(completed).build())
+					.build());
+			log.info("[S3] multipart 업로드 완료 - key={}, parts={}, size={}", key, completed.size(), total);
+			return total;
+		} catch (Exception e) {
+			if (buffer != null) {
+				releaseBuffer(buffer);
+			}
+			abort(bucket, key, uploadId, parts);
+			if (e instanceof IllegalArgumentException iae) {
+				throw iae;
+			}
+			if (e instanceof InterruptedException) {
+				Thread.currentThread().interrupt();
+			}
+			Throwable cause = e.getCause() != null ? e.getCause() : e;
+			throw new IllegalStateException("S3 multipart 업로드 실패: " + cause.getMessage(), cause);
+		}
+	}
+
+	private CompletableFuture<CompletedPart> submitPart(String bucket, String key, String uploadId, int partNumber,
+														byte[] buffer, int length, Semaphore inFlight) {
+		try {
+			return CompletableFuture.supplyAsync(() -> {
+				try {
+					String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+									.bucket(bucket)
+									.key(key)
+									.uploadId(uploadId)
+									.partNumber(partNumber)
+									.contentLength((long) length)
+									.build(),
+							RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, length), length)).eTag();
+					return CompletedPart.builder().partNumber(partNumber).eTag(eTag).build();
+				} finally {
+					releaseBuffer(buffer);
+					inFlight.release();
+				}
+			}, partUploaders);
+		} catch (RuntimeException e) {
+			releaseBuffer(buffer);
+			inFlight.release();
+			throw e;
+		}
+	}
+
+	// 진행 중인 파트가 끝난 뒤 abort (abort 이후 완료된 파트가 남지 않도록)
+	private void abort(String bucket, String key, String uploadId, List<CompletableFuture<CompletedPart>> parts) {
+		try {
+			CompletableFuture.allOf(parts.toArray(new CompletableFuture[0]))
+					.handle((r, t) -> null)
+					.get(bufferWaitMs, TimeUnit.MILLISECONDS);
+		} catch (Exception ignore) {
+			// 대기 실패와 무관하게 abort 시도
+		}
+		try {
+			s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+					.bucket(bucket)
+					.key(key)
+					.uploadId(uploadId)
+					.build());
+			log.warn("[S3] multipart 업로드 중단(abort) - key={}, uploadId={}", key, uploadId);
+		} catch (Exception e) {
+			log.error("[S3] multipart abort 실패 - key={}, uploadId={}, 원인={}", key, uploadId, e.getMessage());
+		}
+	}
+
+	private byte[] acquireBuffer() {
+		try {
+			if (!bufferPermits.tryAcquire(bufferWaitMs, TimeUnit.MILLISECONDS)) {
+				throw new IllegalStateException("업로드 버퍼가 부족합니다. 잠시 후 다시 시도하세요.");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("업로드 버퍼 대기 중 인터럽트", e);
+		}
+		byte[] buffer = freeBuffers.poll();
+		return buffer != null ? buffer : new byte[partSize];
+	}
+
+	private void releaseBuffer(byte[] buffer) {
+		freeBuffers.offer(buffer);
+		bufferPermits.release();
+	}
+
+	// 버퍼가 가득 차거나 스트림이 끝날 때까지 읽음
+	private static int readFully(InputStream in, byte[] buffer) throws IOException {
+		int filled = 0;
+		while (filled < buffer.length) {
+			int n = in.read(buffer, filled, buffer.length - filled);
+			if (n < 0) {
+				break;
+			}
+			filled += n;
+		}
+		return filled;
+	}
+
+	@PreDestroy
+	void shutdown() {
+		partUploaders.shutdown();
+	}
+}
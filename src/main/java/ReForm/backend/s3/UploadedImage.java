@@ -14,7 +14,10 @@ import java.time.LocalDateTime;
 @Entity
 @Builder
 
-@Table(name = "uploaded_image")
+@Table(name = "uploaded_image", indexes = {
+		@Index(name = "uk_uploaded_image_category_hash", columnList = "category, content_hash", unique = true),
+		@Index(name = "uk_uploaded_image_s3_key", columnList = "s3_key", unique = true)
+})
 public class UploadedImage {
 
 	@Id
@@ -23,7 +26,7 @@ public class UploadedImage {
 	private Long id;
 
 	@Column(name = "category", nullable = false)
-	private String category; // ai | community | market
+	private String category; // ai | community | market | profile
 
 	@Column(name = "file_name", nullable = false)
 	private String fileName; // 최종 S3 파일명 (키의 마지막 segment)
@@ -34,6 +37,28 @@ public class UploadedImage {
 	@Column(name = "url", nullable = false, length = 1024)
 	private String url; // 공개 접근 가능한 URL
 
+	// 목록 카드/썸네일용 축소본 (ImageRenditionService, 원본 그대로 저장된 이미지는 null)
+	@Column(name = "card_key", length = 512)
+	private String cardKey;
+
+	@Column(name = "card_url", length = 1024)
+	private String cardUrl;
+
+	@Column(name = "thumbnail_key", length = 512)
+	private String thumbnailKey;
+
+	@Column(name = "thumbnail_url", length = 1024)
+	private String thumbnailUrl;
+
+	// 원본 내용의 SHA-256 (hex), 같은 카테고리에 같은 이미지가 다시 올라오면 이 행의 키/URL을 재사용
+	@Column(name = "content_hash", length = 64)
+	private String contentHash;
+
+	// 이 이미지를 참조하는 업로드 수 (0이 되면 행과 S3 오브젝트 삭제), 게시글 이미지는 연결한 게시글 수 (업로드 직후 0)
+	@Builder.Default
+	@Column(name = "ref_count", nullable = false)
+	private Integer refCount = 1;
+
 	@Column(name = "created_at", nullable = false)
 	private LocalDateTime createdAt;
 }
@@ -1,8 +1,59 @@
 package ReForm.backend.s3;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface UploadedImageRepository extends JpaRepository<UploadedImage, Long> {
-}
 
+    /**
+     * 같은 카테고리에 같은 내용(SHA-256)으로 저장된 이미지 (uk_uploaded_image_category_hash)
+     */
+    Optional<UploadedImage> findByCategoryAndContentHash(String category, String contentHash);
+
+    /**
+     * 키로 조회 (uk_uploaded_image_s3_key, 직접 업로드 완료 요청 재시도 확인용)
+     */
+    Optional<UploadedImage> findFirstByS3Key(String s3Key);
+
+    /**
+     * 중복 업로드 시 참조 수 증가
+     * @return 갱신된 행 수 (0이면 해당 이미지 없음)
+     */
+    @Modifying
+    @Query("UPDATE UploadedImage u SET u.refCount = u.refCount + 1 WHERE u.category = :category AND u.contentHash = :contentHash")
+    int incrementRefCount(@Param("category") String category, @Param("contentHash") String contentHash);
 
+    /**
+     * 게시글 작성/수정 시 이미지 연결 (같은 카테고리로 업로드된 URL만)
+     * @return 갱신된 행 수 (0이면 등록되지 않은 URL)
+     */
+    @Modifying
+    @Query("UPDATE UploadedImage u SET u.refCount = u.refCount + 1 WHERE u.category = :category AND u.url = :url")
+    int incrementRefCountByUrl(@Param("category") String category, @Param("url") String url);
+
+    /**
+     * 게시글 저장 실패 시 attach로 올린 참조 되돌리기 (행은 지우지 않음)
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE UploadedImage u SET u.refCount = u.refCount - 1 WHERE u.category = :category AND u.url = :url AND u.refCount > 0")
+    int decrementRefCountByUrl(@Param("category") String category, @Param("url") String url);
+
+    /**
+     * 참조 해제용 조회 (행 잠금, idx_uploaded_image_url)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM UploadedImage u WHERE u.url = :url")
+    List<UploadedImage> findByUrlForUpdate(@Param("url") String url);
+
+    @Modifying
+    @Query("UPDATE UploadedImage u SET u.refCount = u.refCount - 1 WHERE u.id = :id AND u.refCount > 1")
+    int decrementRefCount(@Param("id") Long id);
+}
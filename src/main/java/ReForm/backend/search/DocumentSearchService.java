@@ -0,0 +1,106 @@
+package ReForm.backend.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 게시글류 엔티티 공용 검색 서비스 (커뮤니티/마켓)
+ * - 엔티티에서 ID와 필드(예: 제목, 본문, 태그)를 꺼내는 함수와 재구성용 DB 조회 함수만 받아
+ *   LiveSearchIndex 색인 갱신/재구성/검색을 수행합니다.
+ * - 재구성 조회는 (ID, 필드...) 행을 ID 오름차순 키셋 배치로 돌려주어야 하며, 필드 순서는 fieldBoosts와 같아야 합니다.
+ * - 작성/수정/삭제 시 컨트롤러에서 색인을 갱신하고, 기동 시와 관리자 요청 시 DB에서 재구성합니다.
+ * - 인스턴스별 색인이므로 다른 인스턴스의 변경은 재구성 전까지 반영되지 않습니다.
+ */
+@Slf4j
+public abstract class DocumentSearchService<T> {
+
+	// 재구성 시 한 번에 읽는 문서 수
+	private static final int REBUILD_BATCH_SIZE = 500;
+
+	private final String name;
+	private final Function<T, Integer> idOf;
+	private final Function<T, String[]> fieldsOf;
+	private final BiFunction<Integer, Pageable, List<Object[]>> batchLoader;
+	private final LiveSearchIndex index;
+
+	/**
+	 * @param name        로그에 남길 이름
+	 * @param idOf        엔티티 -> 문서 ID
+	 * @param fieldsOf    엔티티 -> 색인 필드 (fieldBoosts 순서)
+	 * @param batchLoader (afterId, 페이지) -> (ID, 필드...) 행 목록
+	 * @param fieldBoosts 필드별 가중치
+	 */
+	protected DocumentSearchService(String name,
+									Function<T, Integer> idOf,
+									Function<T, String[]> fieldsOf,
+									BiFunction<Integer, Pageable, List<Object[]>> batchLoader,
+									float... fieldBoosts) {
+		this.name = name;
+		this.idOf = idOf;
+		this.fieldsOf = fieldsOf;
+		this.batchLoader = batchLoader;
+		this.index = new LiveSearchIndex(() -> new InvertedIndex(new KoreanNGramTokenizer(), fieldBoosts));
+	}
+
+	/**
+	 * 기동 시 색인 구성
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		rebuild();
+	}
+
+	/**
+	 * DB 전체 문서로 색인 재구성
+	 * @return 색인된 문서 수
+	 */
+	public int rebuild() {
+		long started = System.currentTimeMillis();
+		int indexed = index.rebuild(next -> {
+			Integer afterId = 0;
+			while (true) {
+				List<Object[]> rows = batchLoader.apply(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+				for (Object[] row : rows) {
+					next.put((Integer) row[0], Arrays.copyOfRange(row, 1, row.length, String[].class));
+				}
+				if (rows.size() < REBUILD_BATCH_SIZE) break;
+				afterId = (Integer) rows.get(rows.size() - 1)[0];
+			}
+		});
+		log.info("[{}] 색인 재구성 완료 - docs={}, elapsedMs={}", name, indexed, System.currentTimeMillis() - started);
+		return indexed;
+	}
+
+	/**
+	 * 작성/수정 반영
+	 */
+	public void index(T entity) {
+		index.put(idOf.apply(entity), fieldsOf.apply(entity));
+	}
+
+	/**
+	 * 삭제 반영
+	 */
+	public void remove(Integer id) {
+		index.remove(id);
+	}
+
+	/**
+	 * 관련도순 검색 (page는 0부터)
+	 */
+	public InvertedIndex.SearchPage search(String query, int page, int size) {
+		return index.search(query, page, size);
+	}
+
+	public int size() {
+		return index.size();
+	}
+}
@@ -0,0 +1,207 @@
+package ReForm.backend.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 인메모리 역색인 (색인어 -> 문서 ID -> 필드별 출현 빈도)
+ * - 문서는 여러 필드(예: 제목, 본문, 태그)로 구성되며, 필드별 가중치를 점수에 곱합니다.
+ * - 질의의 모든 색인어를 포함하는 문서만 결과에 포함(AND)하고, TF-IDF 합으로 정렬합니다.
+ *   제외 조건(SearchQuery 참고)에 걸리는 문서는 결과에서 뺍니다.
+ * - 원문은 저장하지 않고 색인어와 빈도만 보관하므로, 결과 카드는 DB에서 ID로 조회합니다.
+ * - 읽기/쓰기 잠금으로 검색은 동시에, 색인 갱신은 단독으로 수행합니다.
+ */
+public class InvertedIndex {
+
+	@Getter
+	@AllArgsConstructor
+	public static class Hit {
+		private final Integer id;
+		private final double score;
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static class SearchPage {
+		private final int totalCount;
+		private final List<Hit> hits;
+	}
+
+	private static final Comparator<Hit> ORDER = Comparator
+			.comparingDouble(Hit::getScore).reversed()
+			.thenComparing(Hit::getId, Comparator.reverseOrder());
+
+	private final SearchTokenizer tokenizer;
+	private final float[] fieldBoosts;
+
+	private final Map<String, Map<Integer, int[]>> postings = new HashMap<>();
+	private final Map<Integer, Set<String>> docTerms = new HashMap<>();
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/**
+	 * @param tokenizer   색인/질의 공용 토크나이저
+	 * @param fieldBoosts 필드 순서대로의 가중치 (put()에 전달하는 필드 순서와 같아야 함)
+	 */
+	public InvertedIndex(SearchTokenizer tokenizer, float... fieldBoosts) {
+		this.tokenizer = tokenizer;
+		this.fieldBoosts = fieldBoosts.clone();
+	}
+
+	/**
+	 * 문서 색인 (같은 ID가 있으면 교체)
+	 */
+	public void put(Integer docId, String... fields) {
+		// 토큰화는 잠금 밖에서 수행
+		Map<String, int[]> frequencies = new HashMap<>();
+		for (int f = 0; f < fieldBoosts.length && f < fields.length; f++) {
+			for (String term : tokenizer.tokenize(fields[f])) {
+				frequencies.computeIfAbsent(term, t -> new int[fieldBoosts.length])[f]++;
+			}
+		}
+
+		lock.writeLock().lock();
+		try {
+			removeInternal(docId);
+			if (frequencies.isEmpty()) {
+				return;
+			}
+			frequencies.forEach((term, tf) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(docId, tf));
+			docTerms.put(docId, new HashSet<>(frequencies.keySet()));
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 문서 제거
+	 */
+	public void remove(Integer docId) {
+		lock.writeLock().lock();
+		try {
+			removeInternal(docId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 색인된 문서 수
+	 */
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return docTerms.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 검색 (점수 내림차순, 동점이면 최신 ID 우선)
+	 * @param query 사용자 입력 질의 (SearchQuery 문법)
+	 * @param page  0부터 시작하는 페이지 번호
+	 * @param size  페이지 크기
+	 */
+	public SearchPage search(String query, int page, int size) {
+		return search(SearchQuery.parse(query, tokenizer), page, size);
+	}
+
+	public SearchPage search(SearchQuery query, int page, int size) {
+		if (query.isEmpty()) {
+			return new SearchPage(0, List.of());
+		}
+		List<String> terms = query.getRequiredTerms();
+
+		List<Hit> hits = new ArrayList<>();
+		lock.readLock().lock();
+		try {
+			List<Map<Integer, int[]>> lists = new ArrayList<>(terms.size());
+			for (String term : terms) {
+				Map<Integer, int[]> posting = postings.get(term);
+				if (posting == null) {
+					return new SearchPage(0, List.of());
+				}
+				lists.add(posting);
+			}
+			// 가장 짧은 포스팅 목록을 기준으로 교집합
+			lists.sort(Comparator.comparingInt(Map::size));
+
+			int docCount = docTerms.size();
+			for (Integer docId : lists.get(0).keySet()) {
+				double score = 0;
+				boolean matched = true;
+				for (Map<Integer, int[]> posting : lists) {
+					int[] tf = posting.get(docId);
+					if (tf == null) {
+						matched = false;
+						break;
+					}
+					score += termScore(tf, posting.size(), docCount);
+				}
+				if (matched && !isExcluded(docId, query.getExcludedGroups())) {
+					hits.add(new Hit(docId, score));
+				}
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		hits.sort(ORDER);
+		int from = Math.min((int) Math.min((long) page * size, Integer.MAX_VALUE), hits.size());
+		int to = Math.min(from + size, hits.size());
+		return new SearchPage(hits.size(), new ArrayList<>(hits.subList(from, to)));
+	}
+
+	// 제외 단어의 색인어를 모두 포함하면 제외
+	private boolean isExcluded(Integer docId, List<List<String>> excludedGroups) {
+		for (List<String> group : excludedGroups) {
+			boolean all = true;
+			for (String term : group) {
+				Map<Integer, int[]> posting = postings.get(term);
+				if (posting == null || !posting.containsKey(docId)) {
+					all = false;
+					break;
+				}
+			}
+			if (all) return true;
+		}
+		return false;
+	}
+
+	// 필드별 (1 + log tf) * 가중치 합 * idf
+	private double termScore(int[] tf, int docFreq, int docCount) {
+		double idf = Math.log(1.0 + (double) docCount / docFreq);
+		double weighted = 0;
+		for (int f = 0; f < tf.length; f++) {
+			if (tf[f] > 0) {
+				weighted += fieldBoosts[f] * (1.0 + Math.log(tf[f]));
+			}
+		}
+		return weighted * idf;
+	}
+
+	private void removeInternal(Integer docId) {
+		Set<String> terms = docTerms.remove(docId);
+		if (terms == null) {
+			return;
+		}
+		for (String term : terms) {
+			Map<Integer, int[]> posting = postings.get(term);
+			if (posting != null) {
+				posting.remove(docId);
+				if (posting.isEmpty()) {
+					postings.remove(term);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,98 @@
+package ReForm.backend.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 한국어 n-gram 토크나이저
+ * - NFKC 정규화로 조합형 자모(NFD 입력), 호환 자모, 전각 문자를 완성형/반각으로 통일한 뒤 소문자로 변환합니다.
+ * - 한글 연속 구간은 음절 바이그램으로 나눕니다. ("나무의자" -> 나무, 무의, 의자)
+ *   조사가 붙은 형태("의자를")나 붙여 쓴 복합어도 부분 문자열로 검색됩니다.
+ * - 한 글자 질의("책", "자")를 위해 문서의 한글 음절도 모두 단독 색인어로 추가합니다. ("의자"는 "자"로도 검색됨)
+ * - 영문/숫자 연속 구간은 단어 단위로 색인합니다.
+ */
+public class KoreanNGramTokenizer implements SearchTokenizer {
+
+	@Override
+	public List<String> tokenize(String text) {
+		List<String> tokens = new ArrayList<>();
+		forEachRun(text, (run, hangul) -> {
+			if (!hangul) {
+				tokens.add(run);
+				return;
+			}
+			// 음절마다 유니그램, 이어서 다음 음절과의 바이그램
+			for (int i = 0; i < run.length(); i++) {
+				tokens.add(run.substring(i, i + 1));
+				if (i + 2 <= run.length()) {
+					tokens.add(run.substring(i, i + 2));
+				}
+			}
+		});
+		return tokens;
+	}
+
+	/**
+	 * 질의: 두 글자 이상 한글은 바이그램만(모두 포함해야 일치), 한 글자는 음절 그대로
+	 */
+	@Override
+	public List<String> tokenizeQuery(String text) {
+		List<String> tokens = new ArrayList<>();
+		forEachRun(text, (run, hangul) -> {
+			if (!hangul || run.length() == 1) {
+				tokens.add(run);
+				return;
+			}
+			addBigrams(run, tokens);
+		});
+		return tokens;
+	}
+
+	/**
+	 * 정규화 (NFKC + 소문자)
+	 */
+	public static String normalize(String text) {
+		return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+	}
+
+	private static void addBigrams(String run, List<String> tokens) {
+		for (int i = 0; i + 2 <= run.length(); i++) {
+			tokens.add(run.substring(i, i + 2));
+		}
+	}
+
+	private interface RunConsumer {
+		void accept(String run, boolean hangul);
+	}
+
+	// 한글 음절 구간 / 영문·숫자 구간으로 나누어 전달 (그 외 문자는 구분자)
+	private static void forEachRun(String text, RunConsumer consumer) {
+		if (text == null || text.isBlank()) {
+			return;
+		}
+		String normalized = normalize(text);
+		int start = -1;
+		boolean hangul = false;
+		for (int i = 0; i <= normalized.length(); i++) {
+			int type = i < normalized.length() ? charType(normalized.charAt(i)) : 0;
+			boolean isHangul = type == 1;
+			if (start >= 0 && (type == 0 || isHangul != hangul)) {
+				consumer.accept(normalized.substring(start, i), hangul);
+				start = -1;
+			}
+			if (start < 0 && type != 0) {
+				start = i;
+				hangul = isHangul;
+			}
+		}
+	}
+
+	// 0: 구분자, 1: 한글 음절, 2: 그 외 글자/숫자
+	private static int charType(char c) {
+		if (c >= '가' && c <= '힣') return 1;
+		if (Character.isLetterOrDigit(c)) return 2;
+		return 0;
+	}
+}
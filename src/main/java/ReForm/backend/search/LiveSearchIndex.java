@@ -0,0 +1,96 @@
+package ReForm.backend.search;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 서비스 중 재구성이 가능한 검색 색인
+ * - 재구성은 새 InvertedIndex를 DB에서 채운 뒤 참조를 교체하므로, 그동안에도 기존 색인으로 검색됩니다.
+ * - 재구성 도중 들어온 작성/수정/삭제는 기존 색인에 바로 반영하고, 문서별 마지막 변경을 따로 기록해 둡니다.
+ *   loader가 끝나면 기록된 변경을 새 색인에 덮어쓴 뒤 교체하므로,
+ *   loader가 변경 전에 읽은 문서를 나중에 넣더라도(오래된 사본) 최종 색인에는 최신 내용이 남습니다.
+ * - 기록 적용과 교체 사이에 변경이 끼어들지 않도록, 변경은 읽기 잠금(동시 허용), 적용/교체는 쓰기 잠금으로 수행합니다.
+ */
+public class LiveSearchIndex {
+
+	// 재구성 중 삭제 표시 (put의 필드 배열과 참조로 구분)
+	private static final String[] REMOVED = new String[0];
+
+	private final Supplier<InvertedIndex> factory;
+	private final Object rebuildLock = new Object();
+	private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+	private volatile InvertedIndex active;
+	// 재구성 중일 때만 존재: 문서 ID -> 마지막 변경(필드 또는 REMOVED)
+	private volatile Map<Integer, String[]> pending;
+
+	public LiveSearchIndex(Supplier<InvertedIndex> factory) {
+		this.factory = factory;
+		this.active = factory.get();
+	}
+
+	public void put(Integer docId, String... fields) {
+		apply(docId, fields);
+	}
+
+	public void remove(Integer docId) {
+		apply(docId, REMOVED);
+	}
+
+	public InvertedIndex.SearchPage search(String query, int page, int size) {
+		return active.search(query, page, size);
+	}
+
+	public int size() {
+		return active.size();
+	}
+
+	/**
+	 * 새 색인을 loader로 채운 뒤 교체 (동시에 하나의 재구성만 수행)
+	 * @return 재구성된 문서 수
+	 */
+	public int rebuild(Consumer<InvertedIndex> loader) {
+		synchronized (rebuildLock) {
+			InvertedIndex next = factory.get();
+			Map<Integer, String[]> changes = new ConcurrentHashMap<>();
+			pending = changes;
+			try {
+				loader.accept(next);
+				swapLock.writeLock().lock();
+				try {
+					changes.forEach((docId, fields) -> applyTo(next, docId, fields));
+					active = next;
+				} finally {
+					swapLock.writeLock().unlock();
+				}
+			} finally {
+				pending = null;
+			}
+			return next.size();
+		}
+	}
+
+	private void apply(Integer docId, String[] fields) {
+		swapLock.readLock().lock();
+		try {
+			Map<Integer, String[]> changes = pending;
+			if (changes != null) {
+				changes.put(docId, fields);
+			}
+			applyTo(active, docId, fields);
+		} finally {
+			swapLock.readLock().unlock();
+		}
+	}
+
+	private static void applyTo(InvertedIndex index, Integer docId, String[] fields) {
+		if (fields == REMOVED) {
+			index.remove(docId);
+		} else {
+			index.put(docId, fields);
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package ReForm.backend.search;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 검색 질의 파서
+ * - 공백으로 나눈 각 단어를 모두 포함하는 문서를 찾습니다. (AND)
+ * - "-단어"는 제외 조건입니다. 해당 단어의 색인어를 모두 포함하는 문서는 결과에서 뺍니다.
+ * - 제외 조건만 있는 질의는 결과가 없습니다.
+ */
+@Getter
+public class SearchQuery {
+
+	// 최대 단어 수 (과도한 질의로 교집합 비용이 커지지 않도록 제한)
+	private static final int MAX_WORDS = 10;
+
+	private final List<String> requiredTerms;
+	private final List<List<String>> excludedGroups;
+
+	private SearchQuery(List<String> requiredTerms, List<List<String>> excludedGroups) {
+		this.requiredTerms = requiredTerms;
+		this.excludedGroups = excludedGroups;
+	}
+
+	public static SearchQuery parse(String raw, SearchTokenizer tokenizer) {
+		Set<String> required = new LinkedHashSet<>();
+		List<List<String>> excluded = new ArrayList<>();
+		if (raw != null) {
+			int words = 0;
+			for (String word : raw.trim().split("\\s+")) {
+				if (word.isEmpty() || words++ >= MAX_WORDS) continue;
+				if (word.startsWith("-") && word.length() > 1) {
+					List<String> terms = tokenizer.tokenizeQuery(word.substring(1));
+					if (!terms.isEmpty()) excluded.add(List.copyOf(new LinkedHashSet<>(terms)));
+				} else {
+					required.addAll(tokenizer.tokenizeQuery(word));
+				}
+			}
+		}
+		return new SearchQuery(List.copyOf(required), List.copyOf(excluded));
+	}
+
+	public boolean isEmpty() {
+		return requiredTerms.isEmpty();
+	}
+}
@@ -0,0 +1,23 @@
+package ReForm.backend.search;
+
+import java.util.List;
+
+/**
+ * 검색 색인/질의용 토크나이저
+ * - 같은 토크나이저로 문서와 질의를 분해해야 색인어가 일치합니다.
+ */
+public interface SearchTokenizer {
+
+	/**
+	 * 문서 텍스트를 색인어 목록으로 분해 (중복 포함, 빈도 계산에 사용)
+	 */
+	List<String> tokenize(String text);
+
+	/**
+	 * 질의 단어를 색인어 목록으로 분해
+	 * - 반환된 색인어를 모두 포함하는 문서가 일치 대상입니다. (기본: 문서와 동일)
+	 */
+	default List<String> tokenizeQuery(String text) {
+		return tokenize(text);
+	}
+}
@@ -0,0 +1,69 @@
+package ReForm.backend.search.controller;
+
+import ReForm.backend.community.CommunitySearchService;
+import ReForm.backend.market.MarketSearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/search")
+@Slf4j
+public class SearchAdminController {
+
+    private final CommunitySearchService communitySearchService;
+    private final MarketSearchService marketSearchService;
+
+    /**
+     * 검색 색인 재구성 (DB 기준)
+     * - 경로: POST /admin/search/rebuild?target={all|community|market}
+     * - 헤더: Authorization: Bearer {access_token} (ADMIN 권한)
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuild(@RequestParam(value = "target", defaultValue = "all") String target) {
+        try {
+            boolean community = target.equalsIgnoreCase("all") || target.equalsIgnoreCase("community");
+            boolean market = target.equalsIgnoreCase("all") || target.equalsIgnoreCase("market");
+            if (!community && !market) {
+                throw new IllegalArgumentException("지원하지 않는 대상입니다: " + target);
+            }
+
+            Map<String, Object> response = new HashMap<>();
+            if (community) {
+                response.put("community", communitySearchService.rebuild());
+            }
+            if (market) {
+                response.put("market", marketSearchService.rebuild());
+            }
+            response.put("message", "검색 색인이 재구성되었습니다.");
+
+            log.info("[/admin/search/rebuild] 색인 재구성 완료 - target={}", target);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("[/admin/search/rebuild] 서버 에러", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "서버 에러가 발생했습니다."));
+        }
+    }
+
+    /**
+     * 검색 색인 상태 (색인된 문서 수)
+     * - 경로: GET /admin/search/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> stats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("community", communitySearchService.size());
+        response.put("market", marketSearchService.size());
+        return ResponseEntity.ok(response);
+    }
+}
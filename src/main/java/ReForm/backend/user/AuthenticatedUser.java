@@ -0,0 +1,33 @@
+package ReForm.backend.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/**
+ * 인증 처리용 사용자 스냅샷 (불변)
+ * - 요청마다 User 엔티티를 조회하지 않도록 캐시에 보관하는 최소 정보만 담습니다.
+ * - 비밀번호/리프레시 토큰 등 민감 정보는 포함하지 않습니다.
+ * - JwtAuthenticationFilter가 SecurityContext의 principal로 저장하며, 컨트롤러는 @CurrentUser로 받습니다.
+ * - getName()은 기존 코드와의 호환을 위해 이메일을 반환합니다. (Authentication.getName())
+ */
+@Getter
+@AllArgsConstructor
+public class AuthenticatedUser implements AuthenticatedPrincipal {
+
+    private final String userId;
+    private final String email;
+    private final String userName;
+    private final String nickname;
+    private final Role role;
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(user.getUserId(), user.getEmail(), user.getUserName(),
+                user.getNickname(), user.getRole() != null ? user.getRole() : Role.USER);
+    }
+}
@@ -1,14 +1,16 @@
 package ReForm.backend.user.controller;
 
+import ReForm.backend.common.CurrentUser;
+import ReForm.backend.image.DefaultProfileImageProvider;
+import ReForm.backend.image.ImageRenditionService;
+import ReForm.backend.image.UploadedImageService;
 import ReForm.backend.s3.AwsS3Service;
 import ReForm.backend.user.User;
 import ReForm.backend.user.repository.UserRepository;
-import ReForm.backend.user.service.JwtService;
+import ReForm.backend.user.service.UserPrincipalCache;
 import ReForm.backend.user.service.ProfileCompletionService;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -18,27 +20,27 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
 import java.util.Map;
-import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
 @Slf4j
 public class AdditionalInfoController {
 
-    private final JwtService jwtService;
     private final UserRepository userRepository;
-    private final AwsS3Service awsS3Service;
+    private final UserPrincipalCache userPrincipalCache;
+    private final ImageRenditionService imageRenditionService;
+    private final UploadedImageService uploadedImageService;
+    private final DefaultProfileImageProvider defaultProfileImageProvider;
     private final ProfileCompletionService profileCompletionService;
 
     @GetMapping("/user/additional")
-    public ResponseEntity<Map<String, Object>> additionalInfoPage(HttpServletRequest request) {
+    public ResponseEntity<Map<String, Object>> additionalInfoPage(@CurrentUser String userId) {
         java.util.Map<String, Object> body = new java.util.HashMap<>();
-        Optional<String> userIdOpt = currentUserId(request);
-        if (userIdOpt.isEmpty()) {
+        if (userId == null) {
             body.put("message", "로그인이 필요합니다.");
             return ResponseEntity.status(401).body(body);
         }
-        User u = userRepository.findById(userIdOpt.get()).orElse(null);
+        User u = userRepository.findById(userId).orElse(null);
         body.put("message", "추가 정보 입력이 필요합니다.");
         if (u != null) {
             body.put("nickname", u.getNickname());
@@ -54,27 +56,25 @@ public class AdditionalInfoController {
             @RequestParam(value = "file", required = false) MultipartFile file,
             @RequestParam("nickname") String nickname,
             @RequestParam("address") String address,
-            HttpServletRequest request
+            @CurrentUser String userId
     ) {
-        Optional<String> userIdOpt = currentUserId(request);
-        if (userIdOpt.isEmpty()) return ResponseEntity.status(401).body(java.util.Map.of("message", "로그인이 필요합니다."));
-        String userId = userIdOpt.get();
+        if (userId == null) return ResponseEntity.status(401).body(java.util.Map.of("message", "로그인이 필요합니다."));
 
         log.info("[ADDITIONAL] 제출 수신 - userId={}, filePresent={}, nickname='{}', address='{}'",
                 userId, (file != null && !file.isEmpty()), nickname, address);
 
         User u = userRepository.findById(userId).orElseThrow();
 
-        String url = u.getProfileImageUrl();
+        String previousUrl = u.getProfileImageUrl();
+        String url = previousUrl;
         if (file != null && !file.isEmpty()) {
-            url = awsS3Service.store(file, ReForm.backend.s3.AwsS3Service.Category.PROFILE);
+            url = imageRenditionService.store(file, AwsS3Service.Category.PROFILE).url();
             log.info("[ADDITIONAL] 사용자 업로드 이미지 S3 저장 완료 - url={}", url);
         } else {
             try {
-                ClassPathResource resource = new ClassPathResource("basicProfile/basicUserImage.png");
-                byte[] bytes = resource.getContentAsByteArray();
-                url = awsS3Service.store(bytes, "basicUserImage.png", "image/png", ReForm.backend.s3.AwsS3Service.Category.PROFILE);
-                log.info("[ADDITIONAL] 기본 프로필 이미지 S3 업로드 완료 - url={}", url);
+                // 모든 사용자가 공유하는 기본 이미지 오브젝트 (사용자마다 새로 올리지 않음)
+                url = defaultProfileImageProvider.url();
+                log.info("[ADDITIONAL] 기본 프로필 이미지 사용 - url={}", url);
             } catch (Exception e) {
                 log.warn("기본 프로필 이미지 업로드 실패: {}. 로컬 기본 경로를 사용합니다.", e.getMessage());
                 url = "/basicProfile/basicUserImage.png";
@@ -108,6 +108,8 @@ public class AdditionalInfoController {
                 .status(status)      // 추가: status명 boolean형 필드 세팅
                 .build();
         updated = userRepository.save(updated);
+        userPrincipalCache.invalidate(userId);
+        uploadedImageService.replace(previousUrl, url);
 
         log.info("[ADDITIONAL] DB 저장 완료 - userId={}, nickname='{}', address='{}', profileImageUrl={}, status={}",
                 updated.getUserId(), updated.getNickname(), updated.getAddress(), updated.getProfileImageUrl(), Boolean.TRUE.equals(updated.getStatus()));
@@ -133,27 +135,4 @@ public class AdditionalInfoController {
         ok.put("status", true);
         return ResponseEntity.ok(ok);
     }
-
-    // currentUserId 메서드는 그대로 사용
-    private Optional<String> currentUserId(HttpServletRequest request) {
-        try {
-            org.springframework.security.core.Authentication auth =
-                    org.springframework.security.core.context.SecurityContextHolder.getContext().getAuthentication();
-            if (auth != null && auth.isAuthenticated()) {
-                String name = auth.getName();
-                if (name != null && !name.isBlank()) {
-                    Optional<String> byEmail = userRepository.findByEmail(name).map(User::getUserId);
-                    if (byEmail.isPresent()) return byEmail;
-                }
-            }
-            Optional<String> accessToken = jwtService.extractAccessToken(request);
-            Optional<String> byUserId = accessToken.flatMap(jwtService::extractUserId);
-            if (byUserId.isPresent()) return byUserId;
-            return accessToken
-                    .flatMap(jwtService::extractEmail)
-                    .flatMap(email -> userRepository.findFirstByEmailOrderByCreatedAtDesc(email).map(User::getUserId));
-        } catch (Exception e) {
-            return Optional.empty();
-        }
-    }
 }
@@ -0,0 +1,28 @@
+package ReForm.backend.user.controller;
+
+import ReForm.backend.user.service.UserPrincipalCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/cache")
+public class UserCacheAdminController {
+
+    private final UserPrincipalCache userPrincipalCache;
+
+    /**
+     * 인증 사용자 캐시 적중/미스 통계
+     * - 경로: GET /admin/cache/user-principals
+     * - 헤더: Authorization: Bearer {access_token} (ADMIN 권한)
+     */
+    @GetMapping("/user-principals")
+    public ResponseEntity<Map<String, Object>> userPrincipalStats() {
+        return ResponseEntity.ok(userPrincipalCache.stats());
+    }
+}
@@ -1,11 +1,14 @@
 package ReForm.backend.user.controller;
 
+import ReForm.backend.common.CurrentUser;
 import ReForm.backend.user.User;
 import ReForm.backend.user.SocialType;
+import ReForm.backend.image.ImageRenditionService;
+import ReForm.backend.image.UploadedImageService;
 import ReForm.backend.s3.AwsS3Service;
 import ReForm.backend.user.repository.UserRepository;
 import ReForm.backend.user.service.JwtService;
-import jakarta.servlet.http.HttpServletRequest;
+import ReForm.backend.user.service.UserPrincipalCache;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,7 +19,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/users")
@@ -25,15 +27,15 @@ public class UserController {
 
     private final JwtService jwtService;
     private final UserRepository userRepository;
-    private final AwsS3Service awsS3Service;
+    private final ImageRenditionService imageRenditionService;
+    private final UploadedImageService uploadedImageService;
+    private final UserPrincipalCache userPrincipalCache;
 
     @GetMapping("/mypage")
-    public ResponseEntity<MypageResponse> mypage(HttpServletRequest request) {
-        Optional<String> userIdOpt = currentUserId(request);
-        if (userIdOpt.isEmpty()) {
+    public ResponseEntity<MypageResponse> mypage(@CurrentUser String userId) {
+        if (userId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
-        String userId = userIdOpt.get();
         User u = userRepository.findById(userId).orElseThrow();
         String phoneForResponse = (u.getSocialType() == SocialType.LOCAL) ? u.getPhoneNumber() : null; // 소셜 로그인은 phone 비공개
         MypageResponse resp = new MypageResponse(
@@ -43,12 +45,10 @@ public class UserController {
     }
 
     @PutMapping("/me/status")
-    public ResponseEntity<MypageResponse> updateStatus(@RequestBody UpdateUserStatusRequest req, HttpServletRequest request) {
-        Optional<String> userIdOpt = currentUserId(request);
-        if (userIdOpt.isEmpty()) {
+    public ResponseEntity<MypageResponse> updateStatus(@RequestBody UpdateUserStatusRequest req, @CurrentUser String userId) {
+        if (userId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
-        String userId = userIdOpt.get();
 
         User u = userRepository.findById(userId).orElseThrow();
         User updated = User.builder()
@@ -66,6 +66,7 @@ public class UserController {
                 .updatedAt(LocalDateTime.now())
                 .build();
         updated = userRepository.save(updated);
+        userPrincipalCache.invalidate(userId);
 
         MypageResponse resp = new MypageResponse(
                 updated.getUserId(), updated.getEmail(), updated.getUserName(), updated.getNickname(), updated.getPhoneNumber(), updated.getAddress(), updated.getCreatedAt()
@@ -74,12 +75,10 @@ public class UserController {
     }
 
     @PutMapping("/add/status")
-    public ResponseEntity<MypageResponse> addStatus(@RequestBody UpdateUserStatusRequest req, HttpServletRequest request) {
-        Optional<String> userIdOpt = currentUserId(request);
-        if (userIdOpt.isEmpty()) {
+    public ResponseEntity<MypageResponse> addStatus(@RequestBody UpdateUserStatusRequest req, @CurrentUser String userId) {
+        if (userId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
-        String userId = userIdOpt.get();
 
         User u = userRepository.findById(userId).orElseThrow();
         // 최초 추가 입력 전용: 닉네임/주소 둘 다 아직 미설정이어야 하며, 요청 본문에 둘 다 제공되어야 함
@@ -107,6 +106,7 @@ public class UserController {
                 .updatedAt(LocalDateTime.now())
                 .build();
         updated = userRepository.save(updated);
+        userPrincipalCache.invalidate(userId);
 
         MypageResponse resp = new MypageResponse(
                 updated.getUserId(), updated.getEmail(), updated.getUserName(), updated.getNickname(), updated.getPhoneNumber(), updated.getAddress(), updated.getCreatedAt()
@@ -115,35 +115,31 @@ public class UserController {
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<Void> logout(HttpServletRequest request) {
-        Optional<String> userIdOpt = currentUserId(request);
-        if (userIdOpt.isEmpty()) {
+    public ResponseEntity<Void> logout(@CurrentUser String userId) {
+        if (userId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
-        String userId = userIdOpt.get();
         jwtService.updateRefreshTokenByUserId(userId, null);
+        userPrincipalCache.invalidate(userId);
         return ResponseEntity.ok().build();
     }
 
     @DeleteMapping("/delete")
-    public ResponseEntity<String> deleteMe(HttpServletRequest request) {
-        Optional<String> userIdOpt = currentUserId(request);
-        if (userIdOpt.isEmpty()) {
+    public ResponseEntity<String> deleteMe(@CurrentUser String userId) {
+        if (userId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Unauthorized");
         }
-        String userId = userIdOpt.get();
         userRepository.deleteById(userId);
+        userPrincipalCache.invalidate(userId);
         return ResponseEntity.ok("회원 탈퇴가 완료됐습니다.");
     }
 
     @PostMapping("/me/profile-image")
     public ResponseEntity<?> uploadProfileImage(@RequestParam("file") org.springframework.web.multipart.MultipartFile file,
-                                                HttpServletRequest request) {
-        Optional<String> userIdOpt = currentUserId(request);
-        if (userIdOpt.isEmpty()) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-        String userId = userIdOpt.get();
+                                                @CurrentUser String userId) {
+        if (userId == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
 
-        String url = awsS3Service.store(file, ReForm.backend.s3.AwsS3Service.Category.PROFILE);
+        String url = imageRenditionService.store(file, AwsS3Service.Category.PROFILE).url();
         User u = userRepository.findById(userId).orElseThrow();
         User updated = User.builder()
                 .userId(u.getUserId())
@@ -162,18 +158,12 @@ public class UserController {
                 .profileImageUrl(url)
                 .build();
         userRepository.save(updated);
+        userPrincipalCache.invalidate(userId);
+        // 이전 프로필 이미지 참조 해제 (다른 곳에서 쓰지 않으면 S3에서 삭제)
+        uploadedImageService.replace(u.getProfileImageUrl(), url);
         return ResponseEntity.ok(Map.of("profileImageUrl", url));
     }
 
-    private Optional<String> currentUserId(HttpServletRequest request) {
-        Optional<String> accessToken = jwtService.extractAccessToken(request);
-        Optional<String> byUserId = accessToken.flatMap(jwtService::extractUserId);
-        if (byUserId.isPresent()) return byUserId;
-        return accessToken
-                .flatMap(jwtService::extractEmail)
-                .flatMap(email -> userRepository.findFirstByEmailOrderByCreatedAtDesc(email).map(User::getUserId));
-    }
-
     @Getter
     @AllArgsConstructor
     public static class MypageResponse {
@@ -1,10 +1,12 @@
 package ReForm.backend.user.controller;
 
+import ReForm.backend.common.CurrentUser;
+import ReForm.backend.image.ImageRenditionService;
+import ReForm.backend.image.UploadedImageService;
 import ReForm.backend.s3.AwsS3Service;
 import ReForm.backend.user.User;
 import ReForm.backend.user.repository.UserRepository;
-import ReForm.backend.user.service.JwtService;
-import jakarta.servlet.http.HttpServletRequest;
+import ReForm.backend.user.service.UserPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -16,16 +18,16 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
 import java.util.Map;
-import java.util.Optional;
 
 @RestController
 @RequestMapping("/user")
 @RequiredArgsConstructor
 public class UserProfileController {
 
-    private final JwtService jwtService;
     private final UserRepository userRepository;
-    private final AwsS3Service awsS3Service;
+    private final UserPrincipalCache userPrincipalCache;
+    private final ImageRenditionService imageRenditionService;
+    private final UploadedImageService uploadedImageService;
 
     /**
      * 최초 추가정보 단계에서 프로필 이미지 등록(선택)
@@ -35,16 +37,14 @@ public class UserProfileController {
      */
     @PostMapping("/profile")
     public ResponseEntity<?> uploadOptionalProfile(@RequestParam(value = "file", required = false) MultipartFile file,
-                                                   HttpServletRequest request) {
-        Optional<String> userIdOpt = currentUserId(request);
-        if (userIdOpt.isEmpty()) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-        String userId = userIdOpt.get();
+                                                   @CurrentUser String userId) {
+        if (userId == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
 
         User u = userRepository.findById(userId).orElseThrow();
         String url;
         if (file != null && !file.isEmpty()) {
             // 프로필 전용 경로에 업로드
-            url = awsS3Service.store(file, ReForm.backend.s3.AwsS3Service.Category.PROFILE);
+            url = imageRenditionService.store(file, AwsS3Service.Category.PROFILE).url();
         } else {
             // 기본 이미지 경로 설정 (정적 리소스: src/main/resources/static/basicProfile/basicUSerImage.png)
             url = "/basicProfile/basicUSerImage.png";
@@ -66,6 +66,8 @@ public class UserProfileController {
                 .profileImageUrl(url)
                 .build();
         userRepository.save(updated);
+        userPrincipalCache.invalidate(userId);
+        uploadedImageService.replace(u.getProfileImageUrl(), url);
 
         boolean skipped = (file == null || file.isEmpty());
         return ResponseEntity.ok(Map.of(
@@ -74,14 +76,6 @@ public class UserProfileController {
                 "message", skipped ? "기본 프로필 이미지가 설정되었습니다." : "프로필 이미지가 등록되었습니다."
         ));
     }
-
-    private Optional<String> currentUserId(HttpServletRequest request) {
-        return jwtService.extractAccessToken(request)
-                .flatMap(jwtService::extractUserId)
-                .or(() -> jwtService.extractAccessToken(request)
-                        .flatMap(jwtService::extractEmail)
-                        .flatMap(email -> userRepository.findFirstByEmailOrderByCreatedAtDesc(email).map(User::getUserId)));
-    }
 }
 
 
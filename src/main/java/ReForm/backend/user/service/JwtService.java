@@ -1,11 +1,15 @@
 package ReForm.backend.user.service;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import ReForm.backend.user.SocialType;
 import ReForm.backend.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -52,12 +56,36 @@ public class JwtService { // JWT 생성 (AT, RT) , 정보 조회 판단 로직
     // 표준 Authorization 헤더 접두사 (공백 포함)
     private static final String BEARER = "Bearer ";
 
+    // 요청 attribute 키: 필터에서 한 번 검증한 AT 클레임을 같은 요청의 컨트롤러/인터셉터가 재사용
+    public static final String ACCESS_TOKEN_CLAIMS_ATTRIBUTE = JwtService.class.getName() + ".ACCESS_TOKEN_CLAIMS";
+
     private final UserRepository userRepository;
 
+    // 서명 알고리즘과 검증기는 불변/스레드 안전하므로 기동 시 한 번만 생성해 재사용
+    private Algorithm algorithm;
+    private JWTVerifier verifier;
+
     public JwtService(UserRepository userRepository) {
         this.userRepository = userRepository;
     }
 
+    @PostConstruct
+    void init() {
+        this.algorithm = Algorithm.HMAC512(secret);
+        this.verifier = JWT.require(algorithm).build();
+    }
+
+    /**
+     * 검증된 AccessToken 클레임 (요청 단위로 한 번만 파싱)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class AccessTokenClaims {
+        private final String userId;    // 로컬/소셜(신규) 토큰
+        private final String email;     // 소셜(구) 토큰
+        private final String socialType;
+    }
+
     // AccessToken 생성 로직
 
     public String createAccessToken(String email, String socialType) {
@@ -68,7 +96,7 @@ public class JwtService { // JWT 생성 (AT, RT) , 정보 조회 판단 로직
                 .withExpiresAt(new Date(now.getTime() + accessExpiration)) // 토큰 만료 기간
                 .withClaim(EMAIL_CLAIM, email) // 사용자 이메일을 클레임으로 추가
                 .withClaim(SOCIALTYPE_CLAIM, socialType) // 소셜 로그인 타입을 클레임으로 추가 ex) 구글 , 카카오, 네이버
-                .sign(Algorithm.HMAC512(secret)); // HMAC512 알고리즘과 비밀 키를 사용하여 토큰 서명
+                .sign(algorithm); // HMAC512 알고리즘과 비밀 키를 사용하여 토큰 서명
     }
 
     // userId 기반 토큰 생성 (권장: 내부 식별자)
@@ -78,7 +106,7 @@ public class JwtService { // JWT 생성 (AT, RT) , 정보 조회 판단 로직
                 .withSubject(ACCESS_TOKEN_Subject)
                 .withExpiresAt(new Date(now.getTime() + accessExpiration))
                 .withClaim(USER_ID_CLAIM, userId)
-                .sign(Algorithm.HMAC512(secret));
+                .sign(algorithm);
     }
 
     // RefreshToken 생성 로직
@@ -87,7 +115,7 @@ public class JwtService { // JWT 생성 (AT, RT) , 정보 조회 판단 로직
         return JWT.create()
                 .withSubject(REFRESH_TOKEN_Subject) //토큰 주제 설정
                 .withExpiresAt(new Date(now.getTime() + refreshExpiration)) // 토큰 만료 기간
-                .sign(Algorithm.HMAC512(secret)); // HMAC512 알고리즘과 비밀 키를 사용하여 토큰 서명
+                .sign(algorithm); // HMAC512 알고리즘과 비밀 키를 사용하여 토큰 서명
     }
 
     // AT 헤더에 담아서 전달하는 로직 (클라이언트가 최초 로그인해서 AT를 발급받을 때)
@@ -122,12 +150,48 @@ public class JwtService { // JWT 생성 (AT, RT) , 정보 조회 판단 로직
                 .map(header -> header.substring(BEARER.length()).trim());
     }
 
+    // 토큰 서명/만료 검증 (실패 시 Optional.empty())
+    public Optional<DecodedJWT> verify(String token) {
+        try {
+            return Optional.of(verifier.verify(token));
+        } catch (Exception e) {
+            log.error("유효하지 않은 토큰입니다. {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 요청의 AccessToken을 검증하고 클레임 반환
+     * - 같은 요청에서 이미 검증했다면 request attribute에 저장된 결과를 재사용 (HMAC 검증은 요청당 한 번)
+     * - 토큰이 없거나 유효하지 않으면 Optional.empty()
+     */
+    public Optional<AccessTokenClaims> resolveAccessTokenClaims(HttpServletRequest request) {
+        Object cached = request.getAttribute(ACCESS_TOKEN_CLAIMS_ATTRIBUTE);
+        if (cached instanceof AccessTokenClaims claims) {
+            return Optional.of(claims);
+        }
+        if (cached != null) {
+            return Optional.empty(); // 이미 검증에 실패한 요청
+        }
+        Optional<AccessTokenClaims> claims = extractAccessToken(request).flatMap(this::parseAccessToken);
+        request.setAttribute(ACCESS_TOKEN_CLAIMS_ATTRIBUTE, claims.isPresent() ? claims.get() : Boolean.FALSE);
+        return claims;
+    }
+
+    // AT를 한 번 검증하고 필요한 클레임을 함께 추출 (WebSocket 핸드셰이크처럼 헤더 밖의 토큰에 사용)
+    public Optional<AccessTokenClaims> parseAccessToken(String accessToken) {
+        return verify(accessToken)
+                .map(jwt -> new AccessTokenClaims(
+                        jwt.getClaim(USER_ID_CLAIM).asString(),
+                        jwt.getClaim(EMAIL_CLAIM).asString(),
+                        jwt.getClaim(SOCIALTYPE_CLAIM).asString()));
+    }
+
     // 액세스 토큰에서 claim으로 정의해둔 이메일 추출
     public Optional<String> extractEmail(String accessToken) {
         try {
             // try-catch문 활용해서 추출값이 있으면 builder 통해 반환, 없으면 Optional.Empty() 반환
-            return Optional.ofNullable(JWT.require(Algorithm.HMAC512(secret)) // JWT 시크릿키로 토큰 유효성 검사
-                    .build() // 빌더 반환해서 verifier 생성
+            return Optional.ofNullable(verifier // JWT 시크릿키로 토큰 유효성 검사 (기동 시 생성한 verifier 재사용)
                     .verify(accessToken) // 액세스 토큰이 유효한지 검증하고 일치하지 않으면 catch 구문으로 넘어가 오류 발생
                     .getClaim(EMAIL_CLAIM)
                     .asString());
@@ -140,8 +204,7 @@ public class JwtService { // JWT 생성 (AT, RT) , 정보 조회 판단 로직
     // userId 추출
     public Optional<String> extractUserId(String accessToken) {
         try {
-            return Optional.ofNullable(JWT.require(Algorithm.HMAC512(secret))
-                    .build()
+            return Optional.ofNullable(verifier
                     .verify(accessToken)
                     .getClaim(USER_ID_CLAIM)
                     .asString());
@@ -154,8 +217,7 @@ public class JwtService { // JWT 생성 (AT, RT) , 정보 조회 판단 로직
     // 액세스 토큰 검증하고 소셜 타입 추출
     public Optional<SocialType> extractSocialType(String accessToken) {
         try { // ENUM 같이 자바 객체 타입은 JWT 구조인 JSON에 바로 저장할 수 없으므로 스트링으로 지정한 후 토큰에서 문자열 추출
-            String SocialTypeStr = JWT.require(Algorithm.HMAC512(secret))
-                    .build()
+            String SocialTypeStr = verifier
                     .verify(accessToken)
                     .getClaim(SOCIALTYPE_CLAIM)
                     .asString();
@@ -190,7 +252,7 @@ public class JwtService { // JWT 생성 (AT, RT) , 정보 조회 판단 로직
     // 토큰 유효성 검증하는 메서드
     public boolean isTokenValid(String Token) { // 예외처리
         try {
-            JWT.require(Algorithm.HMAC512(secret)).build().verify(Token);
+            verifier.verify(Token);
             return true;
         } catch (Exception e) {
             log.error("유효하지 않은 토큰입니다. {}", e.getMessage()); // 객체 오류 메시지 문자열로 반환하는 메서드
@@ -0,0 +1,129 @@
+package ReForm.backend.user.service;
+
+import ReForm.backend.user.AuthenticatedUser;
+import ReForm.backend.user.User;
+import ReForm.backend.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 인증 사용자 read-through 캐시
+ * - JWT 필터와 컨트롤러의 현재 사용자 조회가 요청마다 user 테이블을 조회하지 않도록 합니다.
+ * - userId -> AuthenticatedUser, email -> userId 두 개의 Caffeine(W-TinyLFU) 캐시로 구성되며
+ *   크기(max-size)와 쓰기 후 만료 시간(ttl)으로 제거됩니다.
+ * - 프로필 수정, 로그아웃, 회원 탈퇴, 가입 시 invalidate 해야 합니다.
+ *   인스턴스별 캐시이므로 다른 인스턴스의 변경은 TTL 이내에 반영됩니다.
+ */
+@Component
+@Slf4j
+public class UserPrincipalCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, AuthenticatedUser> byUserId;
+    private final Cache<String, String> userIdByEmail;
+
+    public UserPrincipalCache(UserRepository userRepository,
+                              @Value("${auth.principal-cache.max-size:10000}") long maxSize,
+                              @Value("${auth.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.byUserId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.userIdByEmail = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * userId로 조회 (캐시에 없으면 DB 조회 후 저장, 없는 사용자는 캐시하지 않음)
+     */
+    public Optional<AuthenticatedUser> findByUserId(String userId) {
+        if (userId == null || userId.isBlank()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(byUserId.get(userId,
+                id -> userRepository.findById(id).map(AuthenticatedUser::from).orElse(null)));
+    }
+
+    /**
+     * email로 조회 (이메일 중복 시 최신 가입 사용자)
+     */
+    public Optional<AuthenticatedUser> findByEmail(String email) {
+        return findUserIdByEmail(email).flatMap(this::findByUserId);
+    }
+
+    /**
+     * email -> userId 변환
+     */
+    public Optional<String> findUserIdByEmail(String email) {
+        if (email == null || email.isBlank()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(userIdByEmail.get(email, e -> userRepository.findFirstByEmailOrderByCreatedAtDesc(e)
+                .map(this::putUser)
+                .orElse(null)));
+    }
+
+    /**
+     * 사용자 정보 변경/삭제 시 제거
+     */
+    public void invalidate(String userId) {
+        if (userId == null) {
+            return;
+        }
+        AuthenticatedUser cached = byUserId.getIfPresent(userId);
+        byUserId.invalidate(userId);
+        if (cached != null && cached.getEmail() != null) {
+            userIdByEmail.invalidate(cached.getEmail());
+        }
+    }
+
+    /**
+     * 같은 이메일로 새 사용자가 가입한 경우 email -> userId 매핑 제거
+     */
+    public void invalidateEmail(String email) {
+        if (email != null) {
+            userIdByEmail.invalidate(email);
+        }
+    }
+
+    /**
+     * 캐시 적중/미스 통계
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("byUserId", toMap(byUserId.stats(), byUserId.estimatedSize()));
+        stats.put("userIdByEmail", toMap(userIdByEmail.stats(), userIdByEmail.estimatedSize()));
+        return stats;
+    }
+
+    private String putUser(User user) {
+        byUserId.put(user.getUserId(), AuthenticatedUser.from(user));
+        return user.getUserId();
+    }
+
+    private static Map<String, Object> toMap(CacheStats s, long size) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("size", size);
+        m.put("hitCount", s.hitCount());
+        m.put("missCount", s.missCount());
+        m.put("hitRate", s.hitRate());
+        m.put("loadCount", s.loadCount());
+        m.put("averageLoadPenaltyMs", s.averageLoadPenalty() / 1_000_000.0);
+        m.put("evictionCount", s.evictionCount());
+        return m;
+    }
+}
@@ -27,6 +27,7 @@ public class UserService {
     private final JwtService jwtService;
     private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
     private final OtpService otpService; // SMS 인증번호 발급/검증 서비스
+    private final UserPrincipalCache userPrincipalCache;
 
     // 로컬 회원가입: 이메일/비밀번호/이름/전화번호 + OTP 검증
     @Transactional
@@ -52,7 +53,9 @@ public class UserService {
                 .profileImageUrl("/basicProfile/basicUSerImage.png")
                 .build();
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        userPrincipalCache.invalidateEmail(saved.getEmail()); // 같은 이메일의 기존 매핑 제거 (최신 가입자 우선)
+        return saved;
     }
 
     /**
@@ -107,7 +110,9 @@ public class UserService {
                 .updatedAt(LocalDateTime.now())
                 .profileImageUrl("/basicProfile/basicUSerImage.png")
                 .build();
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        userPrincipalCache.invalidateEmail(saved.getEmail()); // 같은 이메일의 기존 매핑 제거 (최신 가입자 우선)
+        return saved;
     }
 
     // 소셜 로그인: 존재 시 토큰 발급, 최초 로그인이라면 상위 signupSocial로 가입 처리 후 토큰 발급
@@ -146,6 +151,8 @@ public class UserService {
                 .createdAt(user.getCreatedAt())
                 .updatedAt(LocalDateTime.now())
                 .build();
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        userPrincipalCache.invalidate(userId);
+        return saved;
     }
 }
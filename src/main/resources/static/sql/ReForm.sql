@@ -259,3 +259,51 @@ CREATE TABLE community_tag (
                                tag_content VARCHAR(255),
                                FOREIGN KEY (community_id) REFERENCES community(community_id)
 );
+
+-- 13. community 피드 키셋 페이지네이션 인덱스
+CREATE INDEX idx_community_created_at_id ON community (created_at, community_id);
+
+-- 14. 좋아요/댓글 수 비정규화 카운터 (기존 데이터는 컬럼 추가 직후 실제 행 수로 채움)
+ALTER TABLE community
+    ADD COLUMN like_count BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN comment_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE market
+    ADD COLUMN like_count BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN comment_count BIGINT NOT NULL DEFAULT 0;
+UPDATE community c SET
+    c.like_count = (SELECT COUNT(*) FROM community_like l WHERE l.community_id = c.community_id),
+    c.comment_count = (SELECT COUNT(*) FROM community_comment cm WHERE cm.community_id = c.community_id);
+UPDATE market m SET
+    m.like_count = (SELECT COUNT(*) FROM market_like l WHERE l.market_id = m.market_id),
+    m.comment_count = (SELECT COUNT(*) FROM market_comment cm WHERE cm.market_id = m.market_id);
+
+-- 15. 리더보드 기간별 재구성용 좋아요 시각 인덱스
+CREATE INDEX idx_community_like_liked_at ON community_like (liked_at);
+
+-- 16. market 목록 필터 + 키셋 페이지네이션 인덱스
+CREATE INDEX idx_market_created_at_id ON market (created_at, market_id);
+CREATE INDEX idx_market_donation_created_at ON market (is_donation, created_at, market_id);
+CREATE INDEX idx_market_tag_created_at ON market (tag, created_at, market_id);
+
+-- 17. 채팅 내역 messageId 커서 페이지네이션 인덱스
+CREATE INDEX idx_chat_message_room_id_message_id ON chat_message (room_id, message_id);
+
+-- 18. 채팅방 목록 미확인 메시지 수 집계 인덱스
+CREATE INDEX idx_chat_message_room_id_created_at ON chat_message (room_id, created_at);
+
+-- 19. 업로드 이미지 rendition(카드/썸네일) 키와 URL, 목록 썸네일 조인용 URL 인덱스 (URL이 길어 앞 255자 prefix 인덱스)
+ALTER TABLE uploaded_image
+    ADD COLUMN card_key VARCHAR(512),
+    ADD COLUMN card_url VARCHAR(1024),
+    ADD COLUMN thumbnail_key VARCHAR(512),
+    ADD COLUMN thumbnail_url VARCHAR(1024);
+CREATE INDEX idx_uploaded_image_url ON uploaded_image (url(255));
+
+-- 20. 업로드 이미지 내용 해시(SHA-256) 기반 중복 제거 + 참조 수 (기존 행은 해시 없음, 참조 1)
+ALTER TABLE uploaded_image
+    ADD COLUMN content_hash VARCHAR(64),
+    ADD COLUMN ref_count INT NOT NULL DEFAULT 1;
+CREATE UNIQUE INDEX uk_uploaded_image_category_hash ON uploaded_image (category, content_hash);
+
+-- 21. 업로드 이미지 키 유니크 인덱스 (직접 업로드 완료 요청이 동시에 와도 한 오브젝트에 한 행만 저장)
+CREATE UNIQUE INDEX uk_uploaded_image_s3_key ON uploaded_image (s3_key);
@@ -0,0 +1,76 @@
+package ReForm.backend.chat;
+
+import ReForm.backend.chat.dto.ChatMessageDto;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ChatBinaryCodecTest {
+
+	@Test
+	void roundTripKeepsAllFields() {
+		ChatMessageDto dto = new ChatMessageDto(ChatMessageDto.MessageType.TALK, 300L, "안녕하세요 👋", "user-1");
+
+		ChatMessageDto decoded = ChatBinaryCodec.decode(ByteBuffer.wrap(ChatBinaryCodec.encode(dto)));
+
+		assertEquals(ChatMessageDto.MessageType.TALK, decoded.getMessageType());
+		assertEquals(300L, decoded.getChatRoomId());
+		assertEquals("안녕하세요 👋", decoded.getMessage());
+		assertEquals("user-1", decoded.getSenderUserId());
+	}
+
+	@Test
+	void absentFieldsStayNull() {
+		ChatMessageDto dto = new ChatMessageDto(ChatMessageDto.MessageType.TYPING, 1L, null, null);
+
+		byte[] frame = ChatBinaryCodec.encode(dto);
+		ChatMessageDto decoded = ChatBinaryCodec.decode(ByteBuffer.wrap(frame));
+
+		// 버전, 타입(3=TYPING), 플래그(roomId만), varint 1
+		assertArrayEquals(new byte[]{1, 3, 0x01, 1}, frame);
+		assertNull(decoded.getMessage());
+		assertNull(decoded.getSenderUserId());
+	}
+
+	@Test
+	void roomIdUsesVarint() {
+		byte[] frame = ChatBinaryCodec.encode(new ChatMessageDto(ChatMessageDto.MessageType.JOIN, 300L, null, null));
+
+		// 300 = 0b1_0010_1100 -> 0xAC 0x02
+		assertArrayEquals(new byte[]{1, 0, 0x01, (byte) 0xAC, 0x02}, frame);
+	}
+
+	@Test
+	void decodeDoesNotMoveCallerBufferPosition() {
+		ByteBuffer buffer = ByteBuffer.wrap(ChatBinaryCodec.encode(
+				new ChatMessageDto(ChatMessageDto.MessageType.LEAVE, 7L, "bye", null)));
+
+		ChatBinaryCodec.decode(buffer);
+
+		assertEquals(0, buffer.position());
+	}
+
+	@Test
+	void malformedFramesAreRejected() {
+		assertThrows(IllegalArgumentException.class, () -> decode(2, 1, 0));       // 버전
+		assertThrows(IllegalArgumentException.class, () -> decode(1, 9, 0));       // 타입
+		assertThrows(IllegalArgumentException.class, () -> decode(1, 1, 0x01));    // 잘린 roomId
+		assertThrows(IllegalArgumentException.class, () -> decode(1, 1, 0x02, 5, 'a')); // 길이 초과
+		assertThrows(IllegalArgumentException.class, () -> decode(1, 1, 0, 0));    // 남은 바이트
+		assertThrows(IllegalArgumentException.class,
+				() -> ChatBinaryCodec.encode(new ChatMessageDto(null, 1L, "x", null)));
+	}
+
+	private static ChatMessageDto decode(int... bytes) {
+		byte[] frame = new byte[bytes.length];
+		for (int i = 0; i < bytes.length; i++) {
+			frame[i] = (byte) bytes[i];
+		}
+		return ChatBinaryCodec.decode(ByteBuffer.wrap(frame));
+	}
+}
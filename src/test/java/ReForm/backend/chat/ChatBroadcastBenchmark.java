@@ -0,0 +1,120 @@
+package ReForm.backend.chat;
+
+import ReForm.backend.chat.dto.ChatMessageDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 방 브로드캐스트 비용 벤치마크 (세션 2 / 50 / 500)
+ * - 실행: ./gradlew benchmark [-Dbenchmark.chat.broadcasts=20000] (일반 test 태스크에서는 제외)
+ * - 발신 스레드가 방송 한 건을 모든 세션의 송신 큐에 넣기까지의 시간과 할당 바이트를 측정합니다.
+ *   송신 큐는 프레임을 받기만 하는 대역으로 바꾸므로 실제 소켓 전송은 포함하지 않습니다.
+ * - before: 직렬화한 payload를 세션마다 새 TextMessage로 감싸 전달 (프레임 공유 이전)
+ * - after: ChatLocalDelivery로 TextMessage 하나를 모든 세션이 공유, binary는 절반의 세션을 바이너리 형식으로 둔 경우
+ */
+@Tag("benchmark")
+class ChatBroadcastBenchmark {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void broadcastBySessionCount() throws Exception {
+		int broadcasts = Integer.getInteger("benchmark.chat.broadcasts", 20_000);
+		String payload = objectMapper.writeValueAsString(ChatMessageDto.builder()
+				.messageType(ChatMessageDto.MessageType.TALK)
+				.chatRoomId(1L)
+				.senderUserId("user-1")
+				.message("오늘 거래 가능할까요? 저녁 7시 이후면 좋겠습니다.")
+				.build());
+
+		for (int sessions : List.of(2, 50, 500)) {
+			AcceptingDispatcher dispatcher = new AcceptingDispatcher();
+			try {
+				ChatRoomRegistry textRoom = room(sessions, 0);
+				ChatRoomRegistry mixedRoom = room(sessions, sessions / 2);
+				ChatLocalDelivery text = new ChatLocalDelivery(textRoom, dispatcher, objectMapper);
+				ChatLocalDelivery mixed = new ChatLocalDelivery(mixedRoom, dispatcher, objectMapper);
+
+				// 워밍업
+				for (int i = 0; i < broadcasts / 10; i++) {
+					before(textRoom, dispatcher, payload);
+					text.deliver(1L, payload);
+					mixed.deliver(1L, payload);
+				}
+				report(sessions, "before", broadcasts, () -> before(textRoom, dispatcher, payload));
+				report(sessions, "after", broadcasts, () -> text.deliver(1L, payload));
+				report(sessions, "binary", broadcasts, () -> mixed.deliver(1L, payload));
+			} finally {
+				dispatcher.shutdown();
+			}
+		}
+	}
+
+	// 변경 전: 세션마다 새 프레임
+	private static void before(ChatRoomRegistry registry, ChatOutboundDispatcher dispatcher, String payload) {
+		for (WebSocketSession s : registry.sessionsOf(1L)) {
+			dispatcher.send(s, new TextMessage(payload));
+		}
+	}
+
+	private static void report(int sessions, String label, int broadcasts, Runnable broadcast) {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().threadId();
+		long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+		long started = System.nanoTime();
+		for (int i = 0; i < broadcasts; i++) {
+			broadcast.run();
+		}
+		long elapsed = System.nanoTime() - started;
+		long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+		System.out.printf("[benchmark] %3d sessions %-6s %9.2f us/broadcast, %8d bytes/broadcast%n",
+				sessions, label, elapsed / 1e3 / broadcasts, allocated / broadcasts);
+	}
+
+	private static ChatRoomRegistry room(int sessions, int binarySessions) {
+		ChatRoomRegistry registry = new ChatRoomRegistry();
+		for (int i = 0; i < sessions; i++) {
+			WebSocketSession session = session("s" + i, i < binarySessions);
+			registry.register(session);
+			registry.join(1L, session);
+		}
+		return registry;
+	}
+
+	// 호출 기록을 남기지 않는 stub (반복 호출로 메모리가 늘지 않도록)
+	private static WebSocketSession session(String id, boolean binary) {
+		WebSocketSession session = mock(WebSocketSession.class, withSettings().stubOnly());
+		Map<String, Object> attributes = new HashMap<>();
+		when(session.getId()).thenReturn(id);
+		when(session.isOpen()).thenReturn(true);
+		when(session.getAttributes()).thenReturn(attributes);
+		when(session.getAcceptedProtocol()).thenReturn(binary ? ChatWireFormat.BINARY_SUBPROTOCOL : null);
+		return session;
+	}
+
+	// 송신 큐 대역: 큐에 넣지 않고 받은 것으로 처리
+	private static final class AcceptingDispatcher extends ChatOutboundDispatcher {
+
+		AcceptingDispatcher() {
+			super(256, 10_000, OverflowPolicy.DROP_OLDEST, 1);
+		}
+
+		@Override
+		public boolean send(WebSocketSession session, WebSocketMessage<?> message) {
+			return message != null;
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package ReForm.backend.chat;
+
+import ReForm.backend.chat.dto.ChatMessageDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ChatLocalDeliveryTest {
+
+	private final ChatRoomRegistry registry = new ChatRoomRegistry();
+	private final ChatOutboundDispatcher dispatcher = mock(ChatOutboundDispatcher.class);
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final ChatLocalDelivery delivery = new ChatLocalDelivery(registry, dispatcher, objectMapper);
+
+	@Test
+	void eachBinarySessionGetsItsOwnReadableFrame() throws Exception {
+		List<WebSocketMessage<?>> sent = new ArrayList<>();
+		List<ChatMessageDto> received = new ArrayList<>();
+		when(dispatcher.send(any(), any())).thenAnswer(invocation -> {
+			WebSocketMessage<?> frame = invocation.getArgument(1);
+			sent.add(frame);
+			// 실제 전송처럼 버퍼를 읽고 position을 끝으로 옮김
+			ByteBuffer payload = assertInstanceOf(BinaryMessage.class, frame).getPayload();
+			received.add(ChatBinaryCodec.decode(payload));
+			payload.position(payload.limit());
+			return true;
+		});
+		joinBinary(1L, "a");
+		joinBinary(1L, "b");
+
+		ChatMessageDto dto = ChatMessageDto.builder()
+				.messageType(ChatMessageDto.MessageType.TALK)
+				.chatRoomId(1L)
+				.message("안녕하세요")
+				.senderUserId("user-1")
+				.build();
+		int delivered = delivery.deliver(1L, objectMapper.writeValueAsString(dto));
+
+		assertEquals(2, delivered);
+		assertEquals(2, received.size());
+		assertNotSame(sent.get(0), sent.get(1));
+		for (ChatMessageDto decoded : received) {
+			assertEquals(ChatMessageDto.MessageType.TALK, decoded.getMessageType());
+			assertEquals("안녕하세요", decoded.getMessage());
+			assertEquals("user-1", decoded.getSenderUserId());
+			assertEquals(1L, decoded.getChatRoomId());
+		}
+	}
+
+	@Test
+	void textSessionsShareOneFrame() throws Exception {
+		List<WebSocketMessage<?>> sent = new ArrayList<>();
+		when(dispatcher.send(any(), any())).thenAnswer(invocation -> sent.add(invocation.getArgument(1)));
+		joinText(2L, "c");
+		joinText(2L, "d");
+
+		String payload = "{\"messageType\":\"TALK\",\"chatRoomId\":2,\"message\":\"hi\"}";
+		delivery.deliver(2L, payload);
+
+		assertEquals(2, sent.size());
+		TextMessage text = assertInstanceOf(TextMessage.class, sent.get(0));
+		assertEquals(payload, text.getPayload());
+		assertEquals(sent.get(0), sent.get(1));
+	}
+
+	private void joinBinary(Long roomId, String id) {
+		WebSocketSession session = session(id);
+		when(session.getAcceptedProtocol()).thenReturn(ChatWireFormat.BINARY_SUBPROTOCOL);
+		registry.register(session);
+		registry.join(roomId, session);
+	}
+
+	private void joinText(Long roomId, String id) {
+		WebSocketSession session = session(id);
+		registry.register(session);
+		registry.join(roomId, session);
+	}
+
+	private static WebSocketSession session(String id) {
+		WebSocketSession session = mock(WebSocketSession.class);
+		when(session.getId()).thenReturn(id);
+		when(session.isOpen()).thenReturn(true);
+		when(session.getAttributes()).thenReturn(new HashMap<>());
+		return session;
+	}
+}
@@ -0,0 +1,95 @@
+package ReForm.backend.chat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatOutboundDispatcherTest {
+
+	private final CountDownLatch sending = new CountDownLatch(1);
+	private final CountDownLatch unblock = new CountDownLatch(1);
+	private ChatOutboundDispatcher dispatcher;
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		unblock.countDown();
+		dispatcher.shutdown();
+	}
+
+	@Test
+	void blockedSessionIsClosedEvenUnderDropOldest() throws Exception {
+		dispatcher = new ChatOutboundDispatcher(256, 50, ChatOutboundDispatcher.OverflowPolicy.DROP_OLDEST, 1);
+		WebSocketSession session = blockingSession("s1");
+		dispatcher.register(session);
+
+		assertTrue(dispatcher.send(session, new TextMessage("first")));
+		assertTrue(sending.await(5, TimeUnit.SECONDS));
+		// 첫 전송이 send-time-limit-ms(50)를 넘기도록 대기
+		Thread.sleep(150);
+
+		assertFalse(dispatcher.send(session, new TextMessage("second")));
+		verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+		assertEquals(1L, dispatcher.stats().get("disconnected"));
+		assertEquals(0L, dispatcher.stats().get("dropped"));
+	}
+
+	@Test
+	void fullQueueDropsOldestWithoutClosing() throws Exception {
+		dispatcher = new ChatOutboundDispatcher(2, 60_000, ChatOutboundDispatcher.OverflowPolicy.DROP_OLDEST, 1);
+		WebSocketSession session = blockingSession("s1");
+		dispatcher.register(session);
+
+		dispatcher.send(session, new TextMessage("in-flight"));
+		assertTrue(sending.await(5, TimeUnit.SECONDS));
+		// 전송 중인 메시지 외에 큐 2칸 + 넘친 1개
+		dispatcher.send(session, new TextMessage("a"));
+		dispatcher.send(session, new TextMessage("b"));
+		assertTrue(dispatcher.send(session, new TextMessage("c")));
+
+		assertEquals(1L, dispatcher.stats().get("dropped"));
+		assertEquals(2L, dispatcher.stats().get("queuedMessages"));
+		verify(session, never()).close(any());
+	}
+
+	@Test
+	void fullQueueClosesSessionUnderDisconnect() throws Exception {
+		dispatcher = new ChatOutboundDispatcher(1, 60_000, ChatOutboundDispatcher.OverflowPolicy.DISCONNECT, 1);
+		WebSocketSession session = blockingSession("s1");
+		dispatcher.register(session);
+
+		dispatcher.send(session, new TextMessage("in-flight"));
+		assertTrue(sending.await(5, TimeUnit.SECONDS));
+		dispatcher.send(session, new TextMessage("a"));
+
+		assertFalse(dispatcher.send(session, new TextMessage("b")));
+		verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+	}
+
+	// 첫 전송에서 unblock될 때까지 멈추는 세션
+	private WebSocketSession blockingSession(String id) throws Exception {
+		WebSocketSession session = mock(WebSocketSession.class);
+		when(session.getId()).thenReturn(id);
+		when(session.isOpen()).thenReturn(true);
+		doAnswer(invocation -> {
+			sending.countDown();
+			unblock.await(5, TimeUnit.SECONDS);
+			return null;
+		}).when(session).sendMessage(any());
+		return session;
+	}
+}
@@ -0,0 +1,102 @@
+package ReForm.backend.chat;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatPresenceServiceTest {
+
+	private static final long TICK_MS = 10;
+	private static final long PING_MS = 50;
+	private static final long IDLE_MS = 150;
+
+	private final ChatOutboundDispatcher dispatcher = mock(ChatOutboundDispatcher.class);
+	// start()를 호출하지 않고 tick()을 직접 돌려 휠을 진행
+	private final ChatPresenceService presence = new ChatPresenceService(dispatcher, PING_MS, IDLE_MS, TICK_MS);
+
+	@Test
+	void silentSessionIsPingedThenClosed() throws Exception {
+		when(dispatcher.send(any(), any())).thenReturn(true);
+		WebSocketSession session = session("s1");
+		presence.register(session, "alice");
+
+		runTicks(IDLE_MS * 3, () -> isClosed(session));
+
+		InOrder order = inOrder(dispatcher, session);
+		order.verify(dispatcher).send(eq(session), isA(PingMessage.class));
+		order.verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+		assertEquals(1L, presence.stats().get("reaped"));
+	}
+
+	@Test
+	void activeSessionIsNeitherPingedNorClosed() throws Exception {
+		WebSocketSession session = session("s1");
+		presence.register(session, "alice");
+
+		runTicks(IDLE_MS * 2, () -> {
+			presence.touch(session);
+			return false;
+		});
+
+		verify(dispatcher, never()).send(any(), any());
+		verify(session, never()).close(any());
+	}
+
+	@Test
+	void userIsOnlineUntilLastSessionLeaves() {
+		WebSocketSession phone = session("phone");
+		WebSocketSession laptop = session("laptop");
+		presence.register(phone, "alice");
+		presence.register(laptop, "alice");
+
+		assertTrue(presence.joined(1L, phone));
+		assertFalse(presence.joined(1L, laptop));
+		assertFalse(presence.joined(1L, laptop)); // 같은 세션의 중복 JOIN
+
+		assertFalse(presence.left(1L, phone));
+		assertEquals(List.of("alice"), List.copyOf(presence.onlineUsers(1L)));
+
+		assertEquals(List.of(1L), presence.unregister(laptop));
+		assertTrue(presence.onlineUsers(1L).isEmpty());
+	}
+
+	// 최대 durationMs 동안 tick 간격으로 휠을 진행, stop이 true면 중단
+	private void runTicks(long durationMs, java.util.function.BooleanSupplier stop) throws InterruptedException {
+		long until = System.currentTimeMillis() + durationMs;
+		while (System.currentTimeMillis() < until) {
+			Thread.sleep(TICK_MS);
+			presence.tick();
+			if (stop.getAsBoolean()) {
+				return;
+			}
+		}
+	}
+
+	private static boolean isClosed(WebSocketSession session) {
+		return mockingDetails(session).getInvocations().stream()
+				.anyMatch(invocation -> invocation.getMethod().getName().equals("close"));
+	}
+
+	private static WebSocketSession session(String id) {
+		WebSocketSession session = mock(WebSocketSession.class);
+		when(session.getId()).thenReturn(id);
+		return session;
+	}
+}
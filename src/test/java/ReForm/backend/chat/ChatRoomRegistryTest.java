@@ -0,0 +1,115 @@
+package ReForm.backend.chat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ChatRoomRegistryTest {
+
+	private final ChatRoomRegistry registry = new ChatRoomRegistry();
+
+	@Test
+	void joinLeaveAndEmptyRoomRemoval() {
+		WebSocketSession a = session("a");
+		WebSocketSession b = session("b");
+		registry.register(a);
+		registry.register(b);
+
+		assertTrue(registry.join(1L, a));
+		assertTrue(registry.join(1L, b));
+		assertEquals(Set.of(a, b), Set.copyOf(registry.sessionsOf(1L)));
+
+		registry.leave(1L, a);
+		registry.leave(1L, b);
+		assertTrue(registry.sessionsOf(1L).isEmpty());
+		assertEquals(0, registry.roomCount());
+	}
+
+	@Test
+	void unregisterCleansOnlyJoinedRooms() {
+		WebSocketSession a = session("a");
+		WebSocketSession b = session("b");
+		registry.register(a);
+		registry.register(b);
+		registry.join(1L, a);
+		registry.join(2L, a);
+		registry.join(2L, b);
+
+		assertEquals(Set.of(1L, 2L), registry.unregister(a));
+
+		assertTrue(registry.sessionsOf(1L).isEmpty());
+		assertEquals(List.of(b), List.copyOf(registry.sessionsOf(2L)));
+		assertEquals(1, registry.sessionCount());
+		assertEquals(1, registry.roomCount());
+	}
+
+	@Test
+	void unregisteredSessionCannotJoin() {
+		WebSocketSession a = session("a");
+
+		assertFalse(registry.join(1L, a));
+
+		registry.register(a);
+		registry.unregister(a);
+		assertFalse(registry.join(1L, a));
+		assertEquals(0, registry.roomCount());
+	}
+
+	@Test
+	void concurrentJoinAndLeaveAcrossRoomsLeavesNoEmptyRooms() throws Exception {
+		int threads = 8;
+		int rounds = 2_000;
+		List<WebSocketSession> sessions = new ArrayList<>();
+		for (int i = 0; i < threads; i++) {
+			WebSocketSession s = session("s" + i);
+			registry.register(s);
+			sessions.add(s);
+		}
+
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (WebSocketSession s : sessions) {
+				futures.add(pool.submit(() -> {
+					start.await();
+					for (int r = 0; r < rounds; r++) {
+						long roomId = r % 4;
+						registry.join(roomId, s);
+						registry.leave(roomId, s);
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> f : futures) {
+				f.get(30, TimeUnit.SECONDS);
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+
+		assertEquals(0, registry.roomCount());
+		assertEquals(threads, registry.sessionCount());
+	}
+
+	private static WebSocketSession session(String id) {
+		WebSocketSession session = mock(WebSocketSession.class);
+		when(session.getId()).thenReturn(id);
+		return session;
+	}
+}
@@ -0,0 +1,90 @@
+package ReForm.backend.chat;
+
+import ReForm.backend.chat.dto.ChatMessageDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 채팅 프레임 형식 벤치마크 (JSON vs 바이너리)
+ * - 실행: ./gradlew benchmark [-Dbenchmark.chat.frames=200000] (일반 test 태스크에서는 제외)
+ * - 메시지 종류별로 프레임 크기(바이트)와 인코딩/디코딩 1회 비용을 출력합니다.
+ *   JSON은 ObjectMapper 직렬화/역직렬화(UTF-8 바이트 기준), 바이너리는 ChatBinaryCodec입니다.
+ */
+@Tag("benchmark")
+class ChatWireFormatBenchmark {
+
+	// 측정 결과를 JIT가 버리지 못하도록 보관
+	private static volatile long blackhole;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void frameSizeAndCodecCost() throws Exception {
+		int frames = Integer.getInteger("benchmark.chat.frames", 200_000);
+		List<ChatMessageDto> samples = List.of(
+				message(ChatMessageDto.MessageType.TYPING, "start"),
+				message(ChatMessageDto.MessageType.TALK, "네 좋아요"),
+				message(ChatMessageDto.MessageType.TALK, "오늘 거래 가능할까요? 저녁 7시 이후면 좋겠습니다. 위치는 역 앞 카페로 할게요."),
+				message(ChatMessageDto.MessageType.TALK, "리폼 진행 상황 공유드립니다. ".repeat(20)));
+
+		for (ChatMessageDto dto : samples) {
+			byte[] json = objectMapper.writeValueAsBytes(dto);
+			byte[] binary = ChatBinaryCodec.encode(dto);
+			String label = dto.getMessageType() + "/" + dto.getMessage().length() + "자";
+
+			double jsonEncode = nanosPerCall(frames, dto, this::uncheckedJson);
+			double binaryEncode = nanosPerCall(frames, dto, ChatBinaryCodec::encode);
+			double jsonDecode = nanosPerCall(frames, json, this::uncheckedRead);
+			double binaryDecode = nanosPerCall(frames, binary, bytes -> ChatBinaryCodec.decode(ByteBuffer.wrap(bytes)));
+
+			System.out.printf("[benchmark] %-12s size json %5d B / binary %5d B (%3.0f%%) | encode %6.0f / %6.0f ns | decode %6.0f / %6.0f ns%n",
+					label, json.length, binary.length, 100.0 * binary.length / json.length,
+					jsonEncode, binaryEncode, jsonDecode, binaryDecode);
+		}
+	}
+
+	// 워밍업 후 frames회 반복한 평균
+	private static <T> double nanosPerCall(int frames, T input, Function<T, Object> codec) {
+		long sink = 0;
+		for (int i = 0; i < frames / 10; i++) {
+			sink += codec.apply(input).hashCode();
+		}
+		long started = System.nanoTime();
+		for (int i = 0; i < frames; i++) {
+			sink += codec.apply(input).hashCode();
+		}
+		long elapsed = System.nanoTime() - started;
+		blackhole = sink;
+		return elapsed / (double) frames;
+	}
+
+	private byte[] uncheckedJson(ChatMessageDto dto) {
+		try {
+			return objectMapper.writeValueAsBytes(dto);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private ChatMessageDto uncheckedRead(byte[] json) {
+		try {
+			return objectMapper.readValue(json, ChatMessageDto.class);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static ChatMessageDto message(ChatMessageDto.MessageType type, String text) {
+		return ChatMessageDto.builder()
+				.messageType(type)
+				.chatRoomId(12_345L)
+				.senderUserId("kakao_3141592653")
+				.message(text)
+				.build();
+	}
+}
@@ -0,0 +1,118 @@
+package ReForm.backend.chat.broker;
+
+import ReForm.backend.chat.ChatLocalDelivery;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedisChatBrokerTest {
+
+	/**
+	 * Redis Pub/Sub 대역: 채널별 구독 리스너에게 발행 메시지를 그대로 전달
+	 */
+	static class LoopbackRedis {
+		final Map<String, List<MessageListener>> listeners = new ConcurrentHashMap<>();
+		final StringRedisTemplate template = mock(StringRedisTemplate.class);
+
+		LoopbackRedis() {
+			when(template.convertAndSend(anyString(), any())).thenAnswer(invocation -> {
+				String channel = invocation.getArgument(0);
+				String body = invocation.getArgument(1);
+				List<MessageListener> subscribers = listeners.getOrDefault(channel, List.of());
+				for (MessageListener listener : subscribers) {
+					listener.onMessage(new DefaultMessage(channel.getBytes(StandardCharsets.UTF_8),
+							body.getBytes(StandardCharsets.UTF_8)), null);
+				}
+				return (long) subscribers.size();
+			});
+		}
+
+		RedisMessageListenerContainer container() {
+			RedisMessageListenerContainer container = mock(RedisMessageListenerContainer.class);
+			doAnswer(invocation -> {
+				Topic topic = invocation.getArgument(1);
+				listeners.computeIfAbsent(topic.getTopic(), t -> new CopyOnWriteArrayList<>()).add(invocation.getArgument(0));
+				return null;
+			}).when(container).addMessageListener(any(MessageListener.class), any(Topic.class));
+			doAnswer(invocation -> {
+				Topic topic = invocation.getArgument(1);
+				listeners.getOrDefault(topic.getTopic(), List.of()).remove(invocation.<MessageListener>getArgument(0));
+				return null;
+			}).when(container).removeMessageListener(any(MessageListener.class), any(Topic.class));
+			return container;
+		}
+	}
+
+	private final LoopbackRedis redis = new LoopbackRedis();
+	private final ChatLocalDelivery deliveryA = mock(ChatLocalDelivery.class);
+	private final ChatLocalDelivery deliveryB = mock(ChatLocalDelivery.class);
+	private final RedisMessageListenerContainer containerA = redis.container();
+	private final RedisMessageListenerContainer containerB = redis.container();
+	private final RedisChatBroker brokerA = new RedisChatBroker(redis.template, deliveryA, containerA);
+	private final RedisChatBroker brokerB = new RedisChatBroker(redis.template, deliveryB, containerB);
+
+	@Test
+	void publishReachesLocalAndRemoteSessionsOnce() {
+		when(deliveryA.hasLocalSessions(1L)).thenReturn(true);
+		when(deliveryB.hasLocalSessions(1L)).thenReturn(true);
+		brokerA.onLocalJoin(1L);
+		brokerB.onLocalJoin(1L);
+		when(deliveryA.deliver(1L, "{\"m\":1}")).thenReturn(2);
+
+		assertEquals(2, brokerA.publish(1L, "{\"m\":1}"));
+
+		// 발신 인스턴스는 로컬 전달 1회 (자기 발행분은 구독으로 다시 받지 않음), 다른 인스턴스는 구독으로 1회
+		verify(deliveryA, times(1)).deliver(1L, "{\"m\":1}");
+		verify(deliveryB, times(1)).deliver(1L, "{\"m\":1}");
+	}
+
+	@Test
+	void instanceWithoutLocalSessionsDoesNotSubscribe() {
+		when(deliveryA.hasLocalSessions(2L)).thenReturn(true);
+		when(deliveryB.hasLocalSessions(2L)).thenReturn(false);
+		brokerA.onLocalJoin(2L);
+		brokerB.onLocalJoin(2L);
+
+		brokerA.publish(2L, "hello");
+
+		verify(containerB, never()).addMessageListener(any(MessageListener.class), any(Topic.class));
+		verify(deliveryB, never()).deliver(anyLong(), anyString());
+	}
+
+	@Test
+	void subscribesOnceAndUnsubscribesWhenLastSessionLeaves() {
+		when(deliveryB.hasLocalSessions(3L)).thenReturn(true);
+		brokerB.onLocalJoin(3L);
+		brokerB.onLocalJoin(3L);
+
+		verify(containerB, times(1)).addMessageListener(brokerB, new ChannelTopic("chat:room:3"));
+
+		when(deliveryB.hasLocalSessions(3L)).thenReturn(false);
+		brokerB.onLocalLeave(3L);
+		brokerA.publish(3L, "bye");
+
+		verify(containerB, times(1)).removeMessageListener(brokerB, new ChannelTopic("chat:room:3"));
+		verify(deliveryB, never()).deliver(3L, "bye");
+	}
+}
@@ -0,0 +1,47 @@
+package ReForm.backend.chat.controller;
+
+import ReForm.backend.chat.ChatPresenceService;
+import ReForm.backend.chat.repository.ChatParticipantRepository;
+import ReForm.backend.chat.service.ChatMembershipCache;
+import ReForm.backend.chat.service.ChatService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatControllerTest {
+
+	private final ChatService chatService = mock(ChatService.class);
+	private final ChatPresenceService chatPresenceService = mock(ChatPresenceService.class);
+	private final ChatController controller = new ChatController(
+			chatService, mock(ChatParticipantRepository.class), chatPresenceService, mock(ChatMembershipCache.class));
+
+	@Test
+	void onlineUsersRequiresRoomMembership() {
+		when(chatService.isActiveParticipant(1L, "mallory")).thenReturn(false);
+
+		ResponseStatusException e = assertThrows(ResponseStatusException.class,
+				() -> controller.onlineUsers(1L, "mallory"));
+
+		assertEquals(HttpStatus.FORBIDDEN, e.getStatusCode());
+		verify(chatPresenceService, never()).onlineUsers(any());
+	}
+
+	@Test
+	void participantSeesOnlineUsers() {
+		when(chatService.isActiveParticipant(1L, "alice")).thenReturn(true);
+		when(chatPresenceService.onlineUsers(1L)).thenReturn(Set.of("bob"));
+
+		assertEquals(List.of("bob"), controller.onlineUsers(1L, "alice").getBody());
+	}
+}
@@ -0,0 +1,136 @@
+package ReForm.backend.chat.repository;
+
+import ReForm.backend.chat.entity.ChatMessage;
+import ReForm.backend.chat.entity.ChatParticipant;
+import ReForm.backend.chat.entity.ChatRoom;
+import ReForm.backend.user.User;
+import ReForm.backend.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 채팅방 목록 미확인 수 벤치마크 (한 사용자가 방 500개에 참여)
+ * - 실행: ./gradlew benchmark [-Dbenchmark.chat.rooms=500 -Dbenchmark.chat.messages-per-room=20] (일반 test 태스크에서는 제외)
+ * - before: 방 목록을 받은 뒤 방마다 unreadCount (방/사용자/참여자 조회 + COUNT)
+ * - after: findRoomSummaryRows 한 번 (미확인 수 + 마지막 메시지)
+ * - 인메모리 H2(MySQL 모드)에서 실행하므로 절대 시간보다 요청당 SQL 수와 상대 비용을 비교하는 용도입니다.
+ *   (운영 DB에서는 쿼리마다 네트워크 왕복이 더해져 차이가 더 커짐)
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:rooms;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ChatRoomSummaryBenchmark {
+
+	private static final int ROUNDS = 10;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private ChatParticipantRepository chatParticipantRepository;
+
+	@Autowired
+	private ChatRoomRepository chatRoomRepository;
+
+	@Autowired
+	private ChatMessageRepository chatMessageRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	void unreadCountsForUserInManyRooms() {
+		int rooms = Integer.getInteger("benchmark.chat.rooms", 500);
+		int messagesPerRoom = Integer.getInteger("benchmark.chat.messages-per-room", 20);
+		seed(rooms, messagesPerRoom);
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		// 워밍업
+		assertEquals(before(), after());
+
+		long[] beforeResult = measure(statistics, this::before);
+		long[] afterResult = measure(statistics, this::after);
+		System.out.printf("[benchmark] %d rooms x %d messages%n", rooms, messagesPerRoom);
+		System.out.printf("[benchmark] before: %8.2f ms/request, %5d statements/request%n", beforeResult[0] / 1e6, beforeResult[1]);
+		System.out.printf("[benchmark] after:  %8.2f ms/request, %5d statements/request%n", afterResult[0] / 1e6, afterResult[1]);
+	}
+
+	// 변경 전: 내 방 목록 + 방마다 ChatService.unreadCount와 같은 조회
+	private long before() {
+		User me = userRepository.findById("me").orElseThrow();
+		long unread = 0;
+		for (ChatParticipant participant : chatParticipantRepository.findByUser(me)) {
+			ChatRoom room = chatRoomRepository.findById(participant.getRoom().getId()).orElseThrow();
+			User user = userRepository.findById("me").orElseThrow();
+			LocalDateTime lastRead = chatParticipantRepository.findByRoomAndUser(room, user)
+					.map(ChatParticipant::getLastReadAt)
+					.orElse(LocalDateTime.MIN);
+			unread += chatMessageRepository.countByRoomAndCreatedAtAfter(room, lastRead);
+		}
+		return unread;
+	}
+
+	// 변경 후: 요약 쿼리 한 번
+	private long after() {
+		long unread = 0;
+		for (Object[] row : chatParticipantRepository.findRoomSummaryRows("me")) {
+			unread += ((Number) row[7]).longValue();
+		}
+		return unread;
+	}
+
+	// {요청당 평균 ns, 요청당 SQL 수}
+	private long[] measure(Statistics statistics, LongSupplier request) {
+		long elapsed = 0;
+		long statements = 0;
+		for (int round = 0; round < ROUNDS; round++) {
+			entityManager.clear();
+			statistics.clear();
+			long started = System.nanoTime();
+			request.getAsLong();
+			elapsed += System.nanoTime() - started;
+			statements += statistics.getPrepareStatementCount();
+		}
+		return new long[] {elapsed / ROUNDS, statements / ROUNDS};
+	}
+
+	// 방마다 상대 1명, 메시지 절반은 내가 마지막으로 읽은 뒤에 도착
+	private void seed(int rooms, int messagesPerRoom) {
+		LocalDateTime base = LocalDateTime.of(2026, 1, 1, 0, 0);
+		User me = entityManager.persist(User.builder().userId("me").userName("me").nickname("me").createdAt(base).build());
+		User other = entityManager.persist(User.builder().userId("other").userName("other").nickname("other").createdAt(base).build());
+		for (int r = 0; r < rooms; r++) {
+			LocalDateTime last = base.plusMinutes(messagesPerRoom);
+			ChatRoom room = entityManager.persist(ChatRoom.builder().title("room " + r).createdAt(base).lastMessageAt(last).build());
+			entityManager.persist(ChatParticipant.builder().room(room).user(me).joinedAt(base)
+					.lastReadAt(base.plusMinutes(messagesPerRoom / 2)).build());
+			entityManager.persist(ChatParticipant.builder().room(room).user(other).joinedAt(base).lastReadAt(last).build());
+			for (int m = 1; m <= messagesPerRoom; m++) {
+				entityManager.persist(ChatMessage.builder().room(room).sender(other)
+						.content("message " + m).createdAt(base.plusMinutes(m)).build());
+			}
+		}
+		entityManager.flush();
+		entityManager.clear();
+	}
+}
@@ -0,0 +1,52 @@
+package ReForm.backend.chat.service;
+
+import ReForm.backend.chat.repository.ChatParticipantRepository;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatMembershipCacheTest {
+
+	private final ChatParticipantRepository chatParticipantRepository = mock(ChatParticipantRepository.class);
+	private final ChatMembershipCache cache = new ChatMembershipCache(chatParticipantRepository, 100, 60);
+
+	@Test
+	void activeParticipantIsLoadedOnce() {
+		when(chatParticipantRepository.existsByRoom_IdAndUser_UserIdAndLeftAtIsNull(1L, "alice")).thenReturn(true);
+
+		assertTrue(cache.isActiveParticipant(1L, "alice"));
+		assertTrue(cache.isActiveParticipant(1L, "alice"));
+
+		verify(chatParticipantRepository, times(1)).existsByRoom_IdAndUser_UserIdAndLeftAtIsNull(1L, "alice");
+	}
+
+	@Test
+	void nonParticipantIsNotCached() {
+		// 방금 초대된 사용자가 TTL 동안 거부되지 않도록 false는 보관하지 않음
+		when(chatParticipantRepository.existsByRoom_IdAndUser_UserIdAndLeftAtIsNull(1L, "bob")).thenReturn(false, true);
+
+		assertFalse(cache.isActiveParticipant(1L, "bob"));
+		assertTrue(cache.isActiveParticipant(1L, "bob"));
+	}
+
+	@Test
+	void invalidateAfterLeaveRejectsNextCheck() {
+		when(chatParticipantRepository.existsByRoom_IdAndUser_UserIdAndLeftAtIsNull(1L, "alice")).thenReturn(true, false);
+		assertTrue(cache.isActiveParticipant(1L, "alice"));
+
+		cache.invalidate(1L, "alice");
+
+		assertFalse(cache.isActiveParticipant(1L, "alice"));
+	}
+
+	@Test
+	void missingRoomOrUserIsRejected() {
+		assertFalse(cache.isActiveParticipant(null, "alice"));
+		assertFalse(cache.isActiveParticipant(1L, null));
+	}
+}
@@ -0,0 +1,57 @@
+package ReForm.backend.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FeedCursorTest {
+
+	@Test
+	void encodeDecodeRoundTrip() {
+		LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123_456_000);
+
+		FeedCursor decoded = FeedCursor.decode(new FeedCursor(createdAt, 42).encode());
+
+		assertEquals(createdAt, decoded.getCreatedAt());
+		assertEquals(42, decoded.getId());
+	}
+
+	@Test
+	void zeroSecondsStillRoundTrip() {
+		// LocalDateTime.toString()은 초가 0이면 "12:00"처럼 초를 생략함
+		LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+		assertEquals(createdAt, FeedCursor.decode(new FeedCursor(createdAt, 1).encode()).getCreatedAt());
+	}
+
+	@Test
+	void blankCursorMeansFirstPage() {
+		assertNull(FeedCursor.decode(null));
+		assertNull(FeedCursor.decode(" "));
+	}
+
+	@Test
+	void malformedCursorIsRejected() {
+		assertThrows(IllegalArgumentException.class, () -> FeedCursor.decode("not base64!"));
+		assertThrows(IllegalArgumentException.class, () -> FeedCursor.decode(encode("no-separator")));
+		assertThrows(IllegalArgumentException.class, () -> FeedCursor.decode(encode("yesterday|42")));
+		assertThrows(IllegalArgumentException.class, () -> FeedCursor.decode(encode("2025-01-01T12:00|abc")));
+	}
+
+	@Test
+	void sizeIsClampedToRange() {
+		assertEquals(1, FeedCursor.boundedSize(0, 50));
+		assertEquals(20, FeedCursor.boundedSize(20, 50));
+		assertEquals(50, FeedCursor.boundedSize(500, 50));
+	}
+
+	private static String encode(String raw) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,84 @@
+package ReForm.backend.community;
+
+import ReForm.backend.community.repository.CommunityLikeRepository;
+import ReForm.backend.community.repository.CommunityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CommunityLeaderboardTest {
+
+	private final CommunityRepository communityRepository = mock(CommunityRepository.class);
+	private final CommunityLikeRepository communityLikeRepository = mock(CommunityLikeRepository.class);
+	private final CommunityLeaderboard leaderboard = new CommunityLeaderboard(communityRepository, communityLikeRepository);
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(leaderboard, "maxSize", 50);
+	}
+
+	@Test
+	void rebuildLoadsCountsFromDatabase() {
+		LocalDateTime now = LocalDateTime.now();
+		when(communityRepository.findPositiveLikeCounts()).thenReturn(List.of(row(1, 3L), row(2, 5L)));
+		when(communityLikeRepository.findLikedAtSince(any())).thenReturn(List.of(row(1, now), row(1, now.minusDays(3))));
+
+		leaderboard.rebuild();
+
+		assertEquals(Map.of(1, 3L, 2, 5L), scores(CommunityLeaderboard.Window.ALL));
+		assertEquals(Map.of(1, 2L), scores(CommunityLeaderboard.Window.WEEK));
+		assertEquals(Map.of(1, 1L), scores(CommunityLeaderboard.Window.DAY));
+	}
+
+	@Test
+	void changesDuringRebuildAreReplayedAfterSwap() {
+		LocalDateTime now = LocalDateTime.now();
+		// DB 조회 도중 좋아요/게시글 삭제가 커밋되어 조회 결과에는 빠진 경우
+		when(communityRepository.findPositiveLikeCounts()).thenAnswer(invocation -> {
+			leaderboard.recordLike(1, now);
+			leaderboard.removePost(2);
+			return List.of(row(1, 3L), row(2, 5L));
+		});
+		when(communityLikeRepository.findLikedAtSince(any())).thenReturn(List.of(row(2, now)));
+
+		leaderboard.rebuild();
+
+		assertEquals(Map.of(1, 4L), scores(CommunityLeaderboard.Window.ALL));
+		assertEquals(Map.of(1, 1L), scores(CommunityLeaderboard.Window.DAY));
+	}
+
+	@Test
+	void changesAfterRebuildAreNotReplayedTwice() {
+		LocalDateTime now = LocalDateTime.now();
+		when(communityRepository.findPositiveLikeCounts()).thenReturn(List.of(row(1, 3L)));
+		when(communityLikeRepository.findLikedAtSince(any())).thenReturn(List.of());
+		leaderboard.rebuild();
+
+		leaderboard.recordLike(1, now);
+		when(communityRepository.findPositiveLikeCounts()).thenReturn(List.of(row(1, 4L)));
+		when(communityLikeRepository.findLikedAtSince(any())).thenReturn(List.of(row(1, now)));
+		leaderboard.rebuild();
+
+		assertEquals(Map.of(1, 4L), scores(CommunityLeaderboard.Window.ALL));
+		assertEquals(Map.of(1, 1L), scores(CommunityLeaderboard.Window.DAY));
+	}
+
+	private Map<Integer, Long> scores(CommunityLeaderboard.Window window) {
+		return leaderboard.top(window, 50).stream()
+				.collect(Collectors.toMap(CommunityLeaderboard.Entry::getCommunityId, CommunityLeaderboard.Entry::getLikeCount));
+	}
+
+	private static Object[] row(Object... values) {
+		return values;
+	}
+}
@@ -0,0 +1,78 @@
+package ReForm.backend.community;
+
+import ReForm.backend.community.repository.CommunityCommentRepository;
+import ReForm.backend.community.repository.CommunityLikeRepository;
+import ReForm.backend.community.repository.CommunityRepository;
+import ReForm.backend.user.User;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CommunityReactionServiceTest {
+
+	private final CommunityRepository communityRepository = mock(CommunityRepository.class);
+	private final CommunityLikeRepository communityLikeRepository = mock(CommunityLikeRepository.class);
+	private final CommunityCommentRepository communityCommentRepository = mock(CommunityCommentRepository.class);
+	private final CommunityLeaderboard communityLeaderboard = mock(CommunityLeaderboard.class);
+	private final CommunityReactionService service = new CommunityReactionService(
+			communityRepository, communityLikeRepository, communityCommentRepository,
+			mock(CommunityPostCounter.class), communityLeaderboard);
+
+	@Test
+	void likeCountIncreasesOnlyWhenRowInserted() {
+		CommunityLike like = like(7, "alice");
+		when(communityLikeRepository.insertIfAbsent(eq(7), eq("alice"), any())).thenReturn(1, 0);
+
+		assertTrue(service.addLike(like));
+		assertFalse(service.addLike(like));
+
+		verify(communityRepository).addLikeCount(7, 1);
+	}
+
+	@Test
+	void duplicateUnlikeDoesNotDecrement() {
+		when(communityLikeRepository.deleteByCommunityIdAndUserId(7, "alice")).thenReturn(0);
+
+		assertFalse(service.removeLike(7, "alice"));
+
+		verify(communityRepository, never()).addLikeCount(anyInt(), anyLong());
+	}
+
+	@Test
+	void commentCountDecreasesOnlyWhenRowDeleted() {
+		when(communityCommentRepository.deleteByCommentId(3)).thenReturn(1, 0);
+
+		assertTrue(service.removeComment(7, 3));
+		assertFalse(service.removeComment(7, 3));
+
+		verify(communityRepository).addCommentCount(7, -1);
+	}
+
+	@Test
+	void reconcileRebuildsLeaderboard() {
+		service.reconcileCounters();
+
+		verify(communityRepository).reconcileCounters();
+		verify(communityLeaderboard).rebuild();
+	}
+
+	private static CommunityLike like(Integer communityId, String userId) {
+		return CommunityLike.builder()
+				.id(new CommunityLike.CommunityLikeId(communityId, userId))
+				.community(Community.builder().communityId(communityId).build())
+				.user(User.builder().userId(userId).build())
+				.likedAt(LocalDateTime.now())
+				.build();
+	}
+}
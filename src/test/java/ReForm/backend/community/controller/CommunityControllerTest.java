@@ -0,0 +1,165 @@
+package ReForm.backend.community.controller;
+
+import ReForm.backend.community.Community;
+import ReForm.backend.community.CommunityLeaderboard;
+import ReForm.backend.community.CommunityPostCounter;
+import ReForm.backend.community.CommunityReactionService;
+import ReForm.backend.community.CommunitySearchService;
+import ReForm.backend.community.repository.CommunityCommentRepository;
+import ReForm.backend.community.repository.CommunityLikeRepository;
+import ReForm.backend.community.repository.CommunityRepository;
+import ReForm.backend.image.UploadedImageService;
+import ReForm.backend.s3.AwsS3Service.Category;
+import ReForm.backend.user.User;
+import ReForm.backend.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CommunityControllerTest {
+
+	private static final String MY_IMAGE = "https://cdn/community/mine.jpg";
+	private static final String NEW_IMAGE = "https://cdn/community/new.jpg";
+
+	private final CommunityRepository communityRepository = mock(CommunityRepository.class);
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final UploadedImageService uploadedImageService = mock(UploadedImageService.class);
+	private final CommunityController controller = new CommunityController(
+			communityRepository, mock(CommunityLikeRepository.class), mock(CommunityCommentRepository.class),
+			userRepository, mock(CommunityPostCounter.class), mock(CommunityReactionService.class),
+			mock(CommunityLeaderboard.class), mock(CommunitySearchService.class), uploadedImageService);
+
+	private final User alice = User.builder().userId("alice").userName("alice").build();
+
+	@Test
+	void createRejectsImageThatWasNotUploaded() {
+		when(userRepository.findById("alice")).thenReturn(Optional.of(alice));
+		when(uploadedImageService.attach(Category.COMMUNITY, "https://evil.example/x.jpg")).thenReturn(false);
+
+		ResponseEntity<Map<String, Object>> response = controller.createCommunityPost(request("https://evil.example/x.jpg"), "alice");
+
+		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+		verify(communityRepository, never()).save(any());
+	}
+
+	@Test
+	void createAttachesUploadedImage() {
+		when(userRepository.findById("alice")).thenReturn(Optional.of(alice));
+		when(uploadedImageService.attach(Category.COMMUNITY, MY_IMAGE)).thenReturn(true);
+		when(communityRepository.save(any())).thenReturn(post(1, MY_IMAGE));
+
+		ResponseEntity<Map<String, Object>> response = controller.createCommunityPost(request(MY_IMAGE), "alice");
+
+		assertEquals(HttpStatus.CREATED, response.getStatusCode());
+		verify(uploadedImageService).attach(Category.COMMUNITY, MY_IMAGE);
+		verify(uploadedImageService, never()).release(anyString());
+	}
+
+	@Test
+	void createDetachesImageWhenSaveFails() {
+		when(userRepository.findById("alice")).thenReturn(Optional.of(alice));
+		when(uploadedImageService.attach(Category.COMMUNITY, MY_IMAGE)).thenReturn(true);
+		when(communityRepository.save(any())).thenThrow(new IllegalStateException("db down"));
+
+		ResponseEntity<Map<String, Object>> response = controller.createCommunityPost(request(MY_IMAGE), "alice");
+
+		assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+		// 방금 올린 이미지를 지우지 않도록 참조만 되돌림 (재시도 가능)
+		verify(uploadedImageService).detach(Category.COMMUNITY, MY_IMAGE);
+		verify(uploadedImageService, never()).release(anyString());
+	}
+
+	@Test
+	void updateDetachesNewImageAndKeepsOldWhenSaveFails() {
+		when(communityRepository.findById(1)).thenReturn(Optional.of(post(1, MY_IMAGE)));
+		when(uploadedImageService.attach(Category.COMMUNITY, NEW_IMAGE)).thenReturn(true);
+		when(communityRepository.save(any())).thenThrow(new IllegalStateException("db down"));
+
+		ResponseEntity<Map<String, Object>> response = controller.updateCommunityPost(1, request(NEW_IMAGE), "alice");
+
+		assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+		verify(uploadedImageService).detach(Category.COMMUNITY, NEW_IMAGE);
+		verify(uploadedImageService, never()).release(anyString());
+	}
+
+	@Test
+	void updateWithSameImageNeitherAttachesNorReleases() {
+		when(communityRepository.findById(1)).thenReturn(Optional.of(post(1, MY_IMAGE)));
+		when(communityRepository.save(any())).thenReturn(post(1, MY_IMAGE));
+
+		ResponseEntity<Map<String, Object>> response = controller.updateCommunityPost(1, request(MY_IMAGE), "alice");
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		verify(uploadedImageService, never()).attach(any(), any());
+		verify(uploadedImageService, never()).release(anyString());
+	}
+
+	@Test
+	void updateAttachesNewImageBeforeReleasingOld() {
+		when(communityRepository.findById(1)).thenReturn(Optional.of(post(1, MY_IMAGE)));
+		when(uploadedImageService.attach(Category.COMMUNITY, NEW_IMAGE)).thenReturn(true);
+		when(communityRepository.save(any())).thenReturn(post(1, NEW_IMAGE));
+
+		controller.updateCommunityPost(1, request(NEW_IMAGE), "alice");
+
+		InOrder order = inOrder(uploadedImageService, communityRepository);
+		order.verify(uploadedImageService).attach(Category.COMMUNITY, NEW_IMAGE);
+		order.verify(communityRepository).save(any());
+		order.verify(uploadedImageService).release(MY_IMAGE);
+	}
+
+	@Test
+	void updateToUnregisteredImageKeepsOldReference() {
+		when(communityRepository.findById(1)).thenReturn(Optional.of(post(1, MY_IMAGE)));
+		when(uploadedImageService.attach(Category.COMMUNITY, "https://evil.example/y.jpg")).thenReturn(false);
+
+		ResponseEntity<Map<String, Object>> response = controller.updateCommunityPost(1, request("https://evil.example/y.jpg"), "alice");
+
+		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+		verify(communityRepository, never()).save(any());
+		verify(uploadedImageService, never()).release(anyString());
+	}
+
+	@Test
+	void deleteReleasesThePostsImageReference() {
+		when(communityRepository.findById(1)).thenReturn(Optional.of(post(1, MY_IMAGE)));
+
+		ResponseEntity<Map<String, Object>> response = controller.deleteCommunityPost(1, "alice");
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		verify(uploadedImageService).release(MY_IMAGE);
+	}
+
+	private Community post(int id, String image) {
+		return Community.builder()
+				.communityId(id)
+				.user(alice)
+				.title("title")
+				.content("content")
+				.image(image)
+				.createdAt(LocalDateTime.now())
+				.build();
+	}
+
+	private static CommunityController.CommunityPostRequestDTO request(String image) {
+		CommunityController.CommunityPostRequestDTO request = new CommunityController.CommunityPostRequestDTO();
+		request.setTitle("title");
+		request.setContent("content");
+		request.setImage(image);
+		return request;
+	}
+}
@@ -0,0 +1,123 @@
+package ReForm.backend.community.repository;
+
+import ReForm.backend.community.Community;
+import ReForm.backend.community.DTO.CommunityFeedItemDTO;
+import ReForm.backend.s3.UploadedImage;
+import ReForm.backend.user.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 피드 조회 쿼리 수 회귀 테스트
+ * - 페이지 크기와 관계없이 SELECT 한 번으로 게시글/작성자/썸네일/카운터를 모두 가져와야 합니다. (게시글별 COUNT/작성자 조회 N+1 방지)
+ */
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:feed;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CommunityFeedQueryTest {
+
+	private static final int POSTS = 12;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private CommunityRepository communityRepository;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+		// 작성자 3명이 번갈아 작성, 짝수 글에는 축소본이 있는 업로드 이미지
+		User[] authors = new User[3];
+		for (int i = 0; i < authors.length; i++) {
+			authors[i] = entityManager.persist(User.builder()
+					.userId("user-" + i)
+					.userName("user" + i)
+					.profileImageUrl("https://cdn/profile/" + i + ".jpg")
+					.createdAt(now)
+					.build());
+		}
+		for (int i = 0; i < POSTS; i++) {
+			String image = "https://cdn/community/" + i + ".jpg";
+			if (i % 2 == 0) {
+				entityManager.persist(UploadedImage.builder()
+						.category("community")
+						.fileName(i + ".jpg")
+						.s3Key("community/" + i + ".jpg")
+						.url(image)
+						.thumbnailUrl("https://cdn/community/thumb/" + i + ".jpg")
+						.refCount(1)
+						.createdAt(now)
+						.build());
+			}
+			entityManager.persist(Community.builder()
+					.user(authors[i % authors.length])
+					.title("title " + i)
+					.content("content " + i)
+					.image(image)
+					.createdAt(now.minusMinutes(i))
+					.build());
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void firstPageIsOneSelect() {
+		List<CommunityFeedItemDTO> page = communityRepository.findFeedFirstPage(PageRequest.of(0, 10));
+		touch(page);
+
+		assertEquals(10, page.size());
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	void nextPageIsOneSelect() {
+		CommunityFeedItemDTO last = communityRepository.findFeedFirstPage(PageRequest.of(0, 5)).get(4);
+		statistics.clear();
+
+		List<CommunityFeedItemDTO> page = communityRepository.findFeedPageAfter(
+				last.getCreatedAt(), last.getCommunityId(), PageRequest.of(0, 5));
+		touch(page);
+
+		assertEquals(5, page.size());
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	// 응답을 만들 때 읽는 값을 모두 읽어도 추가 쿼리가 없어야 함
+	private static void touch(List<CommunityFeedItemDTO> page) {
+		for (CommunityFeedItemDTO item : page) {
+			item.getTitle();
+			item.getThumbnail();
+			item.getAuthor();
+			item.getAuthorProfileImageUrl();
+			assertEquals(0L, item.getLikeCount());
+			assertEquals(0L, item.getCommentCount());
+		}
+	}
+}
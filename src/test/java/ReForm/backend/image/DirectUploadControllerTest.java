@@ -0,0 +1,127 @@
+package ReForm.backend.image;
+
+import ReForm.backend.s3.AwsS3Service;
+import ReForm.backend.s3.AwsS3Service.Category;
+import ReForm.backend.user.repository.UserRepository;
+import ReForm.backend.user.service.UserPrincipalCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DirectUploadControllerTest {
+
+	private static final String SHA256 = "0123456789abcdef".repeat(4);
+
+	private final AwsS3Service awsS3Service = mock(AwsS3Service.class);
+	private final UploadedImageService uploadedImageService = mock(UploadedImageService.class);
+	private final DirectUploadController controller = new DirectUploadController(
+			awsS3Service, uploadedImageService, mock(UserRepository.class), mock(UserPrincipalCache.class));
+
+	@Test
+	void presignRequiresLogin() {
+		ResponseEntity<Map<String, Object>> response = controller.presign("community", request("image/jpeg", 1234, null), null);
+
+		assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+		verifyNotPresigned();
+	}
+
+	@Test
+	void presignRejectsUnknownCategoryAndNonImage() {
+		assertEquals(HttpStatus.BAD_REQUEST,
+				controller.presign("video", request("image/jpeg", 1234, null), "alice").getStatusCode());
+		assertEquals(HttpStatus.UNSUPPORTED_MEDIA_TYPE,
+				controller.presign("community", request("text/html", 1234, null), "alice").getStatusCode());
+		verifyNotPresigned();
+	}
+
+	@Test
+	void presignRejectsMissingOrOversizedLength() {
+		when(awsS3Service.maxObjectBytes()).thenReturn(1000L);
+
+		assertEquals(HttpStatus.BAD_REQUEST,
+				controller.presign("community", request("image/jpeg", 0, null), "alice").getStatusCode());
+		assertEquals(HttpStatus.PAYLOAD_TOO_LARGE,
+				controller.presign("community", request("image/jpeg", 1001, null), "alice").getStatusCode());
+		verifyNotPresigned();
+	}
+
+	@Test
+	void presignRejectsMalformedChecksum() {
+		when(awsS3Service.maxObjectBytes()).thenReturn(10_000L);
+
+		ResponseEntity<Map<String, Object>> response = controller.presign("community", request("image/jpeg", 1234, "not-hex"), "alice");
+
+		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+		verifyNotPresigned();
+	}
+
+	@Test
+	void presignReturnsSignedUpload() {
+		when(awsS3Service.maxObjectBytes()).thenReturn(10_000L);
+		when(awsS3Service.presignPut(Category.MARKET, "alice", "a.jpg", "image/jpeg", 1234L, SHA256))
+				.thenReturn(new AwsS3Service.PresignedUpload("market/direct/alice/x.jpg", "https://s3/put",
+						Map.of("Content-Type", List.of("image/jpeg")), Instant.parse("2026-01-01T00:00:00Z"),
+						"https://cdn/market/direct/alice/x.jpg"));
+
+		ResponseEntity<Map<String, Object>> response = controller.presign("market", request("image/jpeg", 1234, SHA256), "alice");
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals("market/direct/alice/x.jpg", response.getBody().get("key"));
+		assertEquals("https://s3/put", response.getBody().get("uploadUrl"));
+		assertEquals("PUT", response.getBody().get("method"));
+	}
+
+	@Test
+	void completeMapsValidationFailureToBadRequest() {
+		when(uploadedImageService.completeDirect(Category.COMMUNITY, "alice", "community/direct/bob/x.jpg"))
+				.thenThrow(new IllegalArgumentException("업로드 키가 올바르지 않습니다."));
+
+		ResponseEntity<Map<String, Object>> response = controller.complete("community",
+				Map.of("key", "community/direct/bob/x.jpg"), "alice");
+
+		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+	}
+
+	@Test
+	void completeReturnsStoredImage() {
+		when(uploadedImageService.completeDirect(Category.COMMUNITY, "alice", "community/direct/alice/x.jpg"))
+				.thenReturn(StoredImage.original("community/direct/alice/x.jpg", "https://cdn/x.jpg"));
+
+		ResponseEntity<Map<String, Object>> response = controller.complete("community",
+				Map.of("key", "community/direct/alice/x.jpg"), "alice");
+
+		assertEquals(HttpStatus.CREATED, response.getStatusCode());
+		assertEquals("https://cdn/x.jpg", response.getBody().get("url"));
+		// 축소본이 없으므로 원본 URL로 대체
+		assertEquals("https://cdn/x.jpg", response.getBody().get("thumbnailUrl"));
+	}
+
+	private void verifyNotPresigned() {
+		verify(awsS3Service, never()).presignPut(any(), anyString(), any(), anyString(), anyLong(), any());
+	}
+
+	private static Map<String, Object> request(String contentType, long contentLength, String sha256) {
+		Map<String, Object> request = new HashMap<>();
+		request.put("filename", "a.jpg");
+		request.put("contentType", contentType);
+		request.put("contentLength", contentLength);
+		if (sha256 != null) {
+			request.put("sha256", sha256);
+		}
+		return request;
+	}
+}
@@ -0,0 +1,226 @@
+package ReForm.backend.image;
+
+import ReForm.backend.s3.AwsS3Service;
+import ReForm.backend.s3.AwsS3Service.Category;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ImageRenditionServiceTest {
+
+	private final AwsS3Service awsS3Service = mock(AwsS3Service.class);
+	private final UploadedImageService uploadedImageService = mock(UploadedImageService.class);
+	// 변환 스레드 1개, 대기열 4
+	private final ImageRenditionService service = new ImageRenditionService(awsS3Service, uploadedImageService,
+			1, 4, 0.85f, 50_000_000L, 20_000L);
+
+	@AfterEach
+	void tearDown() {
+		service.shutdown();
+	}
+
+	@Test
+	void exifOrientationReadsBigEndianTiff() {
+		assertEquals(6, ImageRenditionService.exifOrientation(jpeg(exif(false, 6))));
+	}
+
+	@Test
+	void exifOrientationReadsLittleEndianTiff() {
+		assertEquals(8, ImageRenditionService.exifOrientation(jpeg(exif(true, 8))));
+	}
+
+	@Test
+	void exifOrientationSkipsSegmentsBeforeExif() {
+		assertEquals(3, ImageRenditionService.exifOrientation(jpeg(app0(), exif(false, 3))));
+	}
+
+	@Test
+	void exifOrientationDefaultsToOne() {
+		// Exif 없음 / JPEG 아님 / 범위를 벗어난 값 / 잘린 세그먼트
+		assertEquals(1, ImageRenditionService.exifOrientation(jpeg(app0())));
+		assertEquals(1, ImageRenditionService.exifOrientation("GIF89a......".getBytes(StandardCharsets.US_ASCII)));
+		assertEquals(1, ImageRenditionService.exifOrientation(jpeg(exif(false, 9))));
+		byte[] truncated = jpeg(exif(false, 6));
+		assertEquals(1, ImageRenditionService.exifOrientation(Arrays.copyOf(truncated, 20)));
+	}
+
+	@Test
+	void stripJpegRemovesExifXmpAndComments() {
+		byte[] xmp = segment(0xE1, ascii("http://ns.adobe.com/xap/1.0/\0<x:xmpmeta/>"));
+		byte[] comment = segment(0xFE, ascii("shot at home"));
+		byte[] icc = segment(0xE2, ascii("ICC_PROFILE\0\1\1profile"));
+		byte[] adobe = segment(0xEE, ascii("Adobe\0\144\0\0\0\0\2"));
+		byte[] stripped = ImageRenditionService.stripJpeg(jpeg(app0(), exif(false, 6), xmp, comment, icc, adobe));
+
+		assertArrayEquals(jpeg(app0(), icc, adobe), stripped);
+		assertEquals(1, ImageRenditionService.exifOrientation(stripped));
+	}
+
+	@Test
+	void stripJpegRejectsMalformedInput() {
+		assertNull(ImageRenditionService.stripJpeg(ascii("not a jpeg")));
+		byte[] jpeg = jpeg(exif(false, 6));
+		assertNull(ImageRenditionService.stripJpeg(Arrays.copyOf(jpeg, 12)));
+	}
+
+	@Test
+	void stripGifKeepsFramesAndLoopButDropsCommentsAndXmp() {
+		byte[] loop = concat(new byte[] {0x21, (byte) 0xFF, 11}, ascii("NETSCAPE2.0"), new byte[] {3, 1, 0, 0, 0});
+		byte[] xmp = concat(new byte[] {0x21, (byte) 0xFF, 11}, ascii("XMP DataXMP"), new byte[] {4}, ascii("<x/>"), new byte[] {0});
+		byte[] comment = concat(new byte[] {0x21, (byte) 0xFE, 5}, ascii("hello"), new byte[] {0});
+		byte[] control = {0x21, (byte) 0xF9, 4, 0, 10, 0, 0, 0};
+
+		byte[] stripped = ImageRenditionService.stripGif(gif(loop, xmp, comment, control, frame()));
+
+		assertArrayEquals(gif(loop, control, frame()), stripped);
+	}
+
+	@Test
+	void stripGifRejectsMalformedInput() {
+		assertNull(ImageRenditionService.stripGif(ascii("GIF89")));
+		byte[] gif = gif(frame());
+		assertNull(ImageRenditionService.stripGif(Arrays.copyOf(gif, gif.length - 4)));
+	}
+
+	@Test
+	void gifIsStoredWithoutMetadata() {
+		when(uploadedImageService.acquire(any(), anyString())).thenReturn(Optional.empty());
+		when(awsS3Service.newObjectKey(Category.COMMUNITY)).thenReturn("community/abc");
+		when(awsS3Service.storeAsync(anyString(), any(byte[].class), anyString()))
+				.thenReturn(CompletableFuture.completedFuture("https://cdn/community/abc.gif"));
+		when(uploadedImageService.register(eq(Category.COMMUNITY), anyString(), any()))
+				.thenAnswer(invocation -> invocation.getArgument(2));
+		byte[] comment = concat(new byte[] {0x21, (byte) 0xFE, 3}, ascii("gps"), new byte[] {0});
+		// Content-Type/파일명이 달라도 내용으로 GIF를 판단
+		MockMultipartFile file = new MockMultipartFile("file", "a.png", "image/png", gif(comment, frame()));
+
+		StoredImage image = service.store(file, Category.COMMUNITY);
+
+		ArgumentCaptor<byte[]> stored = ArgumentCaptor.forClass(byte[].class);
+		verify(awsS3Service).storeAsync(eq("community/abc.gif"), stored.capture(), eq("image/gif"));
+		assertArrayEquals(gif(frame()), stored.getValue());
+		assertEquals("community/abc.gif", image.key());
+	}
+
+	@Test
+	void undecodableFormatIsRejected() {
+		when(uploadedImageService.acquire(any(), anyString())).thenReturn(Optional.empty());
+		// HEIC(ftyp heic)처럼 ImageIO가 읽지 못하는 형식
+		byte[] heic = concat(new byte[] {0, 0, 0, 24}, ascii("ftypheic"), new byte[32]);
+		MockMultipartFile file = new MockMultipartFile("file", "a.heic", "image/heic", heic);
+
+		assertThrows(IllegalArgumentException.class, () -> service.store(file, Category.MARKET));
+		verify(awsS3Service, never()).storeAsync(anyString(), any(byte[].class), anyString());
+		verify(uploadedImageService, never()).register(any(), anyString(), any());
+	}
+
+	@Test
+	void undecodableJpegIsStoredWithoutExif() {
+		when(uploadedImageService.acquire(any(), anyString())).thenReturn(Optional.empty());
+		when(awsS3Service.newObjectKey(Category.PROFILE)).thenReturn("profile/abc");
+		when(awsS3Service.storeAsync(anyString(), any(byte[].class), anyString()))
+				.thenReturn(CompletableFuture.completedFuture("https://cdn/profile/abc.jpg"));
+		when(uploadedImageService.register(eq(Category.PROFILE), anyString(), any()))
+				.thenAnswer(invocation -> invocation.getArgument(2));
+		// 프레임 헤더(SOF)가 없어 ImageIO가 디코딩하지 못하는 JPEG
+		MockMultipartFile file = new MockMultipartFile("file", "a.jpg", "image/jpeg", jpeg(app0(), exif(false, 6)));
+
+		service.store(file, Category.PROFILE);
+
+		ArgumentCaptor<byte[]> stored = ArgumentCaptor.forClass(byte[].class);
+		verify(awsS3Service).storeAsync(eq("profile/abc.jpg"), stored.capture(), eq("image/jpeg"));
+		assertArrayEquals(jpeg(app0()), stored.getValue());
+	}
+
+	// SOI + 세그먼트들 + SOS(빈 스캔) + EOI
+	private static byte[] jpeg(byte[]... segments) {
+		byte[] sos = {(byte) 0xFF, (byte) 0xDA, 0, 2, 0x11, 0x22, (byte) 0xFF, (byte) 0xD9};
+		return concat(new byte[] {(byte) 0xFF, (byte) 0xD8}, concat(segments), sos);
+	}
+
+	private static byte[] app0() {
+		return segment(0xE0, ascii("JFIF\0\1\1\0\0\1\0\1\0\0"));
+	}
+
+	// APP1 Exif: TIFF 헤더 + IFD0(Orientation 1개)
+	private static byte[] exif(boolean littleEndian, int orientation) {
+		ByteArrayOutputStream tiff = new ByteArrayOutputStream();
+		tiff.writeBytes(ascii(littleEndian ? "II" : "MM"));
+		write16(tiff, 42, littleEndian);
+		write32(tiff, 8, littleEndian);
+		write16(tiff, 1, littleEndian); // 항목 수
+		write16(tiff, 0x0112, littleEndian);
+		write16(tiff, 3, littleEndian); // SHORT
+		write32(tiff, 1, littleEndian);
+		write16(tiff, orientation, littleEndian);
+		write16(tiff, 0, littleEndian);
+		write32(tiff, 0, littleEndian); // 다음 IFD 없음
+		return segment(0xE1, concat(ascii("Exif\0\0"), tiff.toByteArray()));
+	}
+
+	private static byte[] segment(int marker, byte[] payload) {
+		int length = payload.length + 2;
+		return concat(new byte[] {(byte) 0xFF, (byte) marker, (byte) (length >> 8), (byte) length}, payload);
+	}
+
+	// 1x1, 전역 색상표 2색 GIF
+	private static byte[] gif(byte[]... blocks) {
+		byte[] header = concat(ascii("GIF89a"), new byte[] {1, 0, 1, 0, (byte) 0x80, 0, 0}, new byte[6]);
+		return concat(header, concat(blocks), new byte[] {0x3B});
+	}
+
+	private static byte[] frame() {
+		return new byte[] {0x2C, 0, 0, 0, 0, 1, 0, 1, 0, 0, 2, 2, 0x44, 0x01, 0};
+	}
+
+	private static void write16(ByteArrayOutputStream out, int value, boolean littleEndian) {
+		if (littleEndian) {
+			out.write(value);
+			out.write(value >> 8);
+		} else {
+			out.write(value >> 8);
+			out.write(value);
+		}
+	}
+
+	private static void write32(ByteArrayOutputStream out, int value, boolean littleEndian) {
+		if (littleEndian) {
+			write16(out, value & 0xFFFF, true);
+			write16(out, value >>> 16, true);
+		} else {
+			write16(out, value >>> 16, false);
+			write16(out, value & 0xFFFF, false);
+		}
+	}
+
+	private static byte[] ascii(String value) {
+		return value.getBytes(StandardCharsets.ISO_8859_1);
+	}
+
+	private static byte[] concat(byte[]... parts) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		for (byte[] part : parts) {
+			out.writeBytes(part);
+		}
+		return out.toByteArray();
+	}
+}
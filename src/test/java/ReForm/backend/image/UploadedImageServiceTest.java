@@ -0,0 +1,269 @@
+package ReForm.backend.image;
+
+import ReForm.backend.s3.AwsS3Service;
+import ReForm.backend.s3.AwsS3Service.Category;
+import ReForm.backend.s3.UploadedImage;
+import ReForm.backend.s3.UploadedImageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UploadedImageServiceTest {
+
+	private static final String PREFIX = "community/direct/alice/";
+	private static final String KEY = PREFIX + "abc.jpg";
+	private static final String HASH = "a".repeat(64);
+
+	private final UploadedImageRepository uploadedImageRepository = mock(UploadedImageRepository.class);
+	private final AwsS3Service awsS3Service = mock(AwsS3Service.class);
+	private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+	private final UploadedImageService service = new UploadedImageService(uploadedImageRepository, awsS3Service, transactionTemplate);
+
+	@BeforeEach
+	void setUp() {
+		when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+				invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(mock(TransactionStatus.class)));
+		when(awsS3Service.directUploadPrefix(Category.COMMUNITY, "alice")).thenReturn(PREFIX);
+		when(awsS3Service.publicUrl(anyString())).thenAnswer(invocation -> "https://cdn/" + invocation.getArgument(0));
+		when(awsS3Service.maxObjectBytes()).thenReturn(10L * 1024 * 1024);
+		when(uploadedImageRepository.findFirstByS3Key(anyString())).thenReturn(Optional.empty());
+	}
+
+	@Test
+	void keyOutsideCallersPrefixIsRejected() {
+		assertThrows(IllegalArgumentException.class,
+				() -> service.completeDirect(Category.COMMUNITY, "alice", "community/direct/bob/abc.jpg"));
+		assertThrows(IllegalArgumentException.class,
+				() -> service.completeDirect(Category.COMMUNITY, "alice", PREFIX + "../bob/abc.jpg"));
+		verify(awsS3Service, never()).head(anyString());
+	}
+
+	@Test
+	void completedKeyIsReturnedWithoutHead() {
+		when(uploadedImageRepository.findFirstByS3Key(KEY)).thenReturn(Optional.of(row(KEY, null)));
+
+		StoredImage image = service.completeDirect(Category.COMMUNITY, "alice", KEY);
+
+		assertEquals(KEY, image.key());
+		verify(awsS3Service, never()).head(anyString());
+		verify(uploadedImageRepository, never()).save(any());
+	}
+
+	@Test
+	void newObjectIsRegistered() {
+		when(awsS3Service.head(KEY)).thenReturn(Optional.of(new AwsS3Service.ObjectInfo(100, "image/jpeg", null)));
+
+		StoredImage image = service.completeDirect(Category.COMMUNITY, "alice", KEY);
+
+		assertEquals(KEY, image.key());
+		assertEquals("https://cdn/" + KEY, image.url());
+		ArgumentCaptor<UploadedImage> saved = ArgumentCaptor.forClass(UploadedImage.class);
+		verify(uploadedImageRepository).save(saved.capture());
+		// 게시글 이미지는 게시글에 연결될 때 참조를 얻으므로 업로드 직후에는 0
+		assertEquals(0, saved.getValue().getRefCount());
+		verify(awsS3Service, never()).deleteQuietly(anyString());
+	}
+
+	@Test
+	void profileImageIsRegisteredWithUploaderReference() {
+		String key = "profile/direct/alice/abc.jpg";
+		when(awsS3Service.directUploadPrefix(Category.PROFILE, "alice")).thenReturn("profile/direct/alice/");
+		when(awsS3Service.head(key)).thenReturn(Optional.of(new AwsS3Service.ObjectInfo(100, "image/jpeg", null)));
+
+		service.completeDirect(Category.PROFILE, "alice", key);
+
+		ArgumentCaptor<UploadedImage> saved = ArgumentCaptor.forClass(UploadedImage.class);
+		verify(uploadedImageRepository).save(saved.capture());
+		assertEquals(1, saved.getValue().getRefCount());
+	}
+
+	@Test
+	void concurrentCompleteOfSameKeyIsTreatedAsCompleted() {
+		when(awsS3Service.head(KEY)).thenReturn(Optional.of(new AwsS3Service.ObjectInfo(100, "image/jpeg", null)));
+		// 첫 조회 때는 없었지만, 저장 직전에 다른 요청이 같은 키로 먼저 저장함 (uk_uploaded_image_s3_key 충돌)
+		when(uploadedImageRepository.findFirstByS3Key(KEY)).thenReturn(Optional.empty(), Optional.of(row(KEY, null)));
+		when(uploadedImageRepository.save(any())).thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+
+		StoredImage image = service.completeDirect(Category.COMMUNITY, "alice", KEY);
+
+		assertEquals(KEY, image.key());
+		// 먼저 저장된 행이 가리키는 오브젝트이므로 지우면 안 됨
+		verify(awsS3Service, never()).deleteQuietly(anyString());
+		verify(uploadedImageRepository, never()).incrementRefCount(anyString(), anyString());
+	}
+
+	@Test
+	void duplicateContentReusesExistingImageAndRetryStillSucceeds() {
+		String existingKey = "community/existing.jpg";
+		when(awsS3Service.head(KEY)).thenReturn(Optional.of(new AwsS3Service.ObjectInfo(100, "image/jpeg", HASH)));
+		when(uploadedImageRepository.findByCategoryAndContentHash("community", HASH)).thenReturn(Optional.of(row(existingKey, HASH)));
+		when(uploadedImageRepository.findFirstByS3Key(existingKey)).thenReturn(Optional.of(row(existingKey, HASH)));
+
+		StoredImage first = service.completeDirect(Category.COMMUNITY, "alice", KEY);
+		StoredImage retry = service.completeDirect(Category.COMMUNITY, "alice", KEY);
+
+		assertEquals(existingKey, first.key());
+		assertEquals(existingKey, retry.key());
+		verify(awsS3Service).deleteQuietly(KEY);
+		// 재시도는 오브젝트 확인 없이 같은 이미지로 응답, 게시글 이미지는 업로드만으로 참조를 올리지 않음
+		verify(awsS3Service, times(1)).head(KEY);
+		verify(uploadedImageRepository, never()).incrementRefCount(anyString(), anyString());
+		verify(uploadedImageRepository, never()).save(any());
+	}
+
+	@Test
+	void oversizedObjectIsDeleted() {
+		when(awsS3Service.head(KEY)).thenReturn(Optional.of(new AwsS3Service.ObjectInfo(11L * 1024 * 1024, "image/jpeg", null)));
+
+		assertThrows(IllegalArgumentException.class, () -> service.completeDirect(Category.COMMUNITY, "alice", KEY));
+
+		verify(awsS3Service).deleteQuietly(KEY);
+		verify(uploadedImageRepository, never()).save(any());
+	}
+
+	@Test
+	void nonImageObjectIsDeleted() {
+		when(awsS3Service.head(KEY)).thenReturn(Optional.of(new AwsS3Service.ObjectInfo(100, "text/html", null)));
+
+		assertThrows(IllegalArgumentException.class, () -> service.completeDirect(Category.COMMUNITY, "alice", KEY));
+
+		verify(awsS3Service).deleteQuietly(KEY);
+	}
+
+	@Test
+	void missingObjectIsRejected() {
+		when(awsS3Service.head(KEY)).thenReturn(Optional.empty());
+
+		assertThrows(IllegalArgumentException.class, () -> service.completeDirect(Category.COMMUNITY, "alice", KEY));
+
+		verify(uploadedImageRepository, never()).save(any());
+	}
+
+	@Test
+	void attachRequiresRegisteredUploadOfSameCategory() {
+		when(uploadedImageRepository.incrementRefCountByUrl("community", "https://cdn/community/a.jpg")).thenReturn(1);
+		when(uploadedImageRepository.incrementRefCountByUrl("community", "https://evil.example/x.jpg")).thenReturn(0);
+
+		assertTrue(service.attach(Category.COMMUNITY, "https://cdn/community/a.jpg"));
+		assertFalse(service.attach(Category.COMMUNITY, "https://evil.example/x.jpg"));
+	}
+
+	@Test
+	void attachWithoutImageIsAllowed() {
+		assertTrue(service.attach(Category.MARKET, null));
+		assertTrue(service.attach(Category.MARKET, " "));
+		verify(uploadedImageRepository, never()).incrementRefCountByUrl(anyString(), anyString());
+	}
+
+	@Test
+	void detachAfterFailedSaveKeepsFreshUploadForRetry() {
+		// 방금 올린 게시글 이미지(ref_count 0) → 연결(1) → 게시글 저장 실패 → 되돌림(0) → 재시도 연결(1)
+		String url = "https://cdn/community/a.jpg";
+		when(uploadedImageRepository.incrementRefCountByUrl("community", url)).thenReturn(1);
+		when(uploadedImageRepository.decrementRefCountByUrl("community", url)).thenReturn(1);
+
+		assertTrue(service.attach(Category.COMMUNITY, url));
+		service.detach(Category.COMMUNITY, url);
+		assertTrue(service.attach(Category.COMMUNITY, url));
+
+		verify(uploadedImageRepository).decrementRefCountByUrl("community", url);
+		verify(uploadedImageRepository, times(2)).incrementRefCountByUrl("community", url);
+		verify(uploadedImageRepository, never()).findByUrlForUpdate(anyString());
+		verify(uploadedImageRepository, never()).delete(any());
+		verify(awsS3Service, never()).deleteQuietly(anyString());
+	}
+
+	@Test
+	void detachWithoutImageIsIgnored() {
+		service.detach(Category.MARKET, null);
+		service.detach(Category.MARKET, " ");
+		verify(uploadedImageRepository, never()).decrementRefCountByUrl(anyString(), anyString());
+	}
+
+	@Test
+	void releasingAnotherPostsReferenceKeepsImage() {
+		// 작성자 게시글 + 다른 사용자가 같은 URL을 연결한 게시글 = 참조 2
+		String url = "https://cdn/community/a.jpg";
+		when(uploadedImageRepository.findByUrlForUpdate(url)).thenReturn(List.of(row("community/a.jpg", HASH, 2)));
+		when(uploadedImageRepository.decrementRefCount(1L)).thenReturn(1);
+
+		service.release(url);
+
+		verify(uploadedImageRepository, never()).delete(any());
+		verify(awsS3Service, never()).deleteQuietly(anyString());
+	}
+
+	@Test
+	void releasingLastReferenceDeletesImage() {
+		String url = "https://cdn/community/a.jpg";
+		when(uploadedImageRepository.findByUrlForUpdate(url)).thenReturn(List.of(row("community/a.jpg", HASH, 1)));
+		when(uploadedImageRepository.decrementRefCount(1L)).thenReturn(0);
+
+		service.release(url);
+
+		verify(uploadedImageRepository).delete(any());
+		verify(awsS3Service).deleteQuietly("community/a.jpg");
+	}
+
+	@Test
+	void discardKeepsPostImageAlreadyAttached() {
+		// 다중 업로드 실패 정리 중, 중복으로 재사용한 이미지가 이미 게시글에 연결되어 있음
+		String url = "https://cdn/community/a.jpg";
+		when(uploadedImageRepository.findByUrlForUpdate(url)).thenReturn(List.of(row("community/a.jpg", HASH, 1)));
+
+		service.discard(Category.COMMUNITY, url);
+
+		verify(uploadedImageRepository, never()).decrementRefCount(anyLong());
+		verify(uploadedImageRepository, never()).delete(any());
+		verify(awsS3Service, never()).deleteQuietly(anyString());
+	}
+
+	@Test
+	void discardDeletesUnattachedPostImage() {
+		String url = "https://cdn/market/a.jpg";
+		when(uploadedImageRepository.findByUrlForUpdate(url)).thenReturn(List.of(row("market/a.jpg", HASH, 0)));
+
+		service.discard(Category.MARKET, url);
+
+		verify(uploadedImageRepository).delete(any());
+		verify(awsS3Service).deleteQuietly("market/a.jpg");
+	}
+
+	private static UploadedImage row(String key, String contentHash) {
+		return row(key, contentHash, 1);
+	}
+
+	private static UploadedImage row(String key, String contentHash, int refCount) {
+		return UploadedImage.builder()
+				.id(1L)
+				.category("community")
+				.fileName(key.substring(key.lastIndexOf('/') + 1))
+				.s3Key(key)
+				.url("https://cdn/" + key)
+				.contentHash(contentHash)
+				.refCount(refCount)
+				.createdAt(LocalDateTime.now())
+				.build();
+	}
+}
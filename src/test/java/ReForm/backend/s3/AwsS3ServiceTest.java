@@ -0,0 +1,52 @@
+package ReForm.backend.s3;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class AwsS3ServiceTest {
+
+	private final S3Client s3Client = mock(S3Client.class);
+	private final AwsS3Service service = new AwsS3Service(s3Client, mock(S3StreamingUploader.class),
+			mock(S3AsyncUploader.class), mock(S3Presigner.class));
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(service, "bucketName", "bucket");
+		ReflectionTestUtils.setField(service, "region", "ap-northeast-2");
+		ReflectionTestUtils.setField(service, "endpoint", "");
+		ReflectionTestUtils.setField(service, "communityPrefix", "community");
+	}
+
+	@Test
+	void extensionIsLowercased() {
+		assertTrue(keyFor("photo.JPG").matches("community/[0-9a-f]{32}\\.jpg"));
+	}
+
+	@Test
+	void unsafeExtensionIsDropped() {
+		// 경로 구분자, 공백, 제어 문자, 너무 긴 확장자는 키에 넣지 않음
+		for (String name : new String[] {"a.jp/../x", "a.j g", "a.png\n", "a.verylongext", "a.", "noext", "a.한글"}) {
+			assertTrue(keyFor(name).matches("community/[0-9a-f]{32}"), name);
+		}
+	}
+
+	private String keyFor(String originalFilename) {
+		clearInvocations(s3Client);
+		service.store(new byte[] {1}, originalFilename, "image/jpeg", AwsS3Service.Category.COMMUNITY);
+		ArgumentCaptor<PutObjectRequest> request = ArgumentCaptor.forClass(PutObjectRequest.class);
+		verify(s3Client).putObject(request.capture(), any(RequestBody.class));
+		return request.getValue().key();
+	}
+}
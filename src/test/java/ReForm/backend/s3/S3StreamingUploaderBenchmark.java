@@ -0,0 +1,156 @@
+package ReForm.backend.s3;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URI;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * S3StreamingUploader 처리량/최대 힙 벤치마크 (1MB / 20MB / 100MB)
+ * - 실행: ./gradlew benchmark (일반 test 태스크에서는 제외)
+ * - 기본은 S3 대역(mock)으로 파트 본문을 끝까지 읽고 benchmark.s3.latency-ms만큼 지연합니다.
+ * - 로컬 S3 호환 스토리지(MinIO 등)로 측정하려면 -Dbenchmark.s3.endpoint=http://localhost:9000
+ *   -Dbenchmark.s3.bucket=... -Dbenchmark.s3.access-key=... -Dbenchmark.s3.secret-key=... 를 지정합니다.
+ * - 최대 힙은 측정 구간마다 힙 메모리 풀의 peak를 초기화한 뒤 합산한 값입니다. (업로드 크기와 무관하게 파트 버퍼 수에 비례해야 함)
+ */
+@Tag("benchmark")
+class S3StreamingUploaderBenchmark {
+
+	private static final int MB = 1024 * 1024;
+	private static final int ROUNDS = 3;
+
+	@Test
+	void throughputAndPeakHeap() {
+		String endpoint = System.getProperty("benchmark.s3.endpoint", "");
+		S3Client client = endpoint.isBlank() ? stubClient(Long.getLong("benchmark.s3.latency-ms", 20)) : localClient(endpoint);
+		String bucket = System.getProperty("benchmark.s3.bucket", "benchmark");
+		S3StreamingUploader uploader = new S3StreamingUploader(client, 8, 16, 4, 30_000);
+		try {
+			System.out.printf("[benchmark] target=%s, partSize=%dMB%n", endpoint.isBlank() ? "stub" : endpoint, uploader.getPartSize() / MB);
+			for (int sizeMb : List.of(1, 20, 100)) {
+				long bytes = (long) sizeMb * MB;
+				// 첫 회는 워밍업
+				uploader.upload(bucket, "benchmark/warmup-" + sizeMb, "image/jpeg", new PatternStream(bytes), bytes);
+				long elapsedNanos = 0;
+				long peakHeap = 0;
+				for (int round = 0; round < ROUNDS; round++) {
+					resetHeapPeaks();
+					long started = System.nanoTime();
+					uploader.upload(bucket, "benchmark/" + sizeMb + "mb-" + round, "image/jpeg", new PatternStream(bytes), bytes);
+					elapsedNanos += System.nanoTime() - started;
+					peakHeap = Math.max(peakHeap, heapPeak());
+				}
+				double seconds = elapsedNanos / 1e9 / ROUNDS;
+				System.out.printf("[benchmark] %4dMB: %8.1f ms/upload, %8.1f MB/s, peak heap %6.1f MB%n",
+						sizeMb, seconds * 1000, sizeMb / seconds, peakHeap / (double) MB);
+			}
+		} finally {
+			uploader.shutdown();
+			client.close();
+		}
+	}
+
+	// 파트 본문을 끝까지 읽고 지연 (네트워크 전송 흉내)
+	private static S3Client stubClient(long latencyMs) {
+		S3Client client = mock(S3Client.class);
+		when(client.putObject(any(PutObjectRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+			drain(invocation.getArgument(1), latencyMs);
+			return PutObjectResponse.builder().build();
+		});
+		when(client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+				.thenReturn(CreateMultipartUploadResponse.builder().uploadId("benchmark").build());
+		when(client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+			drain(invocation.getArgument(1), latencyMs);
+			return UploadPartResponse.builder().eTag("etag").build();
+		});
+		return client;
+	}
+
+	private static S3Client localClient(String endpoint) {
+		return S3Client.builder()
+				.endpointOverride(URI.create(endpoint))
+				.forcePathStyle(true)
+				.region(Region.of(System.getProperty("benchmark.s3.region", "us-east-1")))
+				.credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(
+						System.getProperty("benchmark.s3.access-key", "minioadmin"),
+						System.getProperty("benchmark.s3.secret-key", "minioadmin"))))
+				.build();
+	}
+
+	private static void drain(RequestBody body, long latencyMs) throws IOException, InterruptedException {
+		try (InputStream in = body.contentStreamProvider().newStream()) {
+			byte[] sink = new byte[64 * 1024];
+			while (in.read(sink) != -1) {
+				// 버림
+			}
+		}
+		Thread.sleep(latencyMs);
+	}
+
+	private static void resetHeapPeaks() {
+		System.gc();
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP) {
+				pool.resetPeakUsage();
+			}
+		}
+	}
+
+	private static long heapPeak() {
+		long peak = 0;
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP) {
+				peak += pool.getPeakUsage().getUsed();
+			}
+		}
+		return peak;
+	}
+
+	// 메모리에 올리지 않고 지정한 길이만큼 바이트를 생성하는 스트림
+	private static final class PatternStream extends InputStream {
+		private long remaining;
+
+		PatternStream(long length) {
+			this.remaining = length;
+		}
+
+		@Override
+		public int read() {
+			return remaining-- > 0 ? (int) (remaining & 0xFF) : -1;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			if (remaining <= 0) {
+				return -1;
+			}
+			int count = (int) Math.min(len, remaining);
+			for (int i = 0; i < count; i++) {
+				b[off + i] = (byte) (remaining - i);
+			}
+			remaining -= count;
+			return count;
+		}
+	}
+}
@@ -0,0 +1,200 @@
+package ReForm.backend.s3;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class S3StreamingUploaderTest {
+
+	private static final int MB = 1024 * 1024;
+	private static final int PART = 5 * MB; // S3 최소 파트 크기
+
+	private final S3Client s3Client = mock(S3Client.class);
+	// 파트 5MB, 버퍼 2개, 동시 파트 2개, 버퍼 대기 2초
+	private final S3StreamingUploader uploader = new S3StreamingUploader(s3Client, 5, 2, 2, 2000);
+
+	// 파트 번호 -> 업로드된 바이트
+	private final Map<Integer, byte[]> uploadedParts = new ConcurrentHashMap<>();
+
+	@AfterEach
+	void tearDown() {
+		uploader.shutdown();
+	}
+
+	@Test
+	void bodySmallerThanOnePartIsSinglePut() {
+		when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+				.thenReturn(PutObjectResponse.builder().build());
+
+		long size = uploader.upload("bucket", "key", "image/jpeg", new ByteArrayInputStream(bytes(MB)), 10L * MB);
+
+		assertEquals(MB, size);
+		verify(s3Client).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+		verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+	}
+
+	@Test
+	void largeBodyIsSplitIntoOrderedParts() {
+		stubMultipart();
+		byte[] body = bytes(2 * PART + MB);
+
+		long size = uploader.upload("bucket", "key", "image/jpeg", new ByteArrayInputStream(body), 100L * MB);
+
+		assertEquals(body.length, size);
+		assertEquals(3, uploadedParts.size());
+		assertEquals(PART, uploadedParts.get(1).length);
+		assertEquals(PART, uploadedParts.get(2).length);
+		assertEquals(MB, uploadedParts.get(3).length);
+		assertArrayEquals(body, concat(uploadedParts.get(1), uploadedParts.get(2), uploadedParts.get(3)));
+		verify(s3Client).completeMultipartUpload(argThat((CompleteMultipartUploadRequest request) ->
+				request.multipartUpload().parts().stream().map(CompletedPart::partNumber).toList().equals(List.of(1, 2, 3))));
+		verify(s3Client, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+	}
+
+	@Test
+	void exactMultipleOfPartSizeHasNoEmptyTrailingPart() {
+		stubMultipart();
+
+		uploader.upload("bucket", "key", "image/jpeg", new ByteArrayInputStream(bytes(2 * PART)), 100L * MB);
+
+		assertEquals(2, uploadedParts.size());
+	}
+
+	@Test
+	void failedPartAbortsUpload() {
+		stubMultipart();
+		when(s3Client.uploadPart(argThat((UploadPartRequest r) -> r != null && r.partNumber() == 2), any(RequestBody.class)))
+				.thenThrow(new IllegalStateException("part 2 failed"));
+
+		assertThrows(IllegalStateException.class, () ->
+				uploader.upload("bucket", "key", "image/jpeg", new ByteArrayInputStream(bytes(3 * PART)), 100L * MB));
+
+		verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+		verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+	}
+
+	@Test
+	void exceedingSizeCapDuringMultipartAborts() {
+		stubMultipart();
+
+		assertThrows(IllegalArgumentException.class, () ->
+				uploader.upload("bucket", "key", "image/jpeg", new ByteArrayInputStream(bytes(3 * PART)), 2L * PART + 1));
+
+		verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+		verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+	}
+
+	@Test
+	void exceedingSizeCapInFirstBufferNeverCallsS3() {
+		assertThrows(IllegalArgumentException.class, () ->
+				uploader.upload("bucket", "key", "image/jpeg", new ByteArrayInputStream(bytes(2 * MB)), MB));
+		assertThrows(IllegalArgumentException.class, () ->
+				uploader.upload("bucket", "key", "image/jpeg", new ByteArrayInputStream(new byte[0]), MB));
+
+		verifyNoInteractions(s3Client);
+	}
+
+	@Test
+	void buffersAreReturnedAfterFailures() {
+		stubMultipart();
+		when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+				.thenReturn(PutObjectResponse.builder().build());
+
+		// 버퍼 2개뿐이므로 실패 경로에서 반납하지 않으면 이후 업로드가 버퍼 대기 시간 초과로 실패함
+		for (int i = 0; i < 3; i++) {
+			assertThrows(IllegalArgumentException.class, () ->
+					uploader.upload("bucket", "key", "image/jpeg", new ByteArrayInputStream(bytes(3 * PART)), PART + 1));
+			assertThrows(IllegalStateException.class, () ->
+					uploader.upload("bucket", "key", "image/jpeg", failingStream(PART + MB), 100L * MB));
+		}
+		assertEquals(MB, uploader.upload("bucket", "key", "image/jpeg", new ByteArrayInputStream(bytes(MB)), 10L * MB));
+	}
+
+	private void stubMultipart() {
+		when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+				.thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+		when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+			UploadPartRequest request = invocation.getArgument(0);
+			RequestBody body = invocation.getArgument(1);
+			try (InputStream in = body.contentStreamProvider().newStream()) {
+				uploadedParts.put(request.partNumber(), in.readAllBytes());
+			}
+			return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+		});
+	}
+
+	// n바이트를 돌려준 뒤 읽기 실패하는 스트림
+	private static InputStream failingStream(int n) {
+		return new InputStream() {
+			private int remaining = n;
+
+			@Override
+			public int read() throws IOException {
+				if (remaining-- <= 0) {
+					throw new IOException("connection reset");
+				}
+				return 7;
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException {
+				if (remaining <= 0) {
+					throw new IOException("connection reset");
+				}
+				int count = Math.min(len, remaining);
+				remaining -= count;
+				return count;
+			}
+		};
+	}
+
+	private static byte[] bytes(int length) {
+		byte[] bytes = new byte[length];
+		for (int i = 0; i < length; i++) {
+			bytes[i] = (byte) (i * 31);
+		}
+		return bytes;
+	}
+
+	private static byte[] concat(byte[]... arrays) {
+		int total = 0;
+		for (byte[] a : arrays) {
+			total += a.length;
+		}
+		byte[] out = new byte[total];
+		int pos = 0;
+		for (byte[] a : arrays) {
+			System.arraycopy(a, 0, out, pos, a.length);
+			pos += a.length;
+		}
+		return out;
+	}
+}
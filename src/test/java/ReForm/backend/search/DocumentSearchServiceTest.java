@@ -0,0 +1,57 @@
+package ReForm.backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DocumentSearchServiceTest {
+
+	record Post(Integer id, String title, String content) {
+	}
+
+	static class PostSearchService extends DocumentSearchService<Post> {
+		PostSearchService(List<Object[]> rows) {
+			super("PostSearchService",
+					Post::id,
+					p -> new String[]{p.title(), p.content()},
+					(afterId, pageable) -> rows.stream()
+							.filter(row -> (Integer) row[0] > afterId)
+							.limit(pageable.getPageSize())
+							.toList(),
+					3f, 1f);
+		}
+	}
+
+	@Test
+	void rebuildPagesThroughAllRowsByKeyset() {
+		List<Object[]> rows = new ArrayList<>();
+		for (int id = 1; id <= 501; id++) {
+			rows.add(new Object[]{id, "의자 " + id, "본문"});
+		}
+		PostSearchService service = new PostSearchService(rows);
+
+		assertEquals(501, service.rebuild());
+		assertEquals(501, service.search("의자", 0, 10).getTotalCount());
+	}
+
+	@Test
+	void indexAndRemoveUseExtractors() {
+		PostSearchService service = new PostSearchService(List.of());
+
+		service.index(new Post(1, "원목 의자", "튼튼"));
+		service.index(new Post(2, "원목 책상", "의자 없음"));
+
+		assertEquals(List.of(1, 2), ids(service.search("의자", 0, 10)));
+
+		service.remove(1);
+		assertEquals(List.of(2), ids(service.search("의자", 0, 10)));
+		assertEquals(1, service.size());
+	}
+
+	private static List<Integer> ids(InvertedIndex.SearchPage page) {
+		return page.getHits().stream().map(InvertedIndex.Hit::getId).toList();
+	}
+}
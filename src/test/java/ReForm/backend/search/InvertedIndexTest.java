@@ -0,0 +1,82 @@
+package ReForm.backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InvertedIndexTest {
+
+	// 제목 3배, 본문 1배
+	private final InvertedIndex index = new InvertedIndex(new KoreanNGramTokenizer(), 3.0f, 1.0f);
+
+	@Test
+	void allQueryWordsMustMatch() {
+		index.put(1, "원목 의자", "튼튼합니다");
+		index.put(2, "원목 책상", "의자는 없습니다");
+		index.put(3, "철제 의자", "가볍습니다");
+
+		assertEquals(List.of(2, 1), ids(index.search("원목", 0, 10)));
+		assertEquals(List.of(1, 2), ids(index.search("원목 의자", 0, 10)));
+		assertEquals(0, index.search("원목 소파", 0, 10).getTotalCount());
+	}
+
+	@Test
+	void singleSyllableMatchesAnyPositionInWord() {
+		index.put(1, "원목 의자", "");
+		index.put(2, "원목 책상", "");
+
+		// 단어 중간/끝 음절로도 검색됨
+		assertEquals(List.of(1), ids(index.search("자", 0, 10)));
+		assertEquals(List.of(2), ids(index.search("상", 0, 10)));
+	}
+
+	@Test
+	void titleMatchOutranksBodyMatch() {
+		index.put(1, "나무 의자", "");
+		index.put(2, "나무 책상", "의자 포함");
+
+		assertEquals(List.of(1, 2), ids(index.search("의자", 0, 10)));
+	}
+
+	@Test
+	void excludedWordRemovesDocument() {
+		index.put(1, "원목 의자", "");
+		index.put(2, "원목 책상", "");
+
+		assertEquals(List.of(1), ids(index.search("원목 -책상", 0, 10)));
+		assertEquals(0, index.search("-책상", 0, 10).getTotalCount());
+	}
+
+	@Test
+	void putReplacesAndRemoveDropsPostings() {
+		index.put(1, "원목 의자", "");
+		index.put(1, "철제 책상", "");
+
+		assertEquals(0, index.search("의자", 0, 10).getTotalCount());
+		assertEquals(List.of(1), ids(index.search("책상", 0, 10)));
+
+		index.remove(1);
+		assertEquals(0, index.size());
+		assertEquals(0, index.search("책상", 0, 10).getTotalCount());
+	}
+
+	@Test
+	void pagesAreSlicedAfterSorting() {
+		for (int id = 1; id <= 5; id++) {
+			index.put(id, "의자", "");
+		}
+
+		InvertedIndex.SearchPage page = index.search("의자", 1, 2);
+
+		assertEquals(5, page.getTotalCount());
+		assertEquals(List.of(3, 2), ids(page));
+		assertTrue(index.search("의자", 3, 2).getHits().isEmpty());
+	}
+
+	private static List<Integer> ids(InvertedIndex.SearchPage page) {
+		return page.getHits().stream().map(InvertedIndex.Hit::getId).toList();
+	}
+}
@@ -0,0 +1,44 @@
+package ReForm.backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KoreanNGramTokenizerTest {
+
+	private final KoreanNGramTokenizer tokenizer = new KoreanNGramTokenizer();
+
+	@Test
+	void documentHangulRunBecomesSyllablesAndBigrams() {
+		assertEquals(List.of("나", "나무", "무", "무의", "의", "의자", "자"), tokenizer.tokenize("나무의자"));
+	}
+
+	@Test
+	void latinAndDigitRunsAreLowercasedWords() {
+		assertEquals(List.of("ikea", "의", "의자", "자", "2", "개"), tokenizer.tokenize("IKEA 의자 2개"));
+	}
+
+	@Test
+	void queryUsesBigramsOnlyExceptSingleSyllable() {
+		assertEquals(List.of("의자", "자를"), tokenizer.tokenizeQuery("의자를"));
+		assertEquals(List.of("책"), tokenizer.tokenizeQuery("책"));
+	}
+
+	@Test
+	void decomposedAndFullWidthInputMatchesComposed() {
+		String decomposed = Normalizer.normalize("의자", Normalizer.Form.NFD);
+
+		assertEquals(tokenizer.tokenize("의자"), tokenizer.tokenize(decomposed));
+		assertEquals(List.of("abc"), tokenizer.tokenize("ＡＢＣ"));
+	}
+
+	@Test
+	void blankInputHasNoTokens() {
+		assertTrue(tokenizer.tokenize(null).isEmpty());
+		assertTrue(tokenizer.tokenize(" !? ").isEmpty());
+	}
+}
@@ -0,0 +1,68 @@
+package ReForm.backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LiveSearchIndexTest {
+
+	private final LiveSearchIndex index = new LiveSearchIndex(
+			() -> new InvertedIndex(new KoreanNGramTokenizer(), 1.0f));
+
+	@Test
+	void removalDuringRebuildWinsOverStaleLoaderCopy() {
+		index.put(1, "나무 의자");
+
+		index.rebuild(next -> {
+			// loader가 DB에서 읽은 직후 게시글이 삭제되고, 그 뒤에 오래된 사본을 넣는 상황
+			index.remove(1);
+			next.put(1, "나무 의자");
+		});
+
+		assertEquals(0, index.search("의자", 0, 10).getTotalCount());
+		assertEquals(0, index.size());
+	}
+
+	@Test
+	void updateDuringRebuildWinsOverStaleLoaderCopy() {
+		index.put(2, "나무 의자");
+
+		index.rebuild(next -> {
+			index.put(2, "철제 책상");
+			next.put(2, "나무 의자");
+		});
+
+		assertEquals(0, index.search("의자", 0, 10).getTotalCount());
+		assertEquals(List.of(2), ids(index.search("책상", 0, 10)));
+	}
+
+	@Test
+	void writesDuringRebuildAreVisibleBeforeSwap() {
+		index.rebuild(next -> {
+			index.put(3, "원목 선반");
+			assertEquals(List.of(3), ids(index.search("선반", 0, 10)));
+			next.put(4, "원목 식탁");
+		});
+
+		assertEquals(List.of(4, 3), ids(index.search("원목", 0, 10)));
+	}
+
+	@Test
+	void failedRebuildKeepsActiveIndex() {
+		index.put(5, "원목 선반");
+
+		assertThrows(IllegalStateException.class, () -> index.rebuild(next -> {
+			next.put(6, "철제 선반");
+			throw new IllegalStateException("db down");
+		}));
+
+		assertEquals(List.of(5), ids(index.search("선반", 0, 10)));
+	}
+
+	private static List<Integer> ids(InvertedIndex.SearchPage page) {
+		return page.getHits().stream().map(InvertedIndex.Hit::getId).toList();
+	}
+}
@@ -0,0 +1,141 @@
+package ReForm.backend.search;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 한국어 n-gram 색인/검색 벤치마크
+ * - 실행: ./gradlew benchmark [-Dbenchmark.search.docs=50000] (일반 test 태스크에서는 제외)
+ * - 토큰화 처리량, 색인 구축 시간, 질의당 지연을 측정합니다.
+ * - 비교 기준(before)은 색인 이전 방식과 같은 전체 문서 부분 문자열 검사(LIKE '%단어%')입니다. DB 왕복은 포함하지 않습니다.
+ * - 문서는 고정 시드로 생성하며, 단어의 5%는 아래 가구 어휘, 나머지는 임의 음절로 만든 어휘 5,000개에서 뽑습니다.
+ */
+@Tag("benchmark")
+class SearchIndexBenchmark {
+
+	private static final String[] WORDS = {
+			"원목", "의자", "책상", "수납장", "리폼", "빈티지", "나무", "철제", "소파", "침대",
+			"협탁", "서랍", "선반", "거울", "조명", "페인트", "업사이클", "가구", "테이블", "스툴",
+			"깔끔한", "튼튼합니다", "무료나눔", "직거래", "상태좋음", "이사", "정리", "급처", "새것", "중고"
+	};
+	private static final String[] QUERIES = {"의자", "원목 책상", "자", "업사이클 가구 -철제", "빈티지 조명", "수납"};
+	private static final int QUERY_ROUNDS = 200;
+
+	@Test
+	void tokenizeIndexAndSearch() {
+		int docs = Integer.getInteger("benchmark.search.docs", 50_000);
+		List<String[]> corpus = corpus(docs, new Random(42));
+		KoreanNGramTokenizer tokenizer = new KoreanNGramTokenizer();
+
+		// 토큰화 처리량 (워밍업 1회)
+		tokenizeAll(tokenizer, corpus);
+		long started = System.nanoTime();
+		long tokens = tokenizeAll(tokenizer, corpus);
+		double tokenizeMs = (System.nanoTime() - started) / 1e6;
+		System.out.printf("[benchmark] tokenize: %d docs, %d tokens, %.1f ms (%.0f docs/s)%n",
+				docs, tokens, tokenizeMs, docs / (tokenizeMs / 1000));
+
+		// 색인 구축
+		InvertedIndex index = new InvertedIndex(tokenizer, 3.0f, 1.0f);
+		started = System.nanoTime();
+		for (int id = 0; id < corpus.size(); id++) {
+			index.put(id, corpus.get(id)[0], corpus.get(id)[1]);
+		}
+		System.out.printf("[benchmark] build: %.1f ms%n", (System.nanoTime() - started) / 1e6);
+
+		for (String query : QUERIES) {
+			index.search(query, 0, 20);
+			started = System.nanoTime();
+			int matched = 0;
+			for (int round = 0; round < QUERY_ROUNDS; round++) {
+				matched = index.search(query, 0, 20).getTotalCount();
+			}
+			double indexUs = (System.nanoTime() - started) / 1e3 / QUERY_ROUNDS;
+
+			scan(corpus, query);
+			int scanRounds = Math.max(1, QUERY_ROUNDS / 10);
+			started = System.nanoTime();
+			int scanned = 0;
+			for (int round = 0; round < scanRounds; round++) {
+				scanned = scan(corpus, query);
+			}
+			double scanUs = (System.nanoTime() - started) / 1e3 / scanRounds;
+
+			System.out.printf("[benchmark] %-20s index %9.1f us/query (%d hits) | scan %10.1f us/query (%d hits)%n",
+					"\"" + query + "\"", indexUs, matched, scanUs, scanned);
+		}
+	}
+
+	private static long tokenizeAll(KoreanNGramTokenizer tokenizer, List<String[]> corpus) {
+		long tokens = 0;
+		for (String[] doc : corpus) {
+			tokens += tokenizer.tokenize(doc[0]).size() + tokenizer.tokenize(doc[1]).size();
+		}
+		return tokens;
+	}
+
+	// 색인 이전 방식: 모든 문서의 제목/본문에 각 단어가 포함되는지 검사 (제외 단어 포함 시 탈락)
+	private static int scan(List<String[]> corpus, String query) {
+		List<String> required = new ArrayList<>();
+		List<String> excluded = new ArrayList<>();
+		for (String word : query.split("\\s+")) {
+			if (word.startsWith("-")) {
+				excluded.add(word.substring(1));
+			} else {
+				required.add(word);
+			}
+		}
+		int matched = 0;
+		for (String[] doc : corpus) {
+			String text = doc[0] + " " + doc[1];
+			boolean hit = true;
+			for (String word : required) {
+				if (!text.contains(word)) {
+					hit = false;
+					break;
+				}
+			}
+			for (String word : excluded) {
+				if (hit && text.contains(word)) {
+					hit = false;
+				}
+			}
+			if (hit) {
+				matched++;
+			}
+		}
+		return matched;
+	}
+
+	// 제목 3단어, 본문 20단어
+	private static List<String[]> corpus(int docs, Random random) {
+		String[] vocabulary = new String[5_000];
+		for (int i = 0; i < vocabulary.length; i++) {
+			StringBuilder word = new StringBuilder();
+			for (int syllables = 2 + random.nextInt(2); syllables > 0; syllables--) {
+				word.append((char) ('가' + random.nextInt('힣' - '가' + 1)));
+			}
+			vocabulary[i] = word.toString();
+		}
+		List<String[]> corpus = new ArrayList<>(docs);
+		for (int i = 0; i < docs; i++) {
+			corpus.add(new String[] {sentence(random, vocabulary, 3), sentence(random, vocabulary, 20)});
+		}
+		return corpus;
+	}
+
+	private static String sentence(Random random, String[] vocabulary, int words) {
+		StringBuilder sb = new StringBuilder();
+		for (int w = 0; w < words; w++) {
+			if (w > 0) {
+				sb.append(' ');
+			}
+			sb.append(random.nextInt(20) == 0 ? WORDS[random.nextInt(WORDS.length)] : vocabulary[random.nextInt(vocabulary.length)]);
+		}
+		return sb.toString();
+	}
+}
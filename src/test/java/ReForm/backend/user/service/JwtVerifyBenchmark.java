@@ -0,0 +1,80 @@
+package ReForm.backend.user.service;
+
+import ReForm.backend.user.repository.UserRepository;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.management.ManagementFactory;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * 요청당 AccessToken 검증 비용 벤치마크 (before/after)
+ * - 실행: ./gradlew benchmark [-Dbenchmark.jwt.requests=200000] (일반 test 태스크에서는 제외)
+ * - before: 호출마다 Algorithm/JWTVerifier를 새로 만들고, 한 요청에서 같은 토큰을 세 번 검증 (필터 isTokenValid, extractUserId, extractEmail)
+ * - after: 기동 시 만든 verifier로 요청당 한 번 검증하고, 같은 요청의 나머지 두 번은 request attribute의 클레임을 재사용
+ * - 요청당 시간과 할당 바이트(현재 스레드 기준)를 출력합니다.
+ */
+@Tag("benchmark")
+class JwtVerifyBenchmark {
+
+	private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret-benchmark-secret";
+	private static final String HEADER = "Authorization";
+	private static final int LOOKUPS_PER_REQUEST = 3;
+
+	@Test
+	void verifyPerRequest() {
+		int requests = Integer.getInteger("benchmark.jwt.requests", 200_000);
+		JwtService jwtService = new JwtService(mock(UserRepository.class));
+		ReflectionTestUtils.setField(jwtService, "secret", SECRET);
+		ReflectionTestUtils.setField(jwtService, "accessExpiration", 3_600_000L);
+		ReflectionTestUtils.setField(jwtService, "accessHeader", HEADER);
+		jwtService.init();
+		String token = jwtService.createAccessTokenByUserId("benchmark-user");
+
+		// 워밍업
+		before(token, requests / 10);
+		after(jwtService, token, requests / 10);
+
+		report("before", requests, () -> before(token, requests));
+		report("after", requests, () -> after(jwtService, token, requests));
+	}
+
+	// 변경 전: 검증할 때마다 HMAC512 알고리즘과 verifier를 생성하고, 요청 안에서 세 번 검증
+	private static void before(String token, int requests) {
+		for (int i = 0; i < requests; i++) {
+			for (int lookup = 0; lookup < LOOKUPS_PER_REQUEST; lookup++) {
+				JWT.require(Algorithm.HMAC512(SECRET)).build().verify(token);
+			}
+		}
+	}
+
+	// 변경 후: 필터/컨트롤러/인터셉터가 같은 요청에서 resolveAccessTokenClaims를 호출
+	private static void after(JwtService jwtService, String token, int requests) {
+		for (int i = 0; i < requests; i++) {
+			MockHttpServletRequest request = new MockHttpServletRequest();
+			request.addHeader(HEADER, "Bearer " + token);
+			for (int lookup = 0; lookup < LOOKUPS_PER_REQUEST; lookup++) {
+				if (jwtService.resolveAccessTokenClaims(request).isEmpty()) {
+					throw new IllegalStateException("token rejected");
+				}
+			}
+		}
+	}
+
+	private static void report(String label, int requests, Runnable run) {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().threadId();
+		long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+		long started = System.nanoTime();
+		run.run();
+		long elapsed = System.nanoTime() - started;
+		long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+		System.out.printf("[benchmark] %-6s %8.2f us/request, %9.0f requests/s, %7d bytes/request%n",
+				label, elapsed / 1e3 / requests, requests / (elapsed / 1e9), allocated / requests);
+	}
+}